@@ -58,6 +58,7 @@ if not isGenerate:
     makePathIfNotExists(resultsDir)
     resultsFileName = resultsDir + (args.csvFile if args.csvFile else 'results.csv')
     resultsFileName += resultsExt if not resultsFileName.endswith(resultsExt) else ''
+    ruleResultsFileName = resultsFileName[:-len(resultsExt)]+'_rules'+resultsExt
     texFileName = defaultPath(args.texFile, resultsDir+'results.tex')[:-1] if args.texFile else None
 
 java8 = args.java8
@@ -80,6 +81,8 @@ resultsFile = open(resultsFileName, 'w') if not isGenerate else None
 writer = csv.writer(resultsFile, lineterminator='\n') if not isGenerate else None
 rows = []
 columns = ['MODULE', 'THREADS', 'SCRIPT', 'MODEL', 'EXEC_TIME', 'EXEC_TIME_STDEV', 'SPEEDUP', 'EFFICIENCY', 'EXEC_MEMORY', 'EXEC_MEMORY_STDEV', 'MODEL_TIME', 'MODEL_TIME_STDEV', 'MODEL_MEMORY', 'MODEL_MEMORY_STDEV']
+ruleRows = []
+ruleColumns = ['MODULE', 'THREADS', 'SCRIPT', 'MODEL', 'RULE', 'INVOCATIONS', 'SKIPPED', 'EVAL_TIME', 'EVAL_TIME_STDEV', 'WRITE_TIME', 'WRITE_TIME_STDEV', 'BLOCKS_TIME', 'BLOCKS_TIME_STDEV', 'BYTES', 'EVAL_P50_US', 'EVAL_P99_US']
 
 # TODO: Set these according to the environment
 sgeDirectives = '''export MALLOC_ARENA_MAX='''+str(round(logicalCores/4))+'''
@@ -318,6 +321,8 @@ imdbSequentialEOLFOOPScripts = ['imdb_filter']
 imdbParallelEOLFOOPScripts = ['imdb_parallelFilter']
 imdbOCLFOOPScripts = ['imdb_select']
 imdbJavaFOOPScripts = ['imdb_select', 'imdb_count', 'imdb_atLeastN', 'imdb_selectOne']
+dblpJavaFOOPScripts = ['dblp_mapBy', 'dblp_atMostN']
+javaJavaFOOPScripts = ['java_collect']
 eolModule = 'EolModule'
 oclQueryOpt = '-query'
 javaJar = 'JavaQuery'
@@ -325,6 +330,11 @@ javaModule = javaJar
 javaModuleParallel = javaModule+'Parallel'
 standardJavaModulesAndArgs = [[javaModule]]
 parallelJavaModulesAndArgs = [[javaModuleParallel, '-parallel']]
+javaBackends = ['forkjoin', 'threadpool']
+for backend in javaBackends:
+    for numThread in threads:
+        threadStr = str(numThread)
+        parallelJavaModulesAndArgs.append([javaModuleParallel+backend.capitalize()+threadStr, '-parallel -backend '+backend+' '+parallelismOpt+threadStr])
 eolModuleParallel = eolModule+'Parallel'
 eolModulesDefault = [eolModule] + [eolModuleParallel+str(numThread) for numThread in threads[1:]]
 queryModulesDefault = [oclModules[0], eolModulesDefault[0], eolModulesDefault[-1]]
@@ -338,9 +348,10 @@ programs.append(['EOL', epsilonJar, '', [(dblpMM, [s+'.eol' for s in dblpEOLFOOP
 programs.append(['EOL', epsilonJar, '', [(imdbMM, [s+'.eol' for s in imdbEOLFOOPScripts], imdbModels)], eolModulesAndArgs])
 programs.append(['EOL', epsilonJar, '', [(imdbMM, [s+'.eol' for s in imdbSequentialEOLFOOPScripts], imdbModels)], eolModulesAndArgs[0:1]])
 programs.append(['EOL', epsilonJar, '', [(imdbMM, [s+'.eol' for s in imdbParallelEOLFOOPScripts], imdbModels)], eolModulesAndArgs[1:]])
-for p in imdbJavaFOOPScripts:
-    programs.append([javaModule, javaJar, '', [(imdbMM, [p+'.eol'], imdbModels)], standardJavaModulesAndArgs])
-    programs.append([javaModuleParallel, javaJar, '', [(imdbMM, [p+'.eol'], imdbModels)], parallelJavaModulesAndArgs])
+for mm, foopScripts, models in [(imdbMM, imdbJavaFOOPScripts, imdbModels), (dblpMM, dblpJavaFOOPScripts, dblpModels), (javaMM, javaJavaFOOPScripts, javaModels)]:
+    for p in foopScripts:
+        programs.append([javaModule, javaJar, '', [(mm, [p+'.eol'], models)], standardJavaModulesAndArgs])
+        programs.append([javaModuleParallel, javaJar, '', [(mm, [p+'.eol'], models)], parallelJavaModulesAndArgs])
 for p in imdbOCLFOOPScripts:
     programs.append(['OCL', 'OCL', '', [(imdbMM, [p+'.ocl'], imdbModels)], [[oclModules[0], oclQueryOpt]]])
     programs.append(['OCL_'+p, 'OCL_'+p, '', [(imdbMM, [p+'.ocl'], imdbModels)], [[oclModules[1], oclQueryOpt]]])
@@ -352,18 +363,30 @@ if args.tfDir:
     egxAdditionalArgs = '-deleteBeforeGen -factoryRoot "'+args.tfDir+'" '+egxAdditionalArgs
 egxNoPersist = '-nopersist '
 egxNoPersistName = 'NoOutput'
+egxAsync = '-outputMode async '
+egxAsyncName = 'AsyncOutput'
+egxPack = '-outputMode pack '
+egxPackName = 'PackOutput'
+egxStream = '-outputMode stream '
+egxStreamName = 'StreamOutput'
+egxTemplateCache = '-templateCache '
+egxTemplateCacheName = 'TemplateCache'
 egxModule = 'EgxModule'
 egxParallelModules = ['EgxModuleParallelGenerationRuleAtoms', 'EgxModuleParallelAnnotation']
 egxModules = [egxModule]+egxParallelModules
 egxModulesDefault = [egxModule, egxParallelModules[0]+maxCoresStr]
 imdbEGXScripts = ['imdb2files']
-egxModulesAndArgs = [[egxModule, egxAdditionalArgs+egxModule], [egxModule+egxNoPersistName, egxNoPersist+egxAdditionalArgs+egxModule]]
+egxModulesAndArgs = [[egxModule, egxAdditionalArgs+egxModule], [egxModule+egxNoPersistName, egxNoPersist+egxAdditionalArgs+egxModule], [egxModule+egxAsyncName, egxAsync+egxAdditionalArgs+egxModule], [egxModule+egxPackName, egxPack+egxAdditionalArgs+egxModule], [egxModule+egxStreamName, egxStream+egxAdditionalArgs+egxModule], [egxModule+egxTemplateCacheName, egxTemplateCache+egxAdditionalArgs+egxModule]]
 for numThread in threads+[maxCores*2, maxCores*4, maxCores*8]:
     threadStr = str(numThread)
     for module in egxParallelModules:
         pkg = 'concurrent.'
         egxModulesAndArgs.append([module+threadStr, egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
         egxModulesAndArgs.append([module+egxNoPersistName+threadStr, egxNoPersist+egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
+        egxModulesAndArgs.append([module+egxAsyncName+threadStr, egxAsync+egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
+        egxModulesAndArgs.append([module+egxPackName+threadStr, egxPack+egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
+        egxModulesAndArgs.append([module+egxStreamName+threadStr, egxStream+egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
+        egxModulesAndArgs.append([module+egxTemplateCacheName+threadStr, egxTemplateCache+egxAdditionalArgs+pkg+module+' '+parallelismOpt+threadStr])
 programs.append(['EGX', epsilonJar, egxMain, [(imdbMM, [s+'.egx' for s in imdbEGXScripts], imdbModels)], egxModulesAndArgs])
 
 # Generate scenarios
@@ -586,6 +609,23 @@ else:
         memoryStats = compute_descriptive_stats(memories)
         return (timeStats, memoryStats)
 
+    # Per-rule metrics printed by EGX with -profile, one line per rule for each repeat
+    def compute_rule_stats(rawStr):
+        metricsByRule = {}
+        for line in re.findall(r'(?m)^RULE_METRICS,(.*)$', rawStr):
+            fields = line.strip().split(',')
+            if fields[0] == 'rule' or len(fields) < 13:
+                continue
+            metricsByRule.setdefault(fields[0], []).append([int(f) for f in fields[1:]])
+        ruleStats = []
+        for rule, runs in sorted(metricsByRule.items()):
+            column = lambda i: [run[i] for run in runs]
+            ruleStats.append([rule, compute_descriptive_stats(column(0))[0], compute_descriptive_stats(column(1))[0]]+
+                list(compute_descriptive_stats(column(2)))+list(compute_descriptive_stats(column(3)))+
+                list(compute_descriptive_stats(column(4)))+[compute_descriptive_stats(column(5))[0],
+                compute_descriptive_stats(column(6))[0], compute_descriptive_stats(column(8))[0]])
+        return ruleStats
+
     # First pass - transformation from multiple text files into CSV
     # Also computes mean and standard deviation from duplicates
     for dirpath, dirnames, filenames in os.walk(inDir):
@@ -618,6 +658,9 @@ else:
             with open(os.path.join(dirpath, filename), 'r') as inFile:
                 raw = inFile.read()
             
+            for ruleStats in compute_rule_stats(raw):
+                ruleRows.append(row[:4]+ruleStats)
+
             execStats = compute_stats('execute', re, raw)
             modelStats = compute_stats('Loading model*', re, raw)
             row.extend(execStats[0])
@@ -666,6 +709,12 @@ else:
 
     resultsFile.close()
 
+    if ruleRows:
+        with open(ruleResultsFileName, 'w') as ruleResultsFile:
+            ruleWriter = csv.writer(ruleResultsFile, lineterminator='\n')
+            ruleWriter.writerow(ruleColumns)
+            ruleWriter.writerows(ruleRows)
+
     if texFileName:
         # Third pass - write results to LaTeX file
         # see https://www.sharelatex.com/learn/Tables
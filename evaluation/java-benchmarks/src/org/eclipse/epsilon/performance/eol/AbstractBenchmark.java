@@ -11,12 +11,30 @@ package org.eclipse.epsilon.performance.eol;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.cli.Option;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.epsilon.common.util.FileUtil;
+import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.EolModule;
 import org.eclipse.epsilon.eol.IEolModule;
 import org.eclipse.epsilon.eol.cli.EolConfigParser;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelElementTypeNotFoundException;
 import org.eclipse.epsilon.eol.execute.introspection.IPropertyGetter;
+import org.eclipse.epsilon.eol.execute.operations.contributors.IterableOperationContributor;
 import org.eclipse.epsilon.eol.launch.EolRunConfiguration;
 import org.eclipse.epsilon.eol.models.IModel;
 
@@ -27,6 +45,18 @@ public abstract class AbstractBenchmark extends EolRunConfiguration {
 		extensibleMain(new Builder(AbstractBenchmark.class), args);
 	}
 	
+	/**
+	 * Creates a benchmark from command-line arguments without running it.
+	 * 
+	 * @param args The same arguments as {@link #main(String...)}.
+	 * @return The benchmark for the script named in the arguments.
+	 * @throws Exception
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static AbstractBenchmark fromArgs(String... args) throws Exception {
+		return (AbstractBenchmark) new BenchmarkConfigParser<>(new Builder(AbstractBenchmark.class)).apply(args);
+	}
+	
 	protected static <C extends AbstractBenchmark, B extends Builder<C, B>> void extensibleMain(B builder, String... args) throws Exception {
 		new BenchmarkConfigParser<>(builder).apply(args).run();
 	}
@@ -36,14 +66,54 @@ public abstract class AbstractBenchmark extends EolRunConfiguration {
 			super(runConfigClass);
 		}
 
-		boolean parallel = false;
+		boolean parallel = false, extentCache = true, reflective = false, uniformSplit = false;
+		/**
+		 * The {@link ExecutionBackend} name and number of threads, used with <code>-parallel</code>.
+		 */
+		String backend = ExecutionBackend.COMMON;
+		int threads = 0;
+		/**
+		 * The registered name of the benchmark to build. If <code>null</code>, the script's file name is used.
+		 */
+		String benchmarkName;
+		/**
+		 * Values of the options contributed by {@link BenchmarkProvider#getOptions()}.
+		 * Flags which were given have the value <code>true</code>.
+		 */
+		final Map<String, String> benchmarkOptions = new HashMap<>();
+		
+		/**
+		 * 
+		 * @param name An option contributed by a {@link BenchmarkProvider}.
+		 * @return Whether the option was given.
+		 */
+		public boolean hasOption(String name) {
+			return benchmarkOptions.containsKey(name);
+		}
+		
+		/**
+		 * 
+		 * @param name An option contributed by a {@link BenchmarkProvider}.
+		 * @param defaultValue The value if the option wasn't given.
+		 * @return The value of the option.
+		 */
+		public String getOption(String name, String defaultValue) {
+			return benchmarkOptions.getOrDefault(name, defaultValue);
+		}
 		
 		@SuppressWarnings("unchecked")
 		@Override
 		public C build() {
+			if (module == null) module = createModule();
+			String scriptName = benchmarkName != null ? benchmarkName :
+				FileUtil.getFileName(script.getFileName().toString(), false);
+			
+			Function<Builder<?, ?>, ? extends AbstractBenchmark> factory = BenchmarkRegistry.getBenchmarks().get(scriptName);
+			if (factory != null) {
+				return (C) factory.apply(this);
+			}
+			// Not registered, so fall back to the naming convention
 			try {
-				if (module == null) module = createModule();
-				String scriptName = FileUtil.getFileName(script.getFileName().toString(), false);
 				String className = AbstractBenchmark.class.getPackage().getName()+"."+scriptName.split("_")[0]+"."+scriptName;
 				return (C) Class.forName(className).getDeclaredConstructors()[0].newInstance(this);
 			}
@@ -69,21 +139,62 @@ public abstract class AbstractBenchmark extends EolRunConfiguration {
 	}
 	
 	protected static class BenchmarkConfigParser<C extends AbstractBenchmark, B extends Builder<C, B>> extends EolConfigParser<C, B> {
+		/**
+		 * The options contributed by the {@link BenchmarkRegistry#getProviders()}.
+		 */
+		protected final List<Option> providerOptions = new ArrayList<>();
+		
 		public BenchmarkConfigParser(B builder) {
 			super(builder);
 			options.addOption("parallel", false, "Whether to parallelise");
+			options.addOption("noExtentCache", false, "Copies the extent on every call to getAllOfKind, as the EOL engine does");
+			options.addOption("reflective", false, "Navigates EMF models through the property getter instead of cached accessors");
+			options.addOption("uniformSplit", false, "Splits parallel streams by number of elements rather than by estimated cost");
+			options.addOption("backend", true, "Which threads run the parallel query: common, forkjoin, threadpool or virtual");
+			if (!options.hasOption("parallelism")) {
+				options.addOption("parallelism", true, "Number of threads for the parallel query");
+			}
+			for (BenchmarkProvider provider : BenchmarkRegistry.getProviders()) {
+				for (Option option : provider.getOptions()) {
+					// Several providers may contribute the same option
+					if (!options.hasOption(option.getOpt())) {
+						options.addOption(option);
+						providerOptions.add(option);
+					}
+				}
+			}
 		}
 
 		@Override
 		protected void parseArgs(String[] args) throws Exception {
 			super.parseArgs(args);
 			builder.parallel = cmdLine.hasOption("parallel");
+			builder.extentCache = !cmdLine.hasOption("noExtentCache");
+			builder.reflective = cmdLine.hasOption("reflective");
+			builder.uniformSplit = cmdLine.hasOption("uniformSplit");
+			if (cmdLine.hasOption("parallelism")) {
+				builder.threads = Integer.parseInt(cmdLine.getOptionValue("parallelism"));
+			}
+			// A number of threads on its own means a dedicated pool rather than the common one
+			builder.backend = cmdLine.getOptionValue("backend",
+				builder.threads > 0 ? ExecutionBackend.FORKJOIN : ExecutionBackend.COMMON
+			);
+			for (Option option : providerOptions) {
+				String name = option.getOpt();
+				if (cmdLine.hasOption(name)) {
+					builder.benchmarkOptions.put(name, option.hasArg() ? cmdLine.getOptionValue(name) : "true");
+				}
+			}
 		}
 	}
 	
 	protected AbstractBenchmark(Builder<?, ?> builder) {
 		super(builder);
 		this.parallel = builder.parallel;
+		this.extentCache = builder.extentCache;
+		this.uniformSplit = builder.uniformSplit;
+		this.accessors = builder.reflective ? null : new EmfFeatureAccessors();
+		this.backend = parallel ? ExecutionBackend.create(builder.backend, builder.threads) : null;
 		this.propertyGetter =
 			(model = modelsAndProperties.keySet().iterator().next())
 			.getPropertyGetter();
@@ -91,11 +202,209 @@ public abstract class AbstractBenchmark extends EolRunConfiguration {
 	
 	protected final IModel model;
 	protected final IPropertyGetter propertyGetter;
-	protected final boolean parallel;
+	/**
+	 * Resolved EMF features, or <code>null</code> if running with <code>-reflective</code>.
+	 */
+	protected final EmfFeatureAccessors accessors;
+	protected final boolean parallel, extentCache, uniformSplit;
+	/**
+	 * Runs the parallel queries, or <code>null</code> if not running with <code>-parallel</code>.
+	 */
+	protected final ExecutionBackend backend;
+	/**
+	 * Snapshots of <code>getAllOfKind</code> for the current execution of the query.
+	 */
+	protected final Map<String, List<?>> extents = new ConcurrentHashMap<>(4);
+	/**
+	 * Cost-weighted snapshots of the extents which are split by cost, computed in {@link #prepare()}.
+	 */
+	protected final Map<String, WeightedSpliterator<Object>> weightedExtents = new ConcurrentHashMap<>(2);
+	
+	/**
+	 * The benchmarked computation, without any profiling.
+	 * 
+	 * @return The result of the query.
+	 * @throws EolRuntimeException
+	 */
+	public abstract Object query() throws EolRuntimeException;
+	
+	/**
+	 * Executes the query once, starting with empty {@link #extents}.
+	 * 
+	 * @return The result of the query.
+	 * @throws EolRuntimeException
+	 */
+	public Object executeQuery() throws EolRuntimeException {
+		extents.clear();
+		return query();
+	}
+	
+	@Override
+	protected Object execute() throws EolRuntimeException {
+		return BenchmarkUtils.profileExecutionStage(profiledStages, "execute()", () -> executeQuery());
+	}
+	
+	/**
+	 * Navigates a property of a model element. For EMF elements, this uses the cached
+	 * {@link #accessors} unless running with <code>-reflective</code>, in which case
+	 * it is the same as calling the model's {@link #propertyGetter}.
+	 * 
+	 * @param object The model element.
+	 * @param property The name of the property.
+	 * @return The value of the property.
+	 * @throws EolRuntimeException If the property can't be accessed.
+	 */
+	protected Object get(Object object, String property) throws EolRuntimeException {
+		if (accessors != null && object instanceof EObject) {
+			return accessors.get((EObject) object, property);
+		}
+		return propertyGetter.invoke(object, property);
+	}
+	
+	/**
+	 * All instances of the given type, as a sequence. By default, the extent is only copied
+	 * on the first call in each execution and the same (unmodifiable) list is returned afterwards.
+	 * With <code>-noExtentCache</code>, a new copy is made on each call instead.
+	 * 
+	 * @param kind The type name.
+	 * @return All instances of the type, including subtypes.
+	 * @throws EolModelElementTypeNotFoundException
+	 */
+	protected List<?> getExtent(String kind) throws EolModelElementTypeNotFoundException {
+		if (!extentCache) {
+			return copyExtent(kind);
+		}
+		List<?> extent = extents.get(kind);
+		if (extent == null) {
+			List<?> copy = Collections.unmodifiableList(copyExtent(kind));
+			extent = extents.putIfAbsent(kind, copy);
+			if (extent == null) {
+				extent = copy;
+			}
+		}
+		return extent;
+	}
+	
+	/**
+	 * Streams all instances of the given type, in parallel if running with <code>-parallel</code>.
+	 * If the extent was weighed in {@link #prepare()} (see {@link #weighExtent(String, ToLongFunction)}),
+	 * parallel streams are split by the estimated cost of each element, so that a handful of
+	 * expensive elements don't leave one thread working on its own at the end.
+	 * Otherwise, the extent's own spliterator is used.
+	 * 
+	 * @param kind The type name.
+	 * @return The elements as a stream.
+	 * @throws EolModelElementTypeNotFoundException
+	 */
+	protected Stream<Object> streamAllOfKind(String kind) throws EolModelElementTypeNotFoundException {
+		return StreamSupport.stream(spliterateAllOfKind(kind), parallel);
+	}
+	
+	/**
+	 * Evaluates a computation on all instances of the given type, on the {@link #backend} if running
+	 * with <code>-parallel</code>. The function may be applied once to a stream of all of the
+	 * instances, or to several streams of disjoint chunks, in which case the results are combined.
+	 * 
+	 * @param kind The type name.
+	 * @param function The computation on (some of) the elements.
+	 * @param combiner Combines the results of two chunks, in encounter order.
+	 * @return The result.
+	 * @throws EolModelElementTypeNotFoundException
+	 * @see ExecutionBackend#evaluate(Spliterator, Function, BinaryOperator)
+	 */
+	protected <R> R evaluateAllOfKind(String kind, Function<Stream<Object>, R> function, BinaryOperator<R> combiner) throws EolModelElementTypeNotFoundException {
+		Spliterator<Object> source = spliterateAllOfKind(kind);
+		if (backend == null) {
+			return function.apply(StreamSupport.stream(source, false));
+		}
+		return backend.evaluate(source, function, combiner);
+	}
+	
+	/**
+	 * The spliterator used by {@link #streamAllOfKind(String)}.
+	 * 
+	 * @param kind The type name.
+	 * @return A spliterator over all instances of the type.
+	 * @throws EolModelElementTypeNotFoundException
+	 */
+	@SuppressWarnings("unchecked")
+	protected Spliterator<Object> spliterateAllOfKind(String kind) throws EolModelElementTypeNotFoundException {
+		WeightedSpliterator<Object> weighted = weightedExtents.get(kind);
+		if (weighted != null) {
+			return weighted.copy();
+		}
+		return ((Collection<Object>) model.getAllOfKind(kind)).spliterator();
+	}
+	
+	/**
+	 * Computes the estimated cost of each instance of the given type on the {@link #backend},
+	 * so that parallel queries split the extent by cost rather than by number of elements.
+	 * This should be called from {@link #prepare()}, and only for queries which visit every
+	 * element: for those which stop early, weighing all of the elements costs more than it saves.
+	 * Does nothing unless running with <code>-parallel</code>, or if running with <code>-uniformSplit</code>.
+	 * 
+	 * @param kind The type name.
+	 * @param cost The estimated cost of evaluating the query on an element.
+	 * @throws Exception
+	 */
+	protected void weighExtent(String kind, ToLongFunction<Object> cost) throws Exception {
+		if (!parallel || uniformSplit) return;
+		@SuppressWarnings("unchecked")
+		Collection<Object> all = (Collection<Object>) model.getAllOfKind(kind);
+		weightedExtents.put(kind, BenchmarkUtils.profileExecutionStage(profiledStages, "Weigh "+kind,
+			() -> WeightedSpliterator.of(all, cost, backend)
+		));
+	}
+	
+	private List<?> copyExtent(String kind) throws EolModelElementTypeNotFoundException {
+		Collection<?> all = model.getAllOfKind(kind);
+		return new IterableOperationContributor(all).asSequence();
+	}
+	
+	@Override
+	protected void preExecute() throws Exception {
+		super.preExecute();
+		prepare();
+	}
+	
+	/**
+	 * Called after the models have been loaded, to initialise any data structures
+	 * which the query depends on. When benchmarks share a model (see {@link BenchmarkSuite}),
+	 * this is called for each benchmark but the models are only loaded once.
+	 * 
+	 * @throws Exception
+	 */
+	protected void prepare() throws Exception {
+		// Nothing to prepare by default
+	}
+	
+	/**
+	 * Loads the models, so that {@link #executeQuery()} can be called
+	 * repeatedly without going through {@link #run()}.
+	 * 
+	 * @throws Exception
+	 */
+	public void setUp() throws Exception {
+		preExecute();
+	}
+	
+	public void tearDown() {
+		closeBackend();
+		model.dispose();
+	}
+	
+	protected void closeBackend() {
+		if (backend != null) {
+			backend.close();
+		}
+	}
 	
 	@Override
 	protected void postExecute() throws Exception {
 		profiledStages.removeIf(pd -> "Parsing script".equals(pd.stageName));
 		super.postExecute();
+		if (isLastRepeat()) {
+			closeBackend();
+		}
 	}
 }
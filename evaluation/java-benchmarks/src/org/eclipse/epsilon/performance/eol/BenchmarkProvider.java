@@ -0,0 +1,45 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.commons.cli.Option;
+
+/**
+ * Service interface for contributing benchmarks to the {@link BenchmarkRegistry}.
+ * Implementations are discovered with {@link java.util.ServiceLoader}, so must be listed in
+ * <code>META-INF/services/org.eclipse.epsilon.performance.eol.BenchmarkProvider</code>.
+ *
+ * @author Sina Madani
+ */
+public interface BenchmarkProvider {
+	
+	/**
+	 * 
+	 * @return Factories for the benchmarks, keyed by name. The name is what is given
+	 * as the script on the command line (without extension), e.g. <code>imdb_select</code>.
+	 * Aliases can be registered by mapping several names to the same factory.
+	 */
+	Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> getBenchmarks();
+	
+	/**
+	 * 
+	 * @return Command-line options which only apply to these benchmarks. Their values are
+	 * available from {@link AbstractBenchmark.Builder#hasOption(String)} and
+	 * {@link AbstractBenchmark.Builder#getOption(String, String)}. A new instance should be
+	 * returned for each call, as options are stateful.
+	 */
+	default Collection<Option> getOptions() {
+		return Collections.emptyList();
+	}
+}
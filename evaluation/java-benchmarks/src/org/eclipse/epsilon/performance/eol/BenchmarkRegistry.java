@@ -0,0 +1,72 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * All benchmarks contributed by {@link BenchmarkProvider}s on the classpath.
+ *
+ * @author Sina Madani
+ */
+public final class BenchmarkRegistry {
+	
+	private static volatile List<BenchmarkProvider> providers;
+	private static volatile Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> benchmarks;
+	
+	private BenchmarkRegistry() {}
+	
+	/**
+	 * 
+	 * @return The providers on the classpath, in the order they were discovered.
+	 */
+	public static List<BenchmarkProvider> getProviders() {
+		List<BenchmarkProvider> result = providers;
+		if (result == null) synchronized (BenchmarkRegistry.class) {
+			if ((result = providers) == null) {
+				List<BenchmarkProvider> loaded = new ArrayList<>();
+				for (BenchmarkProvider provider : ServiceLoader.load(BenchmarkProvider.class, BenchmarkRegistry.class.getClassLoader())) {
+					loaded.add(provider);
+				}
+				providers = result = Collections.unmodifiableList(loaded);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * 
+	 * @return The registered benchmark factories, sorted by name.
+	 * @throws IllegalStateException If more than one provider registers the same name.
+	 */
+	public static Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> getBenchmarks() {
+		Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> result = benchmarks;
+		if (result == null) synchronized (BenchmarkRegistry.class) {
+			if ((result = benchmarks) == null) {
+				Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> loaded = new TreeMap<>();
+				for (BenchmarkProvider provider : getProviders()) {
+					provider.getBenchmarks().forEach((name, factory) -> {
+						if (loaded.putIfAbsent(name, factory) != null) {
+							throw new IllegalStateException("Benchmark '"+name+"' is registered more than once!");
+						}
+					});
+				}
+				benchmarks = result = Collections.unmodifiableMap(loaded);
+			}
+		}
+		return result;
+	}
+}
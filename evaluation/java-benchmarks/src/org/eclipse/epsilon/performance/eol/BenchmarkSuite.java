@@ -0,0 +1,214 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs several registered benchmarks on the same model, which is loaded only once.
+ * The benchmarks can be run one after the other, or all at the same time (each on its own thread).
+ * Every query is timed separately.
+ * <br/>
+ * Usage: <code>BenchmarkSuite [-list] (-queries name1,name2,... | -dataset prefix) [-concurrent] &lt;benchmark arguments&gt;</code>,
+ * where the benchmark arguments are the same as for a single benchmark but without the script.
+ * With <code>-dataset</code>, all registered benchmarks for that dataset are run (aliases only once),
+ * i.e. those named <code>prefix_*</code>, such as <code>-dataset imdb</code>. Since all benchmarks
+ * share the same model, one of the two options is required.
+ * <code>-list</code> prints the names of the registered benchmarks.
+ *
+ * @see BenchmarkRegistry
+ * @author Sina Madani
+ */
+public class BenchmarkSuite {
+	
+	public static void main(String... args) throws Exception {
+		List<String> benchmarkArgs = new ArrayList<>(args.length + 1);
+		String queries = null, dataset = null;
+		boolean list = false, concurrent = false;
+		
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "-list":
+					list = true;
+					break;
+				case "-concurrent":
+					concurrent = true;
+					break;
+				case "-queries":
+					queries = args[++i];
+					break;
+				case "-dataset":
+					dataset = args[++i];
+					break;
+				default:
+					benchmarkArgs.add(args[i]);
+			}
+		}
+		
+		if (list || benchmarkArgs.isEmpty()) {
+			BenchmarkRegistry.getBenchmarks().keySet().forEach(System.out::println);
+			return;
+		}
+		
+		Collection<String> names;
+		if (queries != null) {
+			names = Arrays.asList(queries.split(","));
+		}
+		else if (dataset != null) {
+			names = getBenchmarksForDataset(dataset);
+			if (names.isEmpty()) {
+				throw new IllegalArgumentException("No benchmarks registered for dataset '"+dataset+"'");
+			}
+		}
+		else {
+			throw new IllegalArgumentException("Either -queries or -dataset must be specified!");
+		}
+		
+		createSuite(names, benchmarkArgs, concurrent).run();
+	}
+	
+	/**
+	 *
+	 * @param dataset The prefix of the benchmark names, e.g. <code>imdb</code>.
+	 * @return The names of the registered benchmarks which query the dataset.
+	 */
+	public static Collection<String> getBenchmarksForDataset(String dataset) {
+		String prefix = dataset.endsWith("_") ? dataset : dataset+"_";
+		List<String> names = new ArrayList<>();
+		for (String name : BenchmarkRegistry.getBenchmarks().keySet()) {
+			if (name.startsWith(prefix)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+	
+	/**
+	 *
+	 * @param names The registered names of the benchmarks to run.
+	 * @param benchmarkArgs The arguments for the benchmarks, without the script.
+	 * @param concurrent Whether to run the benchmarks at the same time.
+	 * @return The suite.
+	 * @throws Exception If the arguments are invalid.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static BenchmarkSuite createSuite(Collection<String> names, List<String> benchmarkArgs, boolean concurrent) throws Exception {
+		Iterator<String> namesIter = names.iterator();
+		if (!namesIter.hasNext()) {
+			throw new IllegalArgumentException("No benchmarks specified!");
+		}
+		String firstName = namesIter.next();
+		
+		// All benchmarks are built from the same builder, so that they share the same model instances
+		AbstractBenchmark.Builder builder = new AbstractBenchmark.Builder(AbstractBenchmark.class);
+		builder.benchmarkName = firstName;
+		List<String> args = new ArrayList<>(benchmarkArgs.size() + 1);
+		args.add(firstName+".eol");
+		args.addAll(benchmarkArgs);
+		AbstractBenchmark first = (AbstractBenchmark) new AbstractBenchmark.BenchmarkConfigParser<>(builder)
+			.apply(args.toArray(new String[args.size()]));
+		
+		Map<String, AbstractBenchmark> benchmarks = new LinkedHashMap<>();
+		benchmarks.put(firstName, first);
+		Set<Class<?>> types = new HashSet<>();
+		types.add(first.getClass());
+		
+		while (namesIter.hasNext()) {
+			String name = namesIter.next();
+			if (!BenchmarkRegistry.getBenchmarks().containsKey(name)) {
+				throw new IllegalArgumentException("Unknown benchmark '"+name+"'");
+			}
+			builder.benchmarkName = name;
+			AbstractBenchmark benchmark = (AbstractBenchmark) builder.build();
+			// Skip aliases of benchmarks already in the suite
+			if (types.add(benchmark.getClass())) {
+				benchmarks.put(name, benchmark);
+			}
+		}
+		return new BenchmarkSuite(benchmarks, concurrent);
+	}
+	
+	protected final Map<String, AbstractBenchmark> benchmarks;
+	protected final boolean concurrent;
+	
+	/**
+	 *
+	 * @param benchmarks The benchmarks to run, keyed by name. These must all use the
+	 * same model instance. The first benchmark is responsible for loading it.
+	 * @param concurrent Whether to run the benchmarks at the same time.
+	 */
+	public BenchmarkSuite(Map<String, AbstractBenchmark> benchmarks, boolean concurrent) {
+		this.benchmarks = benchmarks;
+		this.concurrent = concurrent;
+	}
+	
+	/**
+	 * Loads the model, executes every benchmark and prints the results and timings.
+	 *
+	 * @return The result of each benchmark.
+	 * @throws Exception If loading the model or any of the benchmarks fails.
+	 */
+	public Map<String, Object> run() throws Exception {
+		Iterator<AbstractBenchmark> iter = benchmarks.values().iterator();
+		AbstractBenchmark first = iter.next();
+		
+		long startTime = System.nanoTime();
+		first.setUp();
+		while (iter.hasNext()) {
+			iter.next().prepare();
+		}
+		System.out.println("Model loading: "+elapsedMillis(startTime)+" ms");
+		
+		Map<String, Object> results = new LinkedHashMap<>(benchmarks.size());
+		try {
+			if (concurrent) {
+				ExecutorService executor = Executors.newFixedThreadPool(benchmarks.size());
+				try {
+					Map<String, Future<Object>> futures = new LinkedHashMap<>(benchmarks.size());
+					benchmarks.forEach((name, benchmark) ->
+						futures.put(name, executor.submit(timed(name, benchmark)))
+					);
+					for (Map.Entry<String, Future<Object>> future : futures.entrySet()) {
+						results.put(future.getKey(), future.getValue().get());
+					}
+				}
+				finally {
+					executor.shutdownNow();
+				}
+			}
+			else for (Map.Entry<String, AbstractBenchmark> benchmark : benchmarks.entrySet()) {
+				results.put(benchmark.getKey(), timed(benchmark.getKey(), benchmark.getValue()).call());
+			}
+		}
+		finally {
+			benchmarks.values().forEach(AbstractBenchmark::closeBackend);
+			first.tearDown();
+		}
+		return results;
+	}
+	
+	protected Callable<Object> timed(String name, AbstractBenchmark benchmark) {
+		return () -> {
+			long startTime = System.nanoTime();
+			Object result = benchmark.executeQuery();
+			System.out.println(name+": "+result+" ("+elapsedMillis(startTime)+" ms)");
+			return result;
+		};
+	}
+	
+	static long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
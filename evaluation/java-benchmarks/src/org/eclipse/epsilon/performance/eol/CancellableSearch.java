@@ -0,0 +1,177 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Parallel equivalent of <code>findAny</code> which makes the end of the search observable.
+ * The elements are split into chunks, each of which is searched by a separate task. When a
+ * match is found, the tasks which haven't started yet return immediately, the running ones
+ * stop before their next element and their threads are interrupted. Callers can wait for the
+ * first match ({@link #awaitFirstMatch()}) separately from waiting for all tasks to finish
+ * ({@link #awaitQuiescence()}), and the number of evaluations which completed after the
+ * match was found (and so were wasted) is recorded.
+ * <br/>
+ * A search can only be started once.
+ *
+ * @author Sina Madani
+ */
+public class CancellableSearch<T> {
+	
+	protected final Spliterator<T> source;
+	protected final Predicate<? super T> predicate;
+	protected final AtomicBoolean found = new AtomicBoolean();
+	protected volatile T result;
+	protected volatile RuntimeException failure;
+	protected final CountDownLatch firstMatch = new CountDownLatch(1), quiescence = new CountDownLatch(1);
+	protected final LongAdder evaluated = new LongAdder(), wasted = new LongAdder();
+	protected final AtomicInteger pending = new AtomicInteger();
+	/**
+	 * Threads currently running a task. Guarded by itself.
+	 */
+	protected final Set<Thread> running = new HashSet<>();
+	
+	/**
+	 *
+	 * @param source The elements to search.
+	 * @param predicate The condition.
+	 */
+	public CancellableSearch(Spliterator<T> source, Predicate<? super T> predicate) {
+		this.source = source;
+		this.predicate = predicate;
+	}
+	
+	/**
+	 * Submits the tasks and returns immediately.
+	 *
+	 * @param executor The executor to run the tasks on.
+	 * @param parallelism The number of threads in the executor. The elements are split into
+	 * a few chunks per thread, so that the load is balanced.
+	 * @return This search.
+	 */
+	public CancellableSearch<T> start(Executor executor, int parallelism) {
+		List<Spliterator<T>> chunks = ExecutionBackend.split(source, Math.max(1, parallelism) * 4);
+		pending.set(chunks.size());
+		for (Spliterator<T> chunk : chunks) {
+			executor.execute(() -> search(chunk));
+		}
+		return this;
+	}
+	
+	protected void search(Spliterator<T> chunk) {
+		Thread current = Thread.currentThread();
+		synchronized (running) {
+			running.add(current);
+		}
+		try {
+			while (!found.get() && !current.isInterrupted() && chunk.tryAdvance(this::test));
+		}
+		catch (RuntimeException ex) {
+			if (found.compareAndSet(false, true)) {
+				failure = ex;
+				firstMatch.countDown();
+				cancel();
+			}
+		}
+		finally {
+			synchronized (running) {
+				running.remove(current);
+			}
+			// Clear any interrupt from cancel() so that it doesn't leak into the executor's next task
+			Thread.interrupted();
+			if (pending.decrementAndGet() == 0) {
+				firstMatch.countDown();
+				quiescence.countDown();
+			}
+		}
+	}
+	
+	protected void test(T element) {
+		evaluated.increment();
+		boolean matches = predicate.test(element);
+		if (found.get()) {
+			wasted.increment();
+		}
+		else if (matches && found.compareAndSet(false, true)) {
+			result = element;
+			firstMatch.countDown();
+			cancel();
+		}
+	}
+	
+	/**
+	 * Interrupts all running tasks other than the current one.
+	 */
+	protected void cancel() {
+		Thread current = Thread.currentThread();
+		synchronized (running) {
+			for (Thread thread : running) {
+				if (thread != current) {
+					thread.interrupt();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Blocks until a match is found or all elements have been searched.
+	 *
+	 * @return The match, or <code>null</code> if there isn't one.
+	 * @throws InterruptedException
+	 * @throws RuntimeException If the predicate failed.
+	 */
+	public T awaitFirstMatch() throws InterruptedException {
+		firstMatch.await();
+		if (failure != null) throw failure;
+		return result;
+	}
+	
+	/**
+	 * Blocks until all tasks have finished.
+	 *
+	 * @return The match, or <code>null</code> if there isn't one.
+	 * @throws InterruptedException
+	 */
+	public T awaitQuiescence() throws InterruptedException {
+		quiescence.await();
+		return awaitFirstMatch();
+	}
+	
+	/**
+	 *
+	 * @return The number of times the predicate was evaluated.
+	 */
+	public long getEvaluated() {
+		return evaluated.sum();
+	}
+	
+	/**
+	 *
+	 * @return The number of evaluations which completed after the search was decided.
+	 */
+	public long getWasted() {
+		return wasted.sum();
+	}
+	
+	@Override
+	public String toString() {
+		return "Search: "+getEvaluated()+" evaluations, of which "+getWasted()+" wasted";
+	}
+}
@@ -0,0 +1,157 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+
+/**
+ * Resolves EMF properties once per (EClass, name) instead of on every access, as
+ * <code>IPropertyGetter</code> does. Each property name has an {@link Accessor} which
+ * caches the getter for the last EClass it saw, so navigations on a single type in
+ * a loop need only an identity check. For generated classes, the getter is a lambda
+ * bound to the generated method (e.g. <code>Person.getMovies()</code>). Otherwise it is
+ * <code>eGet</code> by feature ID.
+ *
+ * @author Sina Madani
+ */
+public class EmfFeatureAccessors {
+	
+	protected final Map<String, Accessor> accessors = new ConcurrentHashMap<>();
+	protected final boolean generatedGetters;
+	
+	public EmfFeatureAccessors() {
+		this(true);
+	}
+	
+	/**
+	 *
+	 * @param generatedGetters Whether to call generated getter methods where possible,
+	 * rather than always using <code>eGet</code> by feature ID.
+	 */
+	public EmfFeatureAccessors(boolean generatedGetters) {
+		this.generatedGetters = generatedGetters;
+	}
+	
+	/**
+	 *
+	 * @param property The name of the structural feature.
+	 * @return The accessor for the property, which can be kept for repeated use.
+	 */
+	public Accessor forName(String property) {
+		return accessors.computeIfAbsent(property, Accessor::new);
+	}
+	
+	/**
+	 *
+	 * @param object The model element.
+	 * @param property The name of the structural feature.
+	 * @return The value of the feature.
+	 * @throws IllegalArgumentException If the element's EClass has no such feature.
+	 */
+	public Object get(EObject object, String property) {
+		return forName(property).get(object);
+	}
+	
+	public final class Accessor {
+		final String property;
+		final Map<EClass, Resolved> resolved = new ConcurrentHashMap<>(4);
+		volatile Resolved last;
+		
+		Accessor(String property) {
+			this.property = property;
+		}
+		
+		public Object get(EObject object) {
+			EClass eClass = object.eClass();
+			Resolved r = last;
+			if (r == null || r.eClass != eClass) {
+				last = r = resolved.computeIfAbsent(eClass, this::resolve);
+			}
+			return r.getter.apply(object);
+		}
+		
+		Resolved resolve(EClass eClass) {
+			EStructuralFeature feature = eClass.getEStructuralFeature(property);
+			if (feature == null) {
+				throw new IllegalArgumentException("No property '"+property+"' in "+eClass.getName());
+			}
+			Function<Object, Object> getter = generatedGetters ? compileGetter(eClass, feature) : null;
+			if (getter == null) {
+				int featureID = eClass.getFeatureID(feature);
+				getter = obj -> ((InternalEObject) obj).eGet(featureID, true, true);
+			}
+			return new Resolved(eClass, getter);
+		}
+	}
+	
+	static final class Resolved {
+		final EClass eClass;
+		final Function<Object, Object> getter;
+		
+		Resolved(EClass eClass, Function<Object, Object> getter) {
+			this.eClass = eClass;
+			this.getter = getter;
+		}
+	}
+	
+	/**
+	 *
+	 * @return A lambda calling the generated getter, or <code>null</code> if there isn't one.
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> compileGetter(EClass eClass, EStructuralFeature feature) {
+		Class<?> instanceClass = eClass.getInstanceClass();
+		if (instanceClass == null || !Modifier.isPublic(instanceClass.getModifiers())) return null;
+		
+		String name = feature.getName();
+		String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		Method method = null;
+		for (String prefix : new String[] {"get", "is"}) {
+			try {
+				method = instanceClass.getMethod(prefix + suffix);
+				break;
+			}
+			catch (NoSuchMethodException nsmx) {
+				continue;
+			}
+		}
+		if (method == null) return null;
+		
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = lookup.unreflect(method);
+			CallSite site = LambdaMetafactory.metafactory(
+				lookup, "apply",
+				MethodType.methodType(Function.class),
+				MethodType.methodType(Object.class, Object.class),
+				handle,
+				MethodType.methodType(handle.type().wrap().returnType(), instanceClass)
+			);
+			return (Function<Object, Object>) site.getTarget().invokeExact();
+		}
+		catch (Throwable ex) {
+			// e.g. the generated class isn't visible from here, so fall back to eGet
+			return null;
+		}
+	}
+}
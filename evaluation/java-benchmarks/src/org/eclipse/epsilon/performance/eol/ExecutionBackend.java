@@ -0,0 +1,215 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Determines which threads evaluate the parallel Java queries. The ForkJoin backends
+ * run a single parallel stream on the pool, whereas the chunked backends split the
+ * elements into a few chunks per thread and submit a sequential stream for each chunk.
+ * The available backends are:
+ * <ul>
+ * <li><code>common</code>: the common ForkJoinPool, as parallel streams use by default.</li>
+ * <li><code>forkjoin</code>: a dedicated ForkJoinPool with the given parallelism.</li>
+ * <li><code>threadpool</code>: a fixed thread pool with the given number of threads.</li>
+ * <li><code>virtual</code>: a new virtual thread for each chunk (requires Java 21).</li>
+ * </ul>
+ *
+ * @author Sina Madani
+ */
+public abstract class ExecutionBackend implements AutoCloseable {
+	
+	public static final String COMMON = "common", FORKJOIN = "forkjoin", THREADPOOL = "threadpool", VIRTUAL = "virtual";
+	
+	/**
+	 *
+	 * @param name One of {@link #COMMON}, {@link #FORKJOIN}, {@link #THREADPOOL} or {@link #VIRTUAL}.
+	 * @param parallelism The number of threads, or the number of chunks per task for virtual threads.
+	 * Values less than 1 mean the number of available processors. Ignored for the common pool.
+	 * @return The backend.
+	 * @throws IllegalArgumentException If the name is not recognised.
+	 * @throws UnsupportedOperationException If virtual threads are requested but not supported by the JVM.
+	 */
+	public static ExecutionBackend create(String name, int parallelism) {
+		int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		switch (name) {
+			case COMMON:
+				return new ForkJoinBackend(ForkJoinPool.commonPool(), false);
+			case FORKJOIN:
+				return new ForkJoinBackend(new ForkJoinPool(threads), true);
+			case THREADPOOL:
+				return new ChunkedBackend(Executors.newFixedThreadPool(threads, runnable -> {
+					Thread thread = new Thread(runnable);
+					thread.setDaemon(true);
+					return thread;
+				}), threads);
+			case VIRTUAL:
+				return new ChunkedBackend(newVirtualThreadPerTaskExecutor(), threads);
+			default:
+				throw new IllegalArgumentException("Unknown backend '"+name+"'");
+		}
+	}
+	
+	static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new UnsupportedOperationException("Virtual threads require Java 21 or later", ex);
+		}
+	}
+	
+	/**
+	 * Splits the elements into roughly the given number of chunks, in encounter order.
+	 *
+	 * @param source The elements.
+	 * @param targetChunks The desired number of chunks.
+	 * @return The chunks, which may be fewer than requested if the source can't be split further.
+	 */
+	public static <T> List<Spliterator<T>> split(Spliterator<T> source, int targetChunks) {
+		List<Spliterator<T>> chunks = new ArrayList<>(targetChunks);
+		chunks.add(source);
+		for (boolean splitAny = true; splitAny && chunks.size() < targetChunks;) {
+			splitAny = false;
+			for (int i = chunks.size() - 1; i >= 0 && chunks.size() < targetChunks; i--) {
+				Spliterator<T> prefix = chunks.get(i).trySplit();
+				if (prefix != null) {
+					chunks.add(i, prefix);
+					splitAny = true;
+				}
+			}
+		}
+		return chunks;
+	}
+	
+	/**
+	 *
+	 * @return The executor on which tasks are run.
+	 */
+	public abstract Executor getExecutor();
+	
+	/**
+	 *
+	 * @return The number of threads (or chunks) which tasks are divided between.
+	 */
+	public abstract int getParallelism();
+	
+	/**
+	 * Applies a function to the elements in parallel and combines the results. The function
+	 * may be applied to a single parallel stream of all elements, or to several sequential
+	 * streams of disjoint chunks, so it must not assume either.
+	 *
+	 * @param source The elements.
+	 * @param function The computation on (some of) the elements.
+	 * @param combiner Combines the results of two chunks, in encounter order.
+	 * @return The combined result.
+	 */
+	public abstract <T, R> R evaluate(Spliterator<T> source, Function<Stream<T>, R> function, BinaryOperator<R> combiner);
+	
+	@Override
+	public abstract void close();
+	
+	static class ForkJoinBackend extends ExecutionBackend {
+		final ForkJoinPool pool;
+		final boolean shutdown;
+		
+		ForkJoinBackend(ForkJoinPool pool, boolean shutdown) {
+			this.pool = pool;
+			this.shutdown = shutdown;
+		}
+		
+		@Override
+		public Executor getExecutor() {
+			return pool;
+		}
+		
+		@Override
+		public int getParallelism() {
+			return pool.getParallelism();
+		}
+		
+		@Override
+		public <T, R> R evaluate(Spliterator<T> source, Function<Stream<T>, R> function, BinaryOperator<R> combiner) {
+			// Parallel streams run on the pool of the thread which invokes the terminal operation
+			return pool.submit(() -> function.apply(StreamSupport.stream(source, true))).join();
+		}
+		
+		@Override
+		public void close() {
+			if (shutdown) pool.shutdown();
+		}
+	}
+	
+	static class ChunkedBackend extends ExecutionBackend {
+		final ExecutorService executor;
+		final int parallelism;
+		
+		ChunkedBackend(ExecutorService executor, int parallelism) {
+			this.executor = executor;
+			this.parallelism = parallelism;
+		}
+		
+		@Override
+		public Executor getExecutor() {
+			return executor;
+		}
+		
+		@Override
+		public int getParallelism() {
+			return parallelism;
+		}
+		
+		@Override
+		public <T, R> R evaluate(Spliterator<T> source, Function<Stream<T>, R> function, BinaryOperator<R> combiner) {
+			List<Spliterator<T>> chunks = split(source, parallelism * 4);
+			List<Future<R>> futures = new ArrayList<>(chunks.size());
+			for (Spliterator<T> chunk : chunks) {
+				futures.add(executor.submit(() -> function.apply(StreamSupport.stream(chunk, false))));
+			}
+			try {
+				R result = futures.get(0).get();
+				for (Future<R> future : futures.subList(1, futures.size())) {
+					result = combiner.apply(result, future.get());
+				}
+				return result;
+			}
+			catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(ex);
+			}
+			finally {
+				// Stops the remaining chunks if one failed; completed ones are unaffected
+				futures.forEach(future -> future.cancel(true));
+			}
+		}
+		
+		@Override
+		public void close() {
+			executor.shutdown();
+		}
+	}
+}
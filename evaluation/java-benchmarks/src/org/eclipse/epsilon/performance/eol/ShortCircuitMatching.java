@@ -0,0 +1,186 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Java equivalents of EOL's <code>atLeastNMatch</code>, <code>atMostNMatch</code> and
+ * <code>nMatch</code> which, unlike <code>filter(predicate).count()</code>, stop evaluating
+ * as soon as the answer is known. In parallel, all workers share the same match counter:
+ * once it reaches the limit, the remaining elements are skipped and the stream is cancelled.
+ * Each operation also reports how many elements were actually evaluated.
+ *
+ * @author Sina Madani
+ */
+public class ShortCircuitMatching {
+	
+	private ShortCircuitMatching() {}
+	
+	/**
+	 *
+	 * @param stream The elements, which may be a parallel stream.
+	 * @param predicate The condition.
+	 * @param n The minimum number of matches.
+	 * @return Whether at least <code>n</code> elements satisfy the predicate.
+	 */
+	public static <T> Result atLeastN(Stream<T> stream, Predicate<? super T> predicate, long n) {
+		return ShortCircuitMatching.<T> atLeastN(predicate, n).count(stream);
+	}
+	
+	/**
+	 *
+	 * @param stream The elements, which may be a parallel stream.
+	 * @param predicate The condition.
+	 * @param n The maximum number of matches.
+	 * @return Whether at most <code>n</code> elements satisfy the predicate.
+	 */
+	public static <T> Result atMostN(Stream<T> stream, Predicate<? super T> predicate, long n) {
+		return ShortCircuitMatching.<T> atMostN(predicate, n).count(stream);
+	}
+	
+	/**
+	 *
+	 * @param stream The elements, which may be a parallel stream.
+	 * @param predicate The condition.
+	 * @param n The number of matches.
+	 * @return Whether exactly <code>n</code> elements satisfy the predicate.
+	 */
+	public static <T> Result nMatch(Stream<T> stream, Predicate<? super T> predicate, long n) {
+		return ShortCircuitMatching.<T> nMatch(predicate, n).count(stream);
+	}
+	
+	/**
+	 * Variant of {@link #atLeastN(Stream, Predicate, long)} for elements split across several streams.
+	 *
+	 * @param predicate The condition.
+	 * @param n The minimum number of matches.
+	 * @return A counter to pass each stream to.
+	 */
+	public static <T> Counter<T> atLeastN(Predicate<? super T> predicate, long n) {
+		return new Counter<>(predicate, n, matches -> matches >= n);
+	}
+	
+	/**
+	 * Variant of {@link #atMostN(Stream, Predicate, long)} for elements split across several streams.
+	 *
+	 * @param predicate The condition.
+	 * @param n The maximum number of matches.
+	 * @return A counter to pass each stream to.
+	 */
+	public static <T> Counter<T> atMostN(Predicate<? super T> predicate, long n) {
+		return new Counter<>(predicate, successor(n), matches -> matches <= n);
+	}
+	
+	/**
+	 * Variant of {@link #nMatch(Stream, Predicate, long)} for elements split across several streams.
+	 *
+	 * @param predicate The condition.
+	 * @param n The number of matches.
+	 * @return A counter to pass each stream to.
+	 */
+	public static <T> Counter<T> nMatch(Predicate<? super T> predicate, long n) {
+		return new Counter<>(predicate, successor(n), matches -> matches == n);
+	}
+	
+	/**
+	 *
+	 * @return <code>n + 1</code>, saturated so that the limit of <code>Long.MAX_VALUE</code> doesn't overflow.
+	 */
+	static long successor(long n) {
+		return n == Long.MAX_VALUE ? Long.MAX_VALUE : n + 1;
+	}
+	
+	/**
+	 * Counts matches until the limit is reached. The same counter can be given several
+	 * streams (including concurrently), in which case they all stop once the limit is reached.
+	 */
+	public static final class Counter<T> {
+		final Predicate<? super T> predicate;
+		/**
+		 * The number of matches after which the answer is decided.
+		 */
+		final long limit;
+		/**
+		 * Computes the answer from the number of matches.
+		 */
+		final LongPredicate outcome;
+		final AtomicLong matches = new AtomicLong();
+		final LongAdder evaluated = new LongAdder();
+		
+		Counter(Predicate<? super T> predicate, long limit, LongPredicate outcome) {
+			this.predicate = predicate;
+			this.limit = limit;
+			this.outcome = outcome;
+		}
+		
+		/**
+		 * Counts the matches in the stream, stopping early if the limit is reached.
+		 *
+		 * @param stream The elements, which may be a parallel stream.
+		 * @return The result so far, including any other streams given to this counter.
+		 */
+		public Result count(Stream<? extends T> stream) {
+			// anyMatch cancels the other tasks once any element returns true
+			stream.anyMatch(element -> {
+				if (matches.get() >= limit) return true;
+				evaluated.increment();
+				return predicate.test(element) && matches.incrementAndGet() >= limit;
+			});
+			return getResult();
+		}
+		
+		public Result getResult() {
+			// Concurrent increments may overshoot the limit, which doesn't change the answer
+			long total = matches.get();
+			return new Result(outcome.test(total), total, evaluated.sum());
+		}
+	}
+	
+	public static final class Result {
+		final boolean value;
+		final long matches, evaluated;
+		
+		Result(boolean value, long matches, long evaluated) {
+			this.value = value;
+			this.matches = matches;
+			this.evaluated = evaluated;
+		}
+		
+		public boolean getValue() {
+			return value;
+		}
+		
+		/**
+		 *
+		 * @return The number of matches found before the answer was decided.
+		 */
+		public long getMatches() {
+			return matches;
+		}
+		
+		/**
+		 *
+		 * @return The number of elements on which the predicate was evaluated.
+		 */
+		public long getEvaluated() {
+			return evaluated;
+		}
+		
+		@Override
+		public String toString() {
+			return value+" (evaluated "+evaluated+" elements, "+matches+" matches)";
+		}
+	}
+}
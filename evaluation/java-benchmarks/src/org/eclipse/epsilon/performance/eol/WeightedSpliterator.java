@@ -0,0 +1,144 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Spliterator over a fixed collection which splits by estimated cost rather than by
+ * number of elements. The cost of each element is computed once up-front, and
+ * each split divides the remaining cost in half, so that a few expensive elements
+ * don't end up in the same task at the tail of a parallel stream. Since computing the
+ * costs visits every element, it should be done before the timed work and the weights
+ * reused through {@link #copy()}.
+ *
+ * @author Sina Madani
+ */
+public class WeightedSpliterator<T> implements Spliterator<T> {
+	
+	/**
+	 * Computes the costs on the calling thread.
+	 *
+	 * @param elements The elements to iterate over.
+	 * @param cost The estimated cost of processing each element. Values less than 1 are treated as 1.
+	 * @return A spliterator over a snapshot of the elements.
+	 */
+	public static <T> WeightedSpliterator<T> of(Collection<? extends T> elements, ToLongFunction<? super T> cost) {
+		return of(elements, cost, null);
+	}
+	
+	/**
+	 *
+	 * @param elements The elements to iterate over.
+	 * @param cost The estimated cost of processing each element. Values less than 1 are treated as 1.
+	 * @param backend Where the costs are computed, or <code>null</code> to compute them on the calling thread.
+	 * @return A spliterator over a snapshot of the elements.
+	 */
+	public static <T> WeightedSpliterator<T> of(Collection<? extends T> elements, ToLongFunction<? super T> cost, ExecutionBackend backend) {
+		Object[] array = elements.toArray();
+		long[] prefix = new long[array.length + 1];
+		@SuppressWarnings("unchecked")
+		Consumer<Integer> weigh = i -> prefix[i + 1] = Math.max(1, cost.applyAsLong((T) array[i]));
+		if (backend != null) {
+			backend.evaluate(IntStream.range(0, array.length).spliterator(), indices -> {
+				indices.forEach(weigh);
+				return null;
+			}, (a, b) -> null);
+		}
+		else for (int i = 0; i < array.length; i++) {
+			weigh.accept(i);
+		}
+		for (int i = 1; i < prefix.length; i++) {
+			prefix[i] += prefix[i - 1];
+		}
+		return new WeightedSpliterator<>(array, prefix, 0, array.length);
+	}
+	
+	protected final Object[] elements;
+	/**
+	 * <code>prefix[i]</code> is the total cost of <code>elements[0 .. i)</code>.
+	 */
+	protected final long[] prefix;
+	protected int index;
+	protected final int fence;
+	
+	protected WeightedSpliterator(Object[] elements, long[] prefix, int index, int fence) {
+		this.elements = elements;
+		this.prefix = prefix;
+		this.index = index;
+		this.fence = fence;
+	}
+	
+	/**
+	 *
+	 * @return A spliterator over the remaining elements with the same weights,
+	 * which can be consumed independently of this one.
+	 */
+	public WeightedSpliterator<T> copy() {
+		return new WeightedSpliterator<>(elements, prefix, index, fence);
+	}
+	
+	@Override
+	public Spliterator<T> trySplit() {
+		int lo = index, hi = fence;
+		if (hi - lo < 2) return null;
+		
+		// First position whose prefix reaches half of the remaining cost
+		long target = prefix[lo] + (prefix[hi] - prefix[lo]) / 2;
+		int mid = Arrays.binarySearch(prefix, lo + 1, hi, target);
+		if (mid < 0) mid = -mid - 1;
+		mid = Math.max(lo + 1, Math.min(mid, hi - 1));
+		
+		index = mid;
+		return new WeightedSpliterator<>(elements, prefix, lo, mid);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (index < fence) {
+			action.accept((T) elements[index++]);
+			return true;
+		}
+		return false;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEachRemaining(Consumer<? super T> action) {
+		for (int i = index, hi = fence; i < hi; i++) {
+			action.accept((T) elements[i]);
+		}
+		index = fence;
+	}
+	
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+	
+	/**
+	 *
+	 * @return The estimated cost of the remaining elements.
+	 */
+	public long estimateCost() {
+		return prefix[fence] - prefix[index];
+	}
+	
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+	}
+}
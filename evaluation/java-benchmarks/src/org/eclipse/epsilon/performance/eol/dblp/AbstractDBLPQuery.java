@@ -0,0 +1,101 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.dblp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
+
+/**
+ * Java equivalents of the expressions in the DBLP first-order operation scripts.
+ *
+ * @see dblp_mapBy.eol
+ * @see dblp_atMostN.eol
+ * @author Sina Madani
+ */
+public abstract class AbstractDBLPQuery extends AbstractBenchmark {
+	
+	protected AbstractDBLPQuery(Builder<?, ?> builder) {
+		super(builder);
+	}
+	
+	protected Collection<?> getAuthors(Object record) {
+		try {
+			return (Collection<?>) get(record, "authors");
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	protected Collection<?> getRecords(Object author) {
+		try {
+			return (Collection<?>) get(author, "records");
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * 
+	 * @param self The record.
+	 * @return <code>Sequence{r.key, r.url, r.ee, r.mdate, r.month, r.authors.collect(a | a.name)}.hashCode()</code>
+	 */
+	protected int mapByKey(Object self) {
+		try {
+			Collection<?> authors = getAuthors(self);
+			List<Object> names = new ArrayList<>(authors.size());
+			for (Object author : authors) {
+				names.add(get(author, "name"));
+			}
+			return Arrays.asList(
+				get(self, "key"), get(self, "url"), get(self, "ee"),
+				get(self, "mdate"), get(self, "month"), names
+			).hashCode();
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * 
+	 * @param r1 The record.
+	 * @return Whether a different record has the same authors as <code>r1</code>.
+	 */
+	protected boolean hasSameAuthorsRecord(Object r1) {
+		Collection<?> r1Authors = getAuthors(r1);
+		for (Object a1 : r1Authors) {
+			for (Object r2 : getRecords(a1)) {
+				if (r2 != r1) {
+					Collection<?> r2Authors = getAuthors(r2);
+					if (r2Authors.size() == r1Authors.size() && r2Authors.containsAll(r1Authors)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Estimated cost of {@link #mapByKey(Object)}.
+	 * 
+	 * @param self The record.
+	 * @return The size of <code>self.authors</code>.
+	 */
+	protected long authorsCost(Object self) {
+		return getAuthors(self).size();
+	}
+}
@@ -0,0 +1,46 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.dblp;
+
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.ShortCircuitMatching;
+
+/**
+ * Stops evaluating records as soon as more than N of them have the same authors as another record.
+ * 
+ * @author Sina Madani
+ */
+public class dblp_atMostN extends AbstractDBLPQuery {
+	
+	public dblp_atMostN(Builder<?, ?> builder) {
+		super(builder);
+	}
+	
+	protected ShortCircuitMatching.Result result;
+	
+	protected int getN() throws EolRuntimeException {
+		return model.getAllOfKind("Author").size() / 17;
+	}
+	
+	@Override
+	public Boolean query() throws EolRuntimeException {
+		ShortCircuitMatching.Counter<Object> counter = ShortCircuitMatching.atMostN(this::hasSameAuthorsRecord, getN());
+		result = evaluateAllOfKind("Record", counter::count, (a, b) -> counter.getResult());
+		return result.getValue();
+	}
+	
+	@Override
+	protected void postExecute() throws Exception {
+		super.postExecute();
+		if (result != null && profileExecution) {
+			writeOut("atMostNMatch: "+result);
+		}
+	}
+}
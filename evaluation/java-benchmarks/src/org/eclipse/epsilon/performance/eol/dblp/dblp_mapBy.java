@@ -0,0 +1,50 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.dblp;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+
+/**
+ * 
+ * @author Sina Madani
+ */
+public class dblp_mapBy extends AbstractDBLPQuery {
+	
+	public dblp_mapBy(Builder<?, ?> builder) {
+		super(builder);
+	}
+	
+	@Override
+	protected void prepare() throws Exception {
+		super.prepare();
+		weighExtent("Record", this::authorsCost);
+	}
+	
+	@Override
+	public Number query() throws EolRuntimeException {
+		return evaluateAllOfKind("Record",
+			records -> records.isParallel() ?
+				records.collect(Collectors.groupingByConcurrent(this::mapByKey)) :
+				records.collect(Collectors.groupingBy(this::mapByKey)),
+			dblp_mapBy::merge
+		).size();
+	}
+	
+	static Map<Integer, List<Object>> merge(Map<Integer, List<Object>> a, Map<Integer, List<Object>> b) {
+		b.forEach((key, records) -> a.merge(key, records, (r1, r2) -> {
+			r1.addAll(r2);
+			return r1;
+		}));
+		return a;
+	}
+}
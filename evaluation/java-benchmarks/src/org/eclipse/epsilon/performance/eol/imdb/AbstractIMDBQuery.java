@@ -10,40 +10,162 @@
 package org.eclipse.epsilon.performance.eol.imdb;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.cli.Option;
+import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
 import org.eclipse.epsilon.eol.execute.operations.contributors.IterableOperationContributor;
 import org.eclipse.epsilon.eol.types.*;
 import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
 
 /**
+ * Java equivalents of the operations in imdb_foop.eol. When run with <code>-projection</code>,
+ * the operations are instead evaluated on an {@link IMDBProjection} of the model, which
+ * is built (and profiled) after loading the model. With <code>-bitmaps</code>, the model is
+ * navigated as usual but the coactors of each person are collected into an {@link IntBitmap}
+ * of person ordinals rather than a flattened hash set. With <code>-sortedIntersection</code>,
+ * <code>areCouple</code> merges pre-sorted arrays of movie ordinals, and with <code>-memoSize</code>
+ * its results are memoised in an {@link IntPairMemo} of the given size. In parallel, queries
+ * which visit every person split the extent by {@link #personCost(Object)}.
  * 
  * @see imdb_foop.eol
  * @author Sina Madani
  */
 public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 	
+	public static final String
+		PROJECTION = "projection",
+		BITMAPS = "bitmaps",
+		SORTED_INTERSECTION = "sortedIntersection",
+		MEMO_SIZE = "memoSize";
+	
+	/**
+	 * 
+	 * @return The command-line options of the IMDb queries.
+	 * @see IMDBBenchmarks#getOptions()
+	 */
+	static Collection<Option> createOptions() {
+		return Arrays.asList(
+			new Option(PROJECTION, false, "Queries a primitive projection of the IMDb model"),
+			new Option(BITMAPS, false, "Collects coactors into compressed bitmaps of person ordinals"),
+			new Option(SORTED_INTERSECTION, false, "Intersects pre-sorted arrays of movie ordinals in areCouple"),
+			new Option(MEMO_SIZE, true, "Maximum number of memoised areCouple results")
+		);
+	}
+	
 	protected AbstractIMDBQuery(Builder<?, ?> builder) {
 		super(builder);
+		this.projection = builder.hasOption(PROJECTION);
+		this.bitmaps = builder.hasOption(BITMAPS);
+		this.sortedIntersection = builder.hasOption(SORTED_INTERSECTION);
+		this.memoSize = Long.parseLong(builder.getOption(MEMO_SIZE, "0"));
 	}
 	
+	protected final boolean projection, bitmaps, sortedIntersection;
+	protected final long memoSize;
 	protected final int threshold = 3;
+	protected IMDBProjection imdbProjection;
+	protected Object[] persons;
+	protected Map<Object, Integer> personOrdinals;
+	protected int[] personMovieOffsets, personMovies;
+	protected IntPairMemo areCoupleMemo;
+	/**
+	 * Totals over the coactor bitmaps built in the current execution, when profiling with <code>-bitmaps</code>.
+	 */
+	protected final LongAdder bitmapCount = new LongAdder(), bitmapValues = new LongAdder(),
+		bitmapBytes = new LongAdder(), hashSetBytes = new LongAdder();
 	
 	protected int getN() {
 		return 32;
 	}
 	
+	@Override
+	protected void prepare() throws Exception {
+		super.prepare();
+		if (projection) {
+			imdbProjection = BenchmarkUtils.profileExecutionStage(profiledStages, "Build projection",
+				() -> IMDBProjection.build(model, propertyGetter)
+			);
+		}
+		else if (bitmaps || sortedIntersection || memoSize > 0) {
+			persons = BenchmarkUtils.profileExecutionStage(profiledStages, "Index persons",
+				() -> model.getAllOfKind("Person").toArray()
+			);
+			personOrdinals = IMDBProjection.ordinals(persons);
+			
+			if (sortedIntersection) {
+				personMovieOffsets = new int[persons.length + 1];
+				personMovies = BenchmarkUtils.profileExecutionStage(profiledStages, "Sort movies", () -> {
+					Map<Object, Integer> movieOrdinals = IMDBProjection.ordinals(model.getAllOfKind("Movie").toArray());
+					return IMDBProjection.adjacency(persons, "movies", movieOrdinals, personMovieOffsets, propertyGetter);
+				});
+			}
+			if (memoSize > 0) {
+				areCoupleMemo = new IntPairMemo(memoSize);
+			}
+		}
+	}
+	
+	@Override
+	public Object executeQuery() throws EolRuntimeException {
+		if (areCoupleMemo != null) {
+			areCoupleMemo.clear();
+		}
+		bitmapCount.reset();
+		bitmapValues.reset();
+		bitmapBytes.reset();
+		hashSetBytes.reset();
+		return super.executeQuery();
+	}
+	
+	@Override
+	protected void postExecute() throws Exception {
+		super.postExecute();
+		if (areCoupleMemo != null && profileExecution) {
+			writeOut(areCoupleMemo);
+		}
+		if (bitmapCount.sum() > 0 && profileExecution) {
+			writeOut("Coactor bitmaps: "+bitmapCount.sum()+" bitmaps of "+bitmapValues.sum()+" values, "+
+				bitmapBytes.sum()+" bytes (~"+hashSetBytes.sum()+" bytes as hash sets)"
+			);
+		}
+	}
+	
+	/**
+	 * Estimated cost of the queries on a person, which is dominated by the number
+	 * of coactors visited.
+	 * 
+	 * @param self The person.
+	 * @return The total size of <code>self.movies.persons</code>.
+	 */
+	protected long personCost(Object self) {
+		try {
+			long cost = 0;
+			for (Object movie : (Collection<?>) get(self, "movies")) {
+				cost += ((Collection<?>) get(movie, "persons")).size();
+			}
+			return cost;
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
 	protected boolean nestedActors(Object self) {
+		if (imdbProjection != null) {
+			return imdbProjection.nestedActors(imdbProjection.movieOrdinal(self), getN());
+		}
 		try {
-			List<?> actors = new IterableOperationContributor(model.getAllOfKind("Person")).asSequence();
+			List<?> actors = getExtent("Person");
 			int n = getN();
 			int toIndex = actors.size() / n;
 			Collection<?> subActors = actors.subList(0, toIndex);
-			Collection<?> persons = (Collection<?>) propertyGetter.invoke(self, "persons");
+			Collection<?> persons = (Collection<?>) get(self, "persons");
 			return persons.stream().anyMatch(ac -> 
 				subActors.stream().anyMatch(mp -> {
 					if (ac.hashCode() == mp.hashCode()) try {
-						Collection<?> mpMovies = (Collection<?>) propertyGetter.invoke(mp, "movies");
-						Collection<?> acMovies = (Collection<?>) propertyGetter.invoke(ac, "movies");
+						Collection<?> mpMovies = (Collection<?>) get(mp, "movies");
+						Collection<?> acMovies = (Collection<?>) get(ac, "movies");
 						return mpMovies.size() == acMovies.size();
 					}
 					catch (EolRuntimeException ex) {
@@ -59,12 +181,24 @@ public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 	}
 	
 	protected boolean hasCoupleCoactors(Object self) {
+		if (imdbProjection != null) {
+			return imdbProjection.hasCoupleCoactors(imdbProjection.personOrdinal(self), threshold);
+		}
+		if (bitmaps && personOrdinals != null) {
+			return coactorBitmap(self).anyMatch(co -> areCoupleCoactors(persons[co], self));
+		}
 		return coactors(self).stream().anyMatch(co -> areCoupleCoactors(co, self));
 	}
 	
 	protected boolean hasCoupleCoactorsRare(Object self) {
+		if (imdbProjection != null) {
+			return imdbProjection.hasCoupleCoactorsRare(imdbProjection.personOrdinal(self), threshold, getN());
+		}
 		try {
-			int nTarget = ((Collection<?>) propertyGetter.invoke(self, "movies")).size() + getN();
+			int nTarget = ((Collection<?>) get(self, "movies")).size() + getN();
+			if (bitmaps && personOrdinals != null) {
+				return coactorBitmap(self).count(co -> areCoupleCoactors(persons[co], self)) == nTarget;
+			}
 			return coactors(self).stream().filter(co -> areCoupleCoactors(co, self)).count() == nTarget;
 		}
 		catch (EolRuntimeException ex) {
@@ -73,8 +207,16 @@ public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 	}
 	
 	protected Set<?> coactors(Object self) {
+		if (imdbProjection != null) {
+			int[] coactors = imdbProjection.coactors(imdbProjection.personOrdinal(self));
+			Set<Object> result = new EolSet<>();
+			for (int co : coactors) {
+				result.add(imdbProjection.getPerson(co));
+			}
+			return result;
+		}
 		try {
-			Collection<?> movies = (Collection<?>) propertyGetter.invoke(self, "movies");
+			Collection<?> movies = (Collection<?>) get(self, "movies");
 			Collection<Object> persons = EolCollectionType.isOrdered(movies) ?
 				new EolSequence<>() : new EolBag<>();
 				
@@ -83,7 +225,7 @@ public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 			}
 			
 			for (Object movie : movies) {
-				persons.add(propertyGetter.invoke(movie, "persons"));
+				persons.add(get(movie, "persons"));
 			}
 			Collection<Object> flattened = new IterableOperationContributor(persons).flatten();
 			return new IterableOperationContributor(flattened).asSet();
@@ -93,12 +235,39 @@ public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 		}
 	}
 	
+	/**
+	 * Alternative to {@link #coactors(Object)} which collects the ordinals of the coactors.
+	 * 
+	 * @param self The person.
+	 * @return The ordinals of the persons in <code>self.movies.persons</code>.
+	 */
+	protected IntBitmap coactorBitmap(Object self) {
+		try {
+			IntBitmap coactors = new IntBitmap();
+			for (Object movie : (Collection<?>) get(self, "movies")) {
+				for (Object person : (Collection<?>) get(movie, "persons")) {
+					coactors.add(personOrdinals.get(person));
+				}
+			}
+			if (profileExecution) {
+				bitmapCount.increment();
+				bitmapValues.add(coactors.cardinality());
+				bitmapBytes.add(coactors.sizeInBytes());
+				hashSetBytes.add(IntBitmap.hashSetSizeInBytes(coactors.cardinality()));
+			}
+			return coactors;
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
 	protected boolean areCoupleCoactors(Object self, Object co) {
 		try {
-			String selfName = (String) propertyGetter.invoke(self, "name");
-			String coName = (String) propertyGetter.invoke(co, "name");
+			String selfName = (String) get(self, "name");
+			String coName = (String) get(co, "name");
 			if (selfName.compareTo(coName) < 0) {
-				Collection<?> bMovies = (Collection<?>) propertyGetter.invoke(co, "movies");
+				Collection<?> bMovies = (Collection<?>) get(co, "movies");
 				if (bMovies.size() >= threshold) {
 					return areCouple(self, co);
 				}
@@ -111,8 +280,40 @@ public abstract class AbstractIMDBQuery extends AbstractBenchmark {
 	}
 	
 	protected boolean areCouple(Object self, Object p) throws EolRuntimeException {
-		Collection<?> selfMovies = (Collection<?>) propertyGetter.invoke(self, "movies");
-		Collection<?> pMovies = (Collection<?>) propertyGetter.invoke(p, "movies");
+		if (imdbProjection != null) {
+			return imdbProjection.areCouple(imdbProjection.personOrdinal(self), imdbProjection.personOrdinal(p), threshold);
+		}
+		if (personMovies != null || areCoupleMemo != null) {
+			int selfOrdinal = personOrdinals.get(self), pOrdinal = personOrdinals.get(p);
+			return areCoupleMemo != null ?
+				areCoupleMemo.test(selfOrdinal, pOrdinal, this::areCoupleOrdinals) :
+				areCoupleOrdinals(selfOrdinal, pOrdinal);
+		}
+		return areCoupleNavigated(self, p);
+	}
+	
+	/**
+	 * Unmemoised <code>areCouple</code> on person ordinals.
+	 */
+	protected boolean areCoupleOrdinals(int self, int p) {
+		if (personMovies != null) {
+			return IMDBProjection.intersectsAtLeast(
+				personMovies, personMovieOffsets[self], personMovieOffsets[self + 1],
+				personMovies, personMovieOffsets[p], personMovieOffsets[p + 1],
+				threshold
+			);
+		}
+		try {
+			return areCoupleNavigated(persons[self], persons[p]);
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	protected boolean areCoupleNavigated(Object self, Object p) throws EolRuntimeException {
+		Collection<?> selfMovies = (Collection<?>) get(self, "movies");
+		Collection<?> pMovies = (Collection<?>) get(p, "movies");
 		int excludingPMoviesSize = new IterableOperationContributor(selfMovies).excludingAll(pMovies).size();
 		int targetSize = selfMovies.size() - threshold;
 		return excludingPMoviesSize <= targetSize;
@@ -0,0 +1,44 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.commons.cli.Option;
+import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
+import org.eclipse.epsilon.performance.eol.BenchmarkProvider;
+
+/**
+ * The IMDb first-order operation queries. <code>imdb_filter</code> and <code>imdb_findAny</code>
+ * are aliases, matching the names of the equivalent EOL scripts.
+ *
+ * @author Sina Madani
+ */
+public class IMDBBenchmarks implements BenchmarkProvider {
+	
+	@Override
+	public Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> getBenchmarks() {
+		Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> benchmarks = new LinkedHashMap<>(8);
+		benchmarks.put("imdb_select", imdb_select::new);
+		benchmarks.put("imdb_count", imdb_count::new);
+		benchmarks.put("imdb_atLeastN", imdb_atLeastN::new);
+		benchmarks.put("imdb_selectOne", imdb_selectOne::new);
+		benchmarks.put("imdb_filter", imdb_select::new);
+		benchmarks.put("imdb_findAny", imdb_selectOne::new);
+		return benchmarks;
+	}
+	
+	@Override
+	public Collection<Option> getOptions() {
+		return AbstractIMDBQuery.createOptions();
+	}
+}
@@ -0,0 +1,281 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import java.util.*;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.introspection.IPropertyGetter;
+import org.eclipse.epsilon.eol.models.IModel;
+
+/**
+ * Read-only projection of an IMDb model into primitive arrays, for measuring how
+ * fast the queries could be without reflective navigation or EMF collections.
+ * Persons and movies are identified by their position in <code>getAllOfKind</code>,
+ * the Person to Movie and Movie to Person references are stored in compressed sparse
+ * row form (each row sorted by ordinal) and names are replaced by their rank.
+ * <br/>
+ * The projection is a snapshot: changes to the model after it was built are not reflected.
+ * All methods are safe to call from multiple threads.
+ *
+ * @see AbstractIMDBQuery
+ * @author Sina Madani
+ */
+public class IMDBProjection {
+	
+	protected final Object[] persons, movies;
+	protected final Map<Object, Integer> personOrdinals, movieOrdinals;
+	/**
+	 * Movies of person <code>p</code> are <code>personMovies[personMovieOffsets[p] .. personMovieOffsets[p+1])</code>.
+	 */
+	protected final int[] personMovieOffsets, personMovies;
+	/**
+	 * Persons of movie <code>m</code> are <code>moviePersons[moviePersonOffsets[m] .. moviePersonOffsets[m+1])</code>.
+	 */
+	protected final int[] moviePersonOffsets, moviePersons;
+	/**
+	 * Position of each person's name in lexicographic order, equal for equal names, or -1 if null.
+	 */
+	protected final int[] nameRanks;
+	/**
+	 * Per-thread scratch space for de-duplicating coactors.
+	 */
+	protected final ThreadLocal<boolean[]> visited;
+	
+	/**
+	 * Builds the projection by navigating every Person and Movie once.
+	 *
+	 * @param model The loaded IMDb model.
+	 * @param propertyGetter The model's property getter.
+	 * @return The projection of the model.
+	 * @throws EolRuntimeException If the model can't be navigated.
+	 */
+	public static IMDBProjection build(IModel model, IPropertyGetter propertyGetter) throws EolRuntimeException {
+		return new IMDBProjection(model, propertyGetter);
+	}
+	
+	protected IMDBProjection(IModel model, IPropertyGetter propertyGetter) throws EolRuntimeException {
+		persons = model.getAllOfKind("Person").toArray();
+		movies = model.getAllOfKind("Movie").toArray();
+		personOrdinals = ordinals(persons);
+		movieOrdinals = ordinals(movies);
+		
+		personMovieOffsets = new int[persons.length + 1];
+		personMovies = adjacency(persons, "movies", movieOrdinals, personMovieOffsets, propertyGetter);
+		moviePersonOffsets = new int[movies.length + 1];
+		moviePersons = adjacency(movies, "persons", personOrdinals, moviePersonOffsets, propertyGetter);
+		
+		String[] names = new String[persons.length];
+		for (int p = 0; p < persons.length; p++) {
+			names[p] = (String) propertyGetter.invoke(persons[p], "name");
+		}
+		nameRanks = ranks(names);
+		
+		int personCount = persons.length;
+		visited = ThreadLocal.withInitial(() -> new boolean[personCount]);
+	}
+	
+	static Map<Object, Integer> ordinals(Object[] elements) {
+		Map<Object, Integer> ordinals = new IdentityHashMap<>(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			ordinals.put(elements[i], i);
+		}
+		return ordinals;
+	}
+	
+	static int[] adjacency(Object[] sources, String property, Map<Object, Integer> targetOrdinals, int[] offsets, IPropertyGetter propertyGetter) throws EolRuntimeException {
+		int[][] rows = new int[sources.length][];
+		int total = 0;
+		for (int s = 0; s < sources.length; s++) {
+			Collection<?> targets = (Collection<?>) propertyGetter.invoke(sources[s], property);
+			int[] row = new int[targets.size()];
+			int n = 0;
+			for (Object target : targets) {
+				Integer ordinal = targetOrdinals.get(target);
+				if (ordinal != null) {
+					row[n++] = ordinal;
+				}
+			}
+			row = n < row.length ? Arrays.copyOf(row, n) : row;
+			Arrays.sort(row);
+			rows[s] = row;
+			total += n;
+		}
+		
+		int[] targets = new int[total];
+		for (int s = 0, offset = 0; s < sources.length; s++) {
+			offsets[s] = offset;
+			System.arraycopy(rows[s], 0, targets, offset, rows[s].length);
+			offset += rows[s].length;
+		}
+		offsets[sources.length] = total;
+		return targets;
+	}
+	
+	static int[] ranks(String[] names) {
+		Integer[] order = new Integer[names.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(i -> names[i], Comparator.nullsLast(Comparator.naturalOrder())));
+		
+		int[] ranks = new int[names.length];
+		int rank = -1;
+		String previous = null;
+		for (int i = 0; i < order.length; i++) {
+			String name = names[order[i]];
+			if (name == null) {
+				ranks[order[i]] = -1;
+				continue;
+			}
+			if (i == 0 || !name.equals(previous)) {
+				rank = i;
+				previous = name;
+			}
+			ranks[order[i]] = rank;
+		}
+		return ranks;
+	}
+	
+	public int personCount() {
+		return persons.length;
+	}
+	
+	public int movieCount() {
+		return movies.length;
+	}
+	
+	public int personOrdinal(Object person) {
+		return personOrdinals.get(person);
+	}
+	
+	public int movieOrdinal(Object movie) {
+		return movieOrdinals.get(movie);
+	}
+	
+	public Object getPerson(int person) {
+		return persons[person];
+	}
+	
+	public int movieCount(int person) {
+		return personMovieOffsets[person + 1] - personMovieOffsets[person];
+	}
+	
+	/**
+	 * Equivalent of <code>self.movies->collect(persons)->flatten()->asSet()</code>.
+	 *
+	 * @param self The person ordinal.
+	 * @return The ordinals of the distinct coactors (including <code>self</code>).
+	 */
+	public int[] coactors(int self) {
+		boolean[] seen = visited.get();
+		int[] result = new int[16];
+		int n = 0;
+		for (int mi = personMovieOffsets[self]; mi < personMovieOffsets[self + 1]; mi++) {
+			int movie = personMovies[mi];
+			for (int pi = moviePersonOffsets[movie]; pi < moviePersonOffsets[movie + 1]; pi++) {
+				int person = moviePersons[pi];
+				if (!seen[person]) {
+					seen[person] = true;
+					if (n == result.length) {
+						result = Arrays.copyOf(result, n << 1);
+					}
+					result[n++] = person;
+				}
+			}
+		}
+		// Only the visited entries need to be cleared for the next call on this thread
+		for (int i = 0; i < n; i++) {
+			seen[result[i]] = false;
+		}
+		return Arrays.copyOf(result, n);
+	}
+	
+	/**
+	 * Equivalent of <code>self.movies->excludingAll(p.movies)->size() <= (self.movies->size() - threshold)</code>,
+	 * i.e. whether the two persons share at least <code>threshold</code> movies.
+	 *
+	 * @param self The person ordinal.
+	 * @param p The other person ordinal.
+	 * @param threshold The minimum number of common movies.
+	 * @return Whether the persons are a couple.
+	 */
+	public boolean areCouple(int self, int p, int threshold) {
+		return intersectsAtLeast(
+			personMovies, personMovieOffsets[self], personMovieOffsets[self + 1],
+			personMovies, personMovieOffsets[p], personMovieOffsets[p + 1],
+			threshold
+		);
+	}
+	
+	/**
+	 * Merges two sorted ranges of distinct values, stopping as soon as enough common values are found.
+	 *
+	 * @return Whether <code>a[aFrom..aTo)</code> and <code>b[bFrom..bTo)</code> have at least <code>threshold</code> values in common.
+	 */
+	static boolean intersectsAtLeast(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, int threshold) {
+		if (threshold <= 0) return true;
+		int i = aFrom, j = bFrom, common = 0;
+		while (i < aTo && j < bTo) {
+			int x = a[i], y = b[j];
+			if (x == y) {
+				if (++common >= threshold) return true;
+				i++;
+				j++;
+			}
+			else if (x < y) i++;
+			else j++;
+		}
+		return false;
+	}
+	
+	/**
+	 * Equivalent of <code>self.name < co.name and co.movies->size() >= threshold and self.areCouple(co)</code>.
+	 * Null names never satisfy the comparison.
+	 */
+	public boolean areCoupleCoactors(int self, int co, int threshold) {
+		int selfRank = nameRanks[self], coRank = nameRanks[co];
+		return selfRank >= 0 && coRank >= 0 && selfRank < coRank &&
+			movieCount(co) >= threshold && areCouple(self, co, threshold);
+	}
+	
+	public boolean hasCoupleCoactors(int self, int threshold) {
+		for (int co : coactors(self)) {
+			if (areCoupleCoactors(co, self, threshold)) return true;
+		}
+		return false;
+	}
+	
+	public boolean hasCoupleCoactorsRare(int self, int threshold, int n) {
+		int nTarget = movieCount(self) + n, count = 0;
+		for (int co : coactors(self)) {
+			if (areCoupleCoactors(co, self, threshold)) {
+				count++;
+			}
+		}
+		return count == nTarget;
+	}
+	
+	/**
+	 * Equivalent of {@link AbstractIMDBQuery#nestedActors(Object)}. Since the persons of the
+	 * movie and the first <code>personCount / n</code> persons are compared by identity hash code
+	 * and then by number of movies, this is whether any of the movie's persons is among them.
+	 *
+	 * @param movie The movie ordinal.
+	 * @param n The divisor for the number of persons to compare with.
+	 * @return Whether the movie has any of the first persons.
+	 */
+	public boolean nestedActors(int movie, int n) {
+		int toIndex = persons.length / n;
+		for (int pi = moviePersonOffsets[movie]; pi < moviePersonOffsets[movie + 1]; pi++) {
+			if (moviePersons[pi] < toIndex) return true;
+		}
+		return false;
+	}
+}
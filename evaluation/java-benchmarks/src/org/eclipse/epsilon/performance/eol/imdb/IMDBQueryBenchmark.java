@@ -0,0 +1,199 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH harness for the hand-written Java equivalents of the IMDb first-order
+ * operation queries, so that they can be compared with the EOL and OCL results
+ * with warmup, multiple forks and dead-code elimination taken care of.
+ * The model is loaded once per trial and each invocation only runs {@link AbstractBenchmark#executeQuery()}.
+ * <br/>
+ * The locations of the models, metamodel and scripts are taken from the
+ * <code>imdb.modelDir</code>, <code>imdb.metamodel</code> and <code>imdb.scriptDir</code>
+ * system properties, which are passed on to the forked JVMs. Model names are the
+ * same as in the evaluation superscript, without the extension. For example:
+ * <pre>
+ * java -Dimdb.modelDir=/models/ -Dimdb.metamodel=/metamodels/movies.ecore
+ *   -cp java-benchmarks.jar org.eclipse.epsilon.performance.eol.imdb.IMDBQueryBenchmark
+ *   -p model=imdb-0.5 -p query=imdb_select
+ * </pre>
+ * Any JMH command-line options can be given, which override the defaults below.
+ * The primitive projection of the model can be compared using <code>-p projection=false,true</code>,
+ * copied with cached extents using <code>-p extentCache=true,false</code>,
+ * reflective with cached property access using <code>-p reflective=false,true</code>, and
+ * cost-weighted with uniform splitting of parallel streams using <code>-p parallel=true -p uniformSplit=false,true</code>.
+ * Thread-scaling curves can be measured with e.g. <code>-p parallel=true -p backend=forkjoin,threadpool -p threads=1,2,4,8</code>.
+ * The GC profiler is enabled, so the allocation per operation (<code>gc.alloc.rate.norm</code>)
+ * is reported alongside the time, e.g. to compare the bitmap and hash set coactors
+ * using <code>-p bitmaps=false,true</code>.
+ * <br/>
+ * JMH is optional for the rest of the bundle. Compiling this class requires the JMH annotation
+ * processor, which generates the benchmark list; in Eclipse it is configured in <code>.factorypath</code>.
+ *
+ * @author Sina Madani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-XX:+UseParallelGC"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class IMDBQueryBenchmark {
+	
+	public static void main(String... args) throws Exception {
+		new Runner(new OptionsBuilder()
+			.parent(new CommandLineOptions(args))
+			.include(IMDBQueryBenchmark.class.getName())
+			.addProfiler(GCProfiler.class)
+			.build()
+		).run();
+	}
+	
+	@Param({"imdb_select", "imdb_count", "imdb_atLeastN", "imdb_selectOne"})
+	public String query;
+	
+	@Param({"imdb-0.1", "imdb-0.5", "imdb-1.0"})
+	public String model;
+	
+	@Param({"false", "true"})
+	public boolean parallel;
+	
+	/**
+	 * Whether to query an {@link IMDBProjection} instead of the EMF model.
+	 */
+	@Param({"false"})
+	public boolean projection;
+	
+	/**
+	 * Whether to reuse extents within each execution, or copy them on every access like the EOL engine.
+	 */
+	@Param({"true"})
+	public boolean extentCache;
+	
+	/**
+	 * Whether to collect coactors into an {@link IntBitmap} instead of a hash set.
+	 */
+	@Param({"false"})
+	public boolean bitmaps;
+	
+	/**
+	 * Whether <code>areCouple</code> intersects sorted arrays of movie ordinals.
+	 */
+	@Param({"false"})
+	public boolean sortedIntersection;
+	
+	/**
+	 * Maximum number of memoised <code>areCouple</code> results, or 0 to disable memoisation.
+	 */
+	@Param({"0"})
+	public long memoSize;
+	
+	/**
+	 * Whether to navigate the model through the reflective property getter rather than cached accessors.
+	 */
+	@Param({"false"})
+	public boolean reflective;
+	
+	/**
+	 * Whether parallel streams split the extent by number of elements rather than by estimated cost.
+	 */
+	@Param({"false"})
+	public boolean uniformSplit;
+	
+	/**
+	 * The {@link org.eclipse.epsilon.performance.eol.ExecutionBackend} for parallel queries.
+	 */
+	@Param({"common"})
+	public String backend;
+	
+	/**
+	 * The number of threads for the backend, or 0 for the number of processors.
+	 */
+	@Param({"0"})
+	public int threads;
+	
+	protected AbstractBenchmark benchmark;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		Path scriptDir = Paths.get(System.getProperty("imdb.scriptDir", "."));
+		Path modelDir = Paths.get(System.getProperty("imdb.modelDir", "."));
+		Path metamodel = Paths.get(System.getProperty("imdb.metamodel", "movies.ecore"));
+		
+		List<String> args = new ArrayList<>(11);
+		args.add(scriptDir.resolve(query+".eol").toAbsolutePath().toString());
+		args.add("-models");
+		args.add("emf.EmfModel#cached=true,concurrent=true"+
+			",fileBasedMetamodelUri="+metamodel.toAbsolutePath().toUri()+
+			",modelUri="+modelDir.resolve(model+".xmi").toAbsolutePath().toUri()
+		);
+		if (parallel) {
+			args.add("-parallel");
+		}
+		if (projection) {
+			args.add("-projection");
+		}
+		if (!extentCache) {
+			args.add("-noExtentCache");
+		}
+		if (bitmaps) {
+			args.add("-bitmaps");
+		}
+		if (sortedIntersection) {
+			args.add("-sortedIntersection");
+		}
+		if (memoSize > 0) {
+			args.add("-memoSize");
+			args.add(Long.toString(memoSize));
+		}
+		if (reflective) {
+			args.add("-reflective");
+		}
+		if (uniformSplit) {
+			args.add("-uniformSplit");
+		}
+		args.add("-backend");
+		args.add(backend);
+		if (threads > 0) {
+			args.add("-parallelism");
+			args.add(Integer.toString(threads));
+		}
+		
+		benchmark = AbstractBenchmark.fromArgs(args.toArray(new String[args.size()]));
+		benchmark.setUp();
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (benchmark != null) {
+			benchmark.tearDown();
+			benchmark = null;
+		}
+	}
+	
+	@Benchmark
+	public void execute(Blackhole blackhole) throws EolRuntimeException {
+		blackhole.consume(benchmark.executeQuery());
+	}
+}
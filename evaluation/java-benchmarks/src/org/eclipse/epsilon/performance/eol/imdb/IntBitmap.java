@@ -0,0 +1,241 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Compressed set of non-negative ints, in the style of Roaring bitmaps. Values are
+ * partitioned by their upper 16 bits into containers, kept sorted by key. Each container holds
+ * the lower 16 bits either as a sorted array (when sparse) or as a 2<sup>16</sup> bit
+ * bitmap (once it holds more than {@value #ARRAY_MAX} values).
+ * <br/>
+ * This is a minimal implementation covering what the IMDb queries need, namely
+ * insertion and iteration in ascending order. It is not thread-safe.
+ *
+ * @author Sina Madani
+ */
+public class IntBitmap {
+	
+	static final int ARRAY_MAX = 4096;
+	
+	protected char[] keys = new char[4];
+	protected Container[] containers = new Container[4];
+	protected int size, cardinality;
+	
+	/**
+	 *
+	 * @param value The value to add.
+	 * @return <code>true</code> if the value was not already present.
+	 */
+	public boolean add(int value) {
+		char key = (char) (value >>> 16);
+		int index = Arrays.binarySearch(keys, 0, size, key);
+		if (index < 0) {
+			index = -index - 1;
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, size << 1);
+				containers = Arrays.copyOf(containers, size << 1);
+			}
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(containers, index, containers, index + 1, size - index);
+			keys[index] = key;
+			containers[index] = new ArrayContainer();
+			size++;
+		}
+		Container container = containers[index];
+		int before = container.cardinality();
+		containers[index] = container = container.add((char) value);
+		if (container.cardinality() > before) {
+			cardinality++;
+			return true;
+		}
+		return false;
+	}
+	
+	public boolean contains(int value) {
+		int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+		return index >= 0 && containers[index].contains((char) value);
+	}
+	
+	public int cardinality() {
+		return cardinality;
+	}
+	
+	/**
+	 *
+	 * @return The approximate number of bytes used by the containers' data.
+	 */
+	public long sizeInBytes() {
+		long bytes = keys.length * Character.BYTES + containers.length * 4L;
+		for (int i = 0; i < size; i++) {
+			bytes += containers[i].sizeInBytes();
+		}
+		return bytes;
+	}
+	
+	/**
+	 * Estimates the size of a <code>HashSet</code> of boxed values with the same cardinality,
+	 * for comparison with {@link #sizeInBytes()}. Assumes compressed references, the default
+	 * load factor and that the boxed values are not cached.
+	 *
+	 * @param cardinality The number of values.
+	 * @return The approximate number of bytes used by the set, its table, entries and values.
+	 */
+	public static long hashSetSizeInBytes(int cardinality) {
+		int capacity = Integer.highestOneBit(Math.max((int) (cardinality / 0.75f) + 1, 16) - 1) << 1;
+		// HashSet and HashMap objects, table array, and a node and Integer per value
+		return 16 + 48 + 16 + capacity * 4L + cardinality * (32L + 16L);
+	}
+	
+	public void forEach(IntConsumer action) {
+		for (int i = 0; i < size; i++) {
+			int high = keys[i] << 16;
+			containers[i].anyMatch(low -> {
+				action.accept(high | low);
+				return false;
+			});
+		}
+	}
+	
+	/**
+	 * Tests the values in ascending order, stopping at the first match.
+	 *
+	 * @param predicate The condition.
+	 * @return Whether any value satisfies the predicate.
+	 */
+	public boolean anyMatch(IntPredicate predicate) {
+		for (int i = 0; i < size; i++) {
+			int high = keys[i] << 16;
+			if (containers[i].anyMatch(low -> predicate.test(high | low))) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	public int count(IntPredicate predicate) {
+		int[] count = {0};
+		forEach(value -> {
+			if (predicate.test(value)) count[0]++;
+		});
+		return count[0];
+	}
+	
+	static abstract class Container {
+		/**
+		 *
+		 * @return This container, or its replacement if the representation changed.
+		 */
+		abstract Container add(char low);
+		abstract boolean contains(char low);
+		abstract int cardinality();
+		abstract long sizeInBytes();
+		abstract boolean anyMatch(IntPredicate predicate);
+	}
+	
+	static final class ArrayContainer extends Container {
+		char[] values = new char[4];
+		int n;
+		
+		@Override
+		Container add(char low) {
+			int index = Arrays.binarySearch(values, 0, n, low);
+			if (index >= 0) return this;
+			if (n == ARRAY_MAX) {
+				return new BitmapContainer(this).add(low);
+			}
+			index = -index - 1;
+			if (n == values.length) {
+				values = Arrays.copyOf(values, Math.min(n << 1, ARRAY_MAX));
+			}
+			System.arraycopy(values, index, values, index + 1, n - index);
+			values[index] = low;
+			n++;
+			return this;
+		}
+		
+		@Override
+		boolean contains(char low) {
+			return Arrays.binarySearch(values, 0, n, low) >= 0;
+		}
+		
+		@Override
+		int cardinality() {
+			return n;
+		}
+		
+		@Override
+		long sizeInBytes() {
+			return values.length * Character.BYTES + Integer.BYTES;
+		}
+		
+		@Override
+		boolean anyMatch(IntPredicate predicate) {
+			for (int i = 0; i < n; i++) {
+				if (predicate.test(values[i])) return true;
+			}
+			return false;
+		}
+	}
+	
+	static final class BitmapContainer extends Container {
+		final long[] words = new long[1 << 10];
+		int n;
+		
+		BitmapContainer(ArrayContainer array) {
+			for (int i = 0; i < array.n; i++) {
+				char low = array.values[i];
+				words[low >>> 6] |= 1L << low;
+			}
+			n = array.n;
+		}
+		
+		@Override
+		Container add(char low) {
+			long word = words[low >>> 6], bit = 1L << low;
+			if ((word & bit) == 0) {
+				words[low >>> 6] = word | bit;
+				n++;
+			}
+			return this;
+		}
+		
+		@Override
+		boolean contains(char low) {
+			return (words[low >>> 6] & (1L << low)) != 0;
+		}
+		
+		@Override
+		int cardinality() {
+			return n;
+		}
+		
+		@Override
+		long sizeInBytes() {
+			return words.length * Long.BYTES + Integer.BYTES;
+		}
+		
+		@Override
+		boolean anyMatch(IntPredicate predicate) {
+			for (int w = 0; w < words.length; w++) {
+				long word = words[w];
+				while (word != 0) {
+					int bit = Long.numberOfTrailingZeros(word);
+					if (predicate.test((w << 6) | bit)) return true;
+					word &= word - 1;
+				}
+			}
+			return false;
+		}
+	}
+}
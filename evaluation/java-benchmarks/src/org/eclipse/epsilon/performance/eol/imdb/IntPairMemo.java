@@ -0,0 +1,158 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, thread-safe memo of a boolean function of two ints, such as
+ * <code>areCouple</code> on person ordinals. Unlike <code>@cached</code> in EOL, the number
+ * of entries is bounded: the table is split into lock-striped segments, each of which
+ * evicts its least recently used entry when full. Since the result is computed
+ * outside of the lock, concurrent misses on the same pair may compute it more than once.
+ *
+ * @author Sina Madani
+ */
+public class IntPairMemo {
+	
+	@FunctionalInterface
+	public interface IntPairPredicate {
+		boolean test(int a, int b);
+	}
+	
+	static final int DEFAULT_STRIPES = 64;
+	
+	protected final Segment[] segments;
+	protected final int mask;
+	protected final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+	
+	/**
+	 *
+	 * @param maxEntries The maximum number of results to keep.
+	 */
+	public IntPairMemo(long maxEntries) {
+		this(maxEntries, DEFAULT_STRIPES);
+	}
+	
+	/**
+	 *
+	 * @param maxEntries The maximum number of results to keep.
+	 * @param stripes The number of independently locked segments, rounded up to a power of two.
+	 */
+	public IntPairMemo(long maxEntries, int stripes) {
+		int n = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+		int perSegment = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxEntries / n));
+		segments = new Segment[n];
+		for (int i = 0; i < n; i++) {
+			segments[i] = new Segment(perSegment);
+		}
+		mask = n - 1;
+	}
+	
+	/**
+	 * Looks up the cached result, computing and caching it if absent.
+	 *
+	 * @param a The first argument.
+	 * @param b The second argument.
+	 * @param function Computes the result on a miss.
+	 * @return The cached or computed result.
+	 */
+	public boolean test(int a, int b, IntPairPredicate function) {
+		long key = ((long) a << 32) | (b & 0xFFFFFFFFL);
+		Segment segment = segments[spread(key) & mask];
+		
+		Boolean cached;
+		synchronized (segment) {
+			cached = segment.get(key);
+		}
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		
+		misses.increment();
+		boolean result = function.test(a, b);
+		synchronized (segment) {
+			segment.put(key, result);
+		}
+		return result;
+	}
+	
+	static int spread(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+	
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	public long getMisses() {
+		return misses.sum();
+	}
+	
+	public long getEvictions() {
+		return evictions.sum();
+	}
+	
+	public double getHitRate() {
+		long h = getHits(), total = h + getMisses();
+		return total > 0 ? (double) h / total : 0;
+	}
+	
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+	
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return "Memo: "+getHits()+" hits, "+getMisses()+" misses ("+
+			Math.round(100 * getHitRate())+"% hit rate), "+
+			size()+" entries, "+getEvictions()+" evictions";
+	}
+	
+	@SuppressWarnings("serial")
+	final class Segment extends LinkedHashMap<Long, Boolean> {
+		final int capacity;
+		
+		Segment(int capacity) {
+			super(Math.min(capacity, 1 << 10), 0.75f, true);
+			this.capacity = capacity;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
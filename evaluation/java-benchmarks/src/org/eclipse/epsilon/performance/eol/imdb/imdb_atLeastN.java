@@ -9,11 +9,11 @@
 **********************************************************************/
 package org.eclipse.epsilon.performance.eol.imdb;
 
-import java.util.stream.StreamSupport;
-import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.ShortCircuitMatching;
 
 /**
+ * Stops evaluating movies as soon as N of them have nested actors.
  *
  * @author Sina Madani
  */
@@ -22,13 +22,21 @@ public class imdb_atLeastN extends AbstractIMDBQuery {
 	public imdb_atLeastN(Builder<?, ?> builder) {
 		super(builder);
 	}
+	
+	protected ShortCircuitMatching.Result result;
 
 	@Override
-	protected Boolean execute() throws EolRuntimeException {
-		return BenchmarkUtils.profileExecutionStage(profiledStages, "execute()", () -> {
-			return StreamSupport.stream(model.getAllOfKind("Movie").spliterator(), parallel)
-				.filter(this::nestedActors)
-				.count() <= getN();
-		});
+	public Boolean query() throws EolRuntimeException {
+		ShortCircuitMatching.Counter<Object> counter = ShortCircuitMatching.atLeastN(this::nestedActors, getN());
+		result = evaluateAllOfKind("Movie", counter::count, (a, b) -> counter.getResult());
+		return result.getValue();
+	}
+	
+	@Override
+	protected void postExecute() throws Exception {
+		super.postExecute();
+		if (result != null && profileExecution) {
+			writeOut("atLeastNMatch: "+result);
+		}
 	}
 }
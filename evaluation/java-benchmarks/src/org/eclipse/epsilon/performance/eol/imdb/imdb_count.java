@@ -9,8 +9,6 @@
 **********************************************************************/
 package org.eclipse.epsilon.performance.eol.imdb;
 
-import java.util.stream.StreamSupport;
-import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
 
 /**
@@ -24,11 +22,16 @@ public class imdb_count extends AbstractIMDBQuery {
 	}
 	
 	@Override
-	protected Number execute() throws EolRuntimeException {
-		return BenchmarkUtils.profileExecutionStage(profiledStages, "execute()", () -> {
-			return StreamSupport.stream(model.getAllOfKind("Person").spliterator(), parallel)
-				.filter(this::hasCoupleCoactors)
-				.count();
-		});
+	protected void prepare() throws Exception {
+		super.prepare();
+		weighExtent("Person", this::personCost);
+	}
+	
+	@Override
+	public Number query() throws EolRuntimeException {
+		return evaluateAllOfKind("Person",
+			persons -> persons.filter(this::hasCoupleCoactors).count(),
+			Long::sum
+		);
 	}
 }
@@ -1,21 +0,0 @@
-/*********************************************************************
- * Copyright (c) 2020 The University of York.
- *
- * This program and the accompanying materials are made
- * available under the terms of the Eclipse Public License 2.0
- * which is available at https://www.eclipse.org/legal/epl-2.0/
- *
- * SPDX-License-Identifier: EPL-2.0
-**********************************************************************/
-package org.eclipse.epsilon.performance.eol.imdb;
-
-/**
- * 
- * @author Sina Madani
- */
-public class imdb_findAny extends imdb_selectOne {
-	
-	public imdb_findAny(Builder<?, ?> builder) {
-		super(builder);
-	}
-}
@@ -10,8 +10,6 @@
 package org.eclipse.epsilon.performance.eol.imdb;
 
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
 
 /**
@@ -25,12 +23,19 @@ public class imdb_select extends AbstractIMDBQuery {
 	}
 	
 	@Override
-	protected Number execute() throws EolRuntimeException {
-		return BenchmarkUtils.profileExecutionStage(profiledStages, "execute()", () -> {
-			return StreamSupport.stream(model.getAllOfKind("Person").spliterator(), parallel)
-				.filter(this::hasCoupleCoactors)
-				.collect(Collectors.toList())
-				.size();
-		});
+	protected void prepare() throws Exception {
+		super.prepare();
+		weighExtent("Person", this::personCost);
+	}
+	
+	@Override
+	public Number query() throws EolRuntimeException {
+		return evaluateAllOfKind("Person",
+			persons -> persons.filter(this::hasCoupleCoactors).collect(Collectors.toList()),
+			(a, b) -> {
+				a.addAll(b);
+				return a;
+			}
+		).size();
 	}
 }
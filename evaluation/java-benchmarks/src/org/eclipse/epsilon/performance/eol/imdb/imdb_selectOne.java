@@ -9,11 +9,15 @@
 **********************************************************************/
 package org.eclipse.epsilon.performance.eol.imdb;
 
-import java.util.stream.StreamSupport;
 import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.CancellableSearch;
 
 /**
+ * In parallel, the search is run by a {@link CancellableSearch} on the backend's executor rather
+ * than with <code>findAny()</code>. When profiling, the time until the match is found and
+ * the time from then until all tasks have stopped are recorded as separate stages,
+ * and the number of evaluations wasted after the match is written out.
  * 
  * @author Sina Madani
  */
@@ -23,12 +27,43 @@ public class imdb_selectOne extends AbstractIMDBQuery {
 		super(builder);
 	}
 	
+	protected CancellableSearch<Object> search;
+	
 	@Override
-	protected Object execute() throws EolRuntimeException {
-		return BenchmarkUtils.profileExecutionStage(profiledStages, "execute()", () -> {
-			return StreamSupport.stream(model.getAllOfKind("Person").spliterator(), parallel)
+	public Object query() throws EolRuntimeException {
+		if (!parallel) {
+			return streamAllOfKind("Person")
 				.filter(this::hasCoupleCoactorsRare)
 				.findAny().orElse(null);
-		});
+		}
+		
+		CancellableSearch<Object> search = this.search =
+			new CancellableSearch<>(spliterateAllOfKind("Person"), this::hasCoupleCoactorsRare)
+			.start(backend.getExecutor(), backend.getParallelism());
+		try {
+			if (!profileExecution) {
+				return search.awaitQuiescence();
+			}
+			Object result = BenchmarkUtils.profileExecutionStage(profiledStages, "Time to first match",
+				() -> search.awaitFirstMatch()
+			);
+			// Measured from the first match
+			BenchmarkUtils.profileExecutionStage(profiledStages, "Time to quiescence",
+				() -> search.awaitQuiescence()
+			);
+			return result;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	@Override
+	protected void postExecute() throws Exception {
+		super.postExecute();
+		if (search != null && profileExecution) {
+			writeOut(search);
+		}
 	}
 }
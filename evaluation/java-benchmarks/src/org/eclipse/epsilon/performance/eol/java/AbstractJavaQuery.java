@@ -0,0 +1,65 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.java;
+
+import java.util.Collection;
+import java.util.StringJoiner;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
+
+/**
+ * Java equivalents of the expressions in the javaMM first-order operation scripts.
+ *
+ * @see java_collect.eol
+ * @author Sina Madani
+ */
+public abstract class AbstractJavaQuery extends AbstractBenchmark {
+	
+	protected AbstractJavaQuery(Builder<?, ?> builder) {
+		super(builder);
+	}
+	
+	protected Collection<?> getParameters(Object method) {
+		try {
+			return (Collection<?>) get(method, "parameters");
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * 
+	 * @param self The method declaration.
+	 * @return <code>self.name + '(' + self.parameters.collect(p | p.name).concat(',') + ')'</code>
+	 */
+	protected String signature(Object self) {
+		try {
+			StringJoiner params = new StringJoiner(",", "(", ")");
+			for (Object param : getParameters(self)) {
+				params.add(String.valueOf(get(param, "name")));
+			}
+			return get(self, "name") + params.toString();
+		}
+		catch (EolRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Estimated cost of {@link #signature(Object)}.
+	 * 
+	 * @param self The method declaration.
+	 * @return The number of parameters.
+	 */
+	protected long parametersCost(Object self) {
+		return getParameters(self).size();
+	}
+}
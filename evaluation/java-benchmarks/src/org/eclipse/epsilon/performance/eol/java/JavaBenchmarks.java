@@ -0,0 +1,31 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.java;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.epsilon.performance.eol.AbstractBenchmark;
+import org.eclipse.epsilon.performance.eol.BenchmarkProvider;
+
+/**
+ * The javaMM first-order operation queries.
+ *
+ * @author Sina Madani
+ */
+public class JavaBenchmarks implements BenchmarkProvider {
+	
+	@Override
+	public Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> getBenchmarks() {
+		Map<String, Function<AbstractBenchmark.Builder<?, ?>, ? extends AbstractBenchmark>> benchmarks = new LinkedHashMap<>(2);
+		benchmarks.put("java_collect", java_collect::new);
+		return benchmarks;
+	}
+}
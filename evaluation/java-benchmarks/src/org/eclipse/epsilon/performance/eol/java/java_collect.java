@@ -0,0 +1,41 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.java;
+
+import java.util.stream.Collectors;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+
+/**
+ * 
+ * @author Sina Madani
+ */
+public class java_collect extends AbstractJavaQuery {
+	
+	public java_collect(Builder<?, ?> builder) {
+		super(builder);
+	}
+	
+	@Override
+	protected void prepare() throws Exception {
+		super.prepare();
+		weighExtent("MethodDeclaration", this::parametersCost);
+	}
+	
+	@Override
+	public Number query() throws EolRuntimeException {
+		return evaluateAllOfKind("MethodDeclaration",
+			methods -> methods.map(this::signature).collect(Collectors.toSet()),
+			(a, b) -> {
+				a.addAll(b);
+				return a;
+			}
+		).size();
+	}
+}
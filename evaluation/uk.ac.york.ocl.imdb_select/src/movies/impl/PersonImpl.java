@@ -12,15 +12,14 @@ import movies.Movie;
 import movies.MoviesPackage;
 import movies.Person;
 
+import movies.util.MoviesQueries;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
-import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
-import org.eclipse.emf.common.util.WrappedException;
 
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EOperation;
 import org.eclipse.emf.ecore.InternalEObject;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
@@ -130,104 +129,43 @@ public abstract class PersonImpl extends MinimalEObjectImpl.Container implements
 	}
 
 	/**
-	 * The cached invocation delegate for the '{@link #coactors() <em>Coactors</em>}' operation.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @see #coactors()
-	 * @generated
-	 * @ordered
+	 * @generated NOT
 	 */
-	protected static final EOperation.Internal.InvocationDelegate COACTORS__EINVOCATION_DELEGATE = ((EOperation.Internal)MoviesPackage.Literals.PERSON___COACTORS).getInvocationDelegate();
-
-	/**
-	 * <!-- begin-user-doc -->
-	 * <!-- end-user-doc -->
-	 * @generated
-	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public EList<Person> coactors() {
-		try {
-			return (EList<Person>)COACTORS__EINVOCATION_DELEGATE.dynamicInvoke(this, null);
-		}
-		catch (InvocationTargetException ite) {
-			throw new WrappedException(ite);
-		}
+		return MoviesQueries.coactors(this);
 	}
 
-	/**
-	 * The cached invocation delegate for the '{@link #areCouple(movies.Person) <em>Are Couple</em>}' operation.
-	 * <!-- begin-user-doc -->
-	 * <!-- end-user-doc -->
-	 * @see #areCouple(movies.Person)
-	 * @generated
-	 * @ordered
-	 */
-	protected static final EOperation.Internal.InvocationDelegate ARE_COUPLE_PERSON__EINVOCATION_DELEGATE = ((EOperation.Internal)MoviesPackage.Literals.PERSON___ARE_COUPLE__PERSON).getInvocationDelegate();
-
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public Boolean areCouple(Person p) {
-		try {
-			return (Boolean)ARE_COUPLE_PERSON__EINVOCATION_DELEGATE.dynamicInvoke(this, new BasicEList.UnmodifiableEList<Object>(1, new Object[]{p}));
-		}
-		catch (InvocationTargetException ite) {
-			throw new WrappedException(ite);
-		}
+		return MoviesQueries.areCouple(this, p);
 	}
 
 	/**
-	 * The cached invocation delegate for the '{@link #areCoupleCoactors(movies.Person) <em>Are Couple Coactors</em>}' operation.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @see #areCoupleCoactors(movies.Person)
-	 * @generated
-	 * @ordered
-	 */
-	protected static final EOperation.Internal.InvocationDelegate ARE_COUPLE_COACTORS_PERSON__EINVOCATION_DELEGATE = ((EOperation.Internal)MoviesPackage.Literals.PERSON___ARE_COUPLE_COACTORS__PERSON).getInvocationDelegate();
-
-	/**
-	 * <!-- begin-user-doc -->
-	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public Boolean areCoupleCoactors(Person co) {
-		try {
-			return (Boolean)ARE_COUPLE_COACTORS_PERSON__EINVOCATION_DELEGATE.dynamicInvoke(this, new BasicEList.UnmodifiableEList<Object>(1, new Object[]{co}));
-		}
-		catch (InvocationTargetException ite) {
-			throw new WrappedException(ite);
-		}
+		return MoviesQueries.areCoupleCoactors(this, co);
 	}
 
 	/**
-	 * The cached invocation delegate for the '{@link #QUERY() <em>QUERY</em>}' operation.
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @see #QUERY()
-	 * @generated
-	 * @ordered
-	 */
-	protected static final EOperation.Internal.InvocationDelegate QUERY__EINVOCATION_DELEGATE = ((EOperation.Internal)MoviesPackage.Literals.PERSON___QUERY).getInvocationDelegate();
-
-	/**
-	 * <!-- begin-user-doc -->
-	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public BigInteger QUERY() {
-		try {
-			return (BigInteger)QUERY__EINVOCATION_DELEGATE.dynamicInvoke(this, null);
-		}
-		catch (InvocationTargetException ite) {
-			throw new WrappedException(ite);
-		}
+		return MoviesQueries.QUERY(MoviesQueries.allPersons(this), false);
 	}
 
 	/**
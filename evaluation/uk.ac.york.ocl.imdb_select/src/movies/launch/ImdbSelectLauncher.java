@@ -11,26 +11,35 @@ package movies.launch;
 
 import movies.MoviesPackage;
 import movies.Person;
+import movies.util.MoviesQueries;
 import uk.ac.york.ocl.standalone.*;
 
 /**
  * Entry point for evaluating compiled version of imdb_select.ocl
+ * Setting <code>-Dimdb_select.parallel=true</code> evaluates the
+ * outer select of the query in parallel. The -memoize option
+ * caches the results of coactors and areCouple.
  *
  * @author Sina Madani
  */
 public class ImdbSelectLauncher {
 
 	public static void main(String... args) throws Exception {
+		final boolean parallel = Boolean.getBoolean("imdb_select.parallel");
+		
 		new StandaloneOcl(StandaloneOclConfigParser
 			.compiledInstanceBuilder(MoviesPackage.eINSTANCE, args)
 		) {
 			@Override
 			protected java.math.BigInteger executeImpl() {
+				MoviesQueries.setMemoCache(memoCache);
 				Person element = (Person) getModelElementByType(MoviesPackage.eINSTANCE.getEClassifier("Person"));
 				if (element == null) {
 					throw new IllegalStateException("Could not find Person in "+modelUri);
 				}
-				return element.QUERY();
+				return parallel ?
+					MoviesQueries.QUERY(MoviesQueries.allPersons(element), true) :
+					element.QUERY();
 			}
 		}
 		.run();
@@ -0,0 +1,148 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package movies.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import movies.Movie;
+import movies.Person;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import uk.ac.york.ocl.standalone.OclMemoCache;
+
+/**
+ * Direct Java translation of the <code>def:</code> operations in imdb_select.ocl,
+ * used by the compiled implementation in {@link movies.impl.PersonImpl} instead of
+ * OCL invocation delegates. Null names are treated as unsatisfying the comparison
+ * rather than propagating invalid.
+ * <br/>
+ * The outer <code>Person.allInstances()->select</code> can optionally be
+ * evaluated in parallel, for comparison with the parallel EOL and Java queries.
+ * <code>coactors</code> and <code>areCouple</code> can also be memoised by
+ * setting an {@link OclMemoCache}, like the <code>@cached</code> operations in EOL.
+ *
+ * @author Sina Madani
+ */
+public final class MoviesQueries {
+	
+	static final int THRESHOLD = 3;
+	static final String COACTORS = "coactors", ARE_COUPLE = "areCouple";
+	
+	private static volatile OclMemoCache memoCache;
+	
+	private MoviesQueries() {}
+	
+	/**
+	 * 
+	 * @param cache The cache for def: results, or <code>null</code> to disable memoisation.
+	 */
+	public static void setMemoCache(OclMemoCache cache) {
+		memoCache = cache;
+	}
+	
+	public static OclMemoCache getMemoCache() {
+		return memoCache;
+	}
+	
+	/**
+	 * <code>self.movies->collect(persons)->flatten()->asSet()</code>
+	 */
+	public static EList<Person> coactors(Person self) {
+		OclMemoCache cache = memoCache;
+		return cache != null ? cache.get(self, COACTORS, () -> computeCoactors(self)) : computeCoactors(self);
+	}
+	
+	static EList<Person> computeCoactors(Person self) {
+		Set<Person> coactors = new LinkedHashSet<>();
+		for (Movie movie : self.getMovies()) {
+			coactors.addAll(movie.getPersons());
+		}
+		return new BasicEList.UnmodifiableEList<>(coactors.size(), coactors.toArray());
+	}
+	
+	/**
+	 * <code>self.movies->excludingAll(p.movies)->size() <= (self.movies->size() - 3)</code>
+	 */
+	public static boolean areCouple(Person self, Person p) {
+		OclMemoCache cache = memoCache;
+		return cache != null ?
+			cache.get(self, Arrays.asList(ARE_COUPLE, p), () -> computeAreCouple(self, p)) :
+			computeAreCouple(self, p);
+	}
+	
+	static boolean computeAreCouple(Person self, Person p) {
+		EList<Movie> movies = self.getMovies();
+		Set<Movie> otherMovies = new HashSet<>(p.getMovies());
+		int excluded = 0;
+		for (Movie movie : movies) {
+			if (!otherMovies.contains(movie)) {
+				excluded++;
+			}
+		}
+		return excluded <= movies.size() - THRESHOLD;
+	}
+	
+	/**
+	 * <code>self.name < co.name and co.movies->size() >= 3 and self.areCouple(co)</code>
+	 */
+	public static boolean areCoupleCoactors(Person self, Person co) {
+		String name = self.getName(), coName = co.getName();
+		return name != null && coName != null && name.compareTo(coName) < 0 &&
+			co.getMovies().size() >= THRESHOLD && areCouple(self, co);
+	}
+	
+	/**
+	 * <code>Person.allInstances()->select(a | a.coactors->exists(areCoupleCoactors(a)))->size()</code>
+	 */
+	public static BigInteger QUERY(Collection<? extends Person> allPersons, boolean parallel) {
+		long count = (parallel ? allPersons.parallelStream() : allPersons.stream())
+			.filter(a -> {
+				for (Person co : coactors(a)) {
+					if (areCoupleCoactors(co, a)) return true;
+				}
+				return false;
+			})
+			.count();
+		return BigInteger.valueOf(count);
+	}
+	
+	/**
+	 * Equivalent of <code>Person.allInstances()</code> for the model containing the given element.
+	 *
+	 * @param context Any element in the model.
+	 * @return All instances of Person in the element's ResourceSet (or Resource if not in one).
+	 */
+	public static List<Person> allPersons(EObject context) {
+		Resource resource = context.eResource();
+		Notifier root = resource == null ? context :
+			resource.getResourceSet() != null ? resource.getResourceSet() : resource;
+		
+		Iterator<?> contents = EcoreUtil.getAllContents(root, true);
+		List<Person> persons = new ArrayList<>();
+		while (contents.hasNext()) {
+			Object next = contents.next();
+			if (next instanceof Person) {
+				persons.add((Person) next);
+			}
+		}
+		return persons;
+	}
+}
@@ -27,6 +27,10 @@ import javaMM.TypeAccess;
 import javaMM.TypeParameter;
 import javaMM.VariableDeclaration;
 
+import javaMM.util.JavaMMKinds;
+import javaMM.util.JavaMMInvalids;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -54,23 +58,18 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 import org.eclipse.ocl.pivot.library.collection.CollectionExcludesOperation;
 import org.eclipse.ocl.pivot.library.collection.CollectionIsEmptyOperation;
 import org.eclipse.ocl.pivot.library.collection.CollectionNotEmptyOperation;
-import org.eclipse.ocl.pivot.library.collection.CollectionSelectByKindOperation;
 
 import org.eclipse.ocl.pivot.library.logical.BooleanAndOperation;
 import org.eclipse.ocl.pivot.library.logical.BooleanImpliesOperation;
 
 import org.eclipse.ocl.pivot.library.oclany.OclAnyOclAsTypeOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsKindOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
 
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ClassUtil;
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
 
 import org.eclipse.ocl.pivot.values.IntegerValue;
-import org.eclipse.ocl.pivot.values.InvalidValueException;
 import org.eclipse.ocl.pivot.values.OrderedSetValue;
 import org.eclipse.ocl.pivot.values.SequenceValue;
 import org.eclipse.ocl.pivot.values.SetValue;
@@ -279,7 +278,7 @@ public abstract class AbstractMethodDeclarationImpl extends BodyDeclarationImpl
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean parametersEffectivelyFinal(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -306,145 +305,143 @@ public abstract class AbstractMethodDeclarationImpl extends BodyDeclarationImpl
 		 *         'AbstractMethodDeclaration::parametersEffectivelyFinal'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).abstractMethodDeclaration_parametersEffectivelyFinal;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_AbstractMethodDeclaration_c_c_parametersEffectivelyFinal);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ Block body = this.getBody();
-				final /*@NonInvalid*/ boolean ne = body != null;
-				/*@NonInvalid*/ boolean and;
-				if (ne) {
-					final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters = this.getParameters();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
-					final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
-					and = notEmpty;
-				}
-				else {
-					and = ValueUtil.FALSE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
+		TRY_result: try {
+			final /*@NonInvalid*/ Block body = this.getBody();
+			final /*@NonInvalid*/ boolean ne = body != null;
+			/*@NonInvalid*/ boolean and;
+			if (ne) {
+				final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters = this.getParameters();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
+				final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
+				and = notEmpty;
+			}
+			else {
+				and = ValueUtil.FALSE_VALUE;
+			}
+			/*@Thrown*/ boolean result;
+			if (and) {
+				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_Assignment = idResolver.getClass(JavaMMTables.CLSSid_Assignment, null);
+				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_ExpressionStatement = idResolver.getClass(JavaMMTables.CLSSid_ExpressionStatement, null);
+				if (body == null) {
+					CAUGHT_result = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Block::statements\'");
+					break TRY_result;
 				}
-				/*@Thrown*/ boolean result;
-				if (and) {
-					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_Assignment = idResolver.getClass(JavaMMTables.CLSSid_Assignment, null);
-					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_ExpressionStatement = idResolver.getClass(JavaMMTables.CLSSid_ExpressionStatement, null);
-					if (body == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Block::statements\'");
+				final /*@Thrown*/ List<Statement> statements = body.getStatements();
+				final /*@Thrown*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
+				final /*@Thrown*/ OrderedSetValue selectByKind = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_statements, TYP_javaMM_c_c_ExpressionStatement, JavaMMKinds.ORD_ExpressionStatement);
+				/*@Thrown*/ SequenceValue.Accumulator accumulator = ValueUtil.createSequenceAccumulatorValue(JavaMMTables.SEQ_CLSSid_Expression);
+				/*@NonNull*/ Iterator<Object> ITERATOR_s = selectByKind.iterator();
+				/*@Thrown*/ SequenceValue collect;
+				while (true) {
+					if (!ITERATOR_s.hasNext()) {
+						collect = accumulator;
+						break;
 					}
-					final /*@Thrown*/ List<Statement> statements = body.getStatements();
-					final /*@Thrown*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
-					final /*@Thrown*/ OrderedSetValue selectByKind = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_statements, TYP_javaMM_c_c_ExpressionStatement);
-					/*@Thrown*/ SequenceValue.Accumulator accumulator = ValueUtil.createSequenceAccumulatorValue(JavaMMTables.SEQ_CLSSid_Expression);
-					/*@NonNull*/ Iterator<Object> ITERATOR_s = selectByKind.iterator();
-					/*@Thrown*/ SequenceValue collect;
-					while (true) {
-						if (!ITERATOR_s.hasNext()) {
-							collect = accumulator;
-							break;
-						}
-						/*@NonInvalid*/ ExpressionStatement s = (ExpressionStatement)ITERATOR_s.next();
-						/**
-						 * s.expression
-						 */
-						final /*@NonInvalid*/ Expression expression = s.getExpression();
-						//
-						accumulator.add(expression);
+					/*@NonInvalid*/ ExpressionStatement s = (ExpressionStatement)ITERATOR_s.next();
+					/**
+					 * s.expression
+					 */
+					final /*@NonInvalid*/ Expression expression = s.getExpression();
+					//
+					accumulator.add(expression);
+				}
+				final /*@Thrown*/ SequenceValue selectByKind_0 = (SequenceValue)JavaMMKinds.selectByKind(executor, collect, TYP_javaMM_c_c_Assignment, JavaMMKinds.ORD_Assignment);
+				/*@Thrown*/ SequenceValue.Accumulator accumulator_0 = ValueUtil.createSequenceAccumulatorValue(JavaMMTables.SEQ_CLSSid_Assignment);
+				/*@NonNull*/ Iterator<Object> ITERATOR_assignment = selectByKind_0.iterator();
+				/*@Thrown*/ SequenceValue select;
+				while (true) {
+					if (!ITERATOR_assignment.hasNext()) {
+						select = accumulator_0;
+						break;
 					}
-					final /*@Thrown*/ SequenceValue selectByKind_0 = (SequenceValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, collect, TYP_javaMM_c_c_Assignment);
-					/*@Thrown*/ SequenceValue.Accumulator accumulator_0 = ValueUtil.createSequenceAccumulatorValue(JavaMMTables.SEQ_CLSSid_Assignment);
-					/*@NonNull*/ Iterator<Object> ITERATOR_assignment = selectByKind_0.iterator();
-					/*@Thrown*/ SequenceValue select;
-					while (true) {
-						if (!ITERATOR_assignment.hasNext()) {
-							select = accumulator_0;
-							break;
-						}
-						/*@NonInvalid*/ Assignment assignment = (Assignment)ITERATOR_assignment.next();
-						/**
-						 *
-						 * assignment.leftHandSide.oclIsKindOf(SingleVariableAccess) and assignment.operator = AssignmentKind::ASSIGN and
-						 * assignment.leftHandSide.oclIsKindOf(SingleVariableAccess) and
-						 * self.parameters->excludes(
-						 *   assignment.leftHandSide.oclAsType(SingleVariableAccess).variable)
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+					/*@NonInvalid*/ Assignment assignment = (Assignment)ITERATOR_assignment.next();
+					/**
+					 *
+					 * assignment.leftHandSide.oclIsKindOf(SingleVariableAccess) and assignment.operator = AssignmentKind::ASSIGN and
+					 * assignment.leftHandSide.oclIsKindOf(SingleVariableAccess) and
+					 * self.parameters->excludes(
+					 *   assignment.leftHandSide.oclAsType(SingleVariableAccess).variable)
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+					try {
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf_0;
 						try {
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf_0;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_SingleVariableAccess_0 = idResolver.getClass(JavaMMTables.CLSSid_SingleVariableAccess, null);
-								final /*@NonInvalid*/ Expression leftHandSide_0 = assignment.getLeftHandSide();
-								final /*@Thrown*/ boolean oclIsKindOf_0 = OclAnyOclIsKindOfOperation.INSTANCE.evaluate(executor, leftHandSide_0, TYP_javaMM_c_c_SingleVariableAccess_0).booleanValue();
-								CAUGHT_oclIsKindOf_0 = oclIsKindOf_0;
-							}
-							catch (Exception e) {
-								CAUGHT_oclIsKindOf_0 = ValueUtil.createInvalidValue(e);
-							}
-							/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
-							try {
-								final /*@NonInvalid*/ AssignmentKind operator = assignment.getOperator();
-								final /*@NonInvalid*/ EnumerationLiteralId BOXED_operator = operator == null ? null : JavaMMTables.ENUMid_AssignmentKind.getEnumerationLiteralId(ClassUtil.nonNullState(operator.getName()));
-								final /*@NonInvalid*/ boolean eq = BOXED_operator == JavaMMTables.ELITid_ASSIGN;
-								final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf_0, eq);
-								CAUGHT_and_0 = and_0;
-							}
-							catch (Exception e) {
-								CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
-							}
-							final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsKindOf_0);
-							CAUGHT_and_1 = and_1;
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_SingleVariableAccess_0 = idResolver.getClass(JavaMMTables.CLSSid_SingleVariableAccess, null);
+							final /*@NonInvalid*/ Expression leftHandSide_0 = assignment.getLeftHandSide();
+							final /*@Thrown*/ boolean oclIsKindOf_0 = JavaMMKinds.isKindOf(executor, leftHandSide_0, TYP_javaMM_c_c_SingleVariableAccess_0, JavaMMKinds.ORD_SingleVariableAccess);
+							CAUGHT_oclIsKindOf_0 = oclIsKindOf_0;
 						}
 						catch (Exception e) {
-							CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
+							CAUGHT_oclIsKindOf_0 = ValueUtil.createInvalidValue(e);
 						}
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_excludes;
+						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
 						try {
-							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_SingleVariableAccess_1 = idResolver.getClass(JavaMMTables.CLSSid_SingleVariableAccess, null);
-							final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters_0 = this.getParameters();
-							final /*@NonInvalid*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
-							final /*@NonInvalid*/ Expression leftHandSide_1 = assignment.getLeftHandSide();
-							final /*@Thrown*/ SingleVariableAccess oclAsType = ClassUtil.nonNullState((SingleVariableAccess)OclAnyOclAsTypeOperation.INSTANCE.evaluate(executor, leftHandSide_1, TYP_javaMM_c_c_SingleVariableAccess_1));
-							final /*@Thrown*/ VariableDeclaration variable = oclAsType.getVariable();
-							final /*@Thrown*/ boolean excludes = CollectionExcludesOperation.INSTANCE.evaluate(BOXED_parameters_0, variable).booleanValue();
-							CAUGHT_excludes = excludes;
+							final /*@NonInvalid*/ AssignmentKind operator = assignment.getOperator();
+							final /*@NonInvalid*/ EnumerationLiteralId BOXED_operator = operator == null ? null : JavaMMTables.ENUMid_AssignmentKind.getEnumerationLiteralId(ClassUtil.nonNullState(operator.getName()));
+							final /*@NonInvalid*/ boolean eq = BOXED_operator == JavaMMTables.ELITid_ASSIGN;
+							final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf_0, eq);
+							CAUGHT_and_0 = and_0;
 						}
 						catch (Exception e) {
-							CAUGHT_excludes = ValueUtil.createInvalidValue(e);
-						}
-						final /*@Thrown*/ Boolean and_2 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_1, CAUGHT_excludes);
-						if (and_2 == null) {
-							throw new InvalidValueException("Null body for \'Sequence(T).select(Sequence.T[?] | Lambda T() : Boolean[1]) : Sequence(T)\'");
-						}
-						//
-						if (and_2 == ValueUtil.TRUE_VALUE) {
-							accumulator_0.add(assignment);
+							CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 						}
+						final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsKindOf_0);
+						CAUGHT_and_1 = and_1;
+					}
+					catch (Exception e) {
+						CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
+					}
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_excludes;
+					try {
+						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_SingleVariableAccess_1 = idResolver.getClass(JavaMMTables.CLSSid_SingleVariableAccess, null);
+						final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters_0 = this.getParameters();
+						final /*@NonInvalid*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
+						final /*@NonInvalid*/ Expression leftHandSide_1 = assignment.getLeftHandSide();
+						final /*@Thrown*/ SingleVariableAccess oclAsType = ClassUtil.nonNullState((SingleVariableAccess)OclAnyOclAsTypeOperation.INSTANCE.evaluate(executor, leftHandSide_1, TYP_javaMM_c_c_SingleVariableAccess_1));
+						final /*@Thrown*/ VariableDeclaration variable = oclAsType.getVariable();
+						final /*@Thrown*/ boolean excludes = CollectionExcludesOperation.INSTANCE.evaluate(BOXED_parameters_0, variable).booleanValue();
+						CAUGHT_excludes = excludes;
+					}
+					catch (Exception e) {
+						CAUGHT_excludes = ValueUtil.createInvalidValue(e);
+					}
+					final /*@Thrown*/ Boolean and_2 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_1, CAUGHT_excludes);
+					if (and_2 == null) {
+						CAUGHT_result = JavaMMInvalids.nullSource("Null body for \'Sequence(T).select(Sequence.T[?] | Lambda T() : Boolean[1]) : Sequence(T)\'");
+						break TRY_result;
+					}
+					//
+					if (and_2 == ValueUtil.TRUE_VALUE) {
+						accumulator_0.add(assignment);
 					}
-					final /*@Thrown*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(select).booleanValue();
-					result = isEmpty;
-				}
-				else {
-					result = ValueUtil.TRUE_VALUE;
 				}
-				CAUGHT_result = result;
+				final /*@Thrown*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(select).booleanValue();
+				result = isEmpty;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			else {
+				result = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_AbstractMethodDeclaration_c_c_parametersEffectivelyFinal, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			CAUGHT_result = result;
 		}
-		return Boolean.TRUE == symbol_0;
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
+		}
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_AbstractMethodDeclaration_c_c_parametersEffectivelyFinal, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean localMethodIsUsed(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -463,50 +460,47 @@ public abstract class AbstractMethodDeclarationImpl extends BodyDeclarationImpl
 		 *         'AbstractMethodDeclaration::localMethodIsUsed'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).abstractMethodDeclaration_localMethodIsUsed;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_AbstractMethodDeclaration_c_c_localMethodIsUsed);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
-			try {
-				/*@Caught*/ /*@NonNull*/ Object CAUGHT_and;
-				try {
-					final /*@NonInvalid*/ Modifier modifier = this.getModifier();
-					final /*@NonInvalid*/ boolean ne = modifier != null;
-					/*@Thrown*/ boolean and;
-					if (ne) {
-						if (modifier == null) {
-							throw new InvalidValueException("Null source for \'javaMM::Modifier::isLocal() : Boolean[?]\'");
-						}
-						final /*@Thrown*/ boolean isLocal = modifier.isLocal();
-						and = isLocal;
-					}
-					else {
-						and = ValueUtil.FALSE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			/*@Caught*/ /*@NonNull*/ Object CAUGHT_and;
+			TRY_and: try {
+				final /*@NonInvalid*/ Modifier modifier = this.getModifier();
+				final /*@NonInvalid*/ boolean ne = modifier != null;
+				/*@Thrown*/ boolean and;
+				if (ne) {
+					if (modifier == null) {
+						CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'javaMM::Modifier::isLocal() : Boolean[?]\'");
+						break TRY_and;
 					}
-					CAUGHT_and = and;
+					final /*@Thrown*/ boolean isLocal = modifier.isLocal();
+					and = isLocal;
 				}
-				catch (Exception e) {
-					CAUGHT_and = ValueUtil.createInvalidValue(e);
+				else {
+					and = ValueUtil.FALSE_VALUE;
 				}
-				final /*@NonInvalid*/ List<AbstractMethodInvocation> usages = this.getUsages();
-				final /*@NonInvalid*/ SetValue BOXED_usages = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_AbstractMethodInvocation, usages);
-				final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usages).booleanValue();
-				final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_and, notEmpty);
-				CAUGHT_result = result;
+				CAUGHT_and = and;
 			}
 			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+				CAUGHT_and = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_AbstractMethodDeclaration_c_c_localMethodIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ List<AbstractMethodInvocation> usages = this.getUsages();
+			final /*@NonInvalid*/ SetValue BOXED_usages = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_AbstractMethodInvocation, usages);
+			final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usages).booleanValue();
+			final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_and, notEmpty);
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_AbstractMethodDeclaration_c_c_localMethodIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -16,6 +16,8 @@ import javaMM.JavaMMTables;
 import javaMM.Type;
 import javaMM.TypeAccess;
 
+import javaMM.util.JavaMMInvalids;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -237,7 +239,7 @@ public abstract class AbstractTypeDeclarationImpl extends BodyDeclarationImpl im
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public Boolean implements_(final String type) {
 		/**
@@ -265,10 +267,11 @@ public abstract class AbstractTypeDeclarationImpl extends BodyDeclarationImpl im
 			 * si.type.name = type
 			 */
 			/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
-			try {
+			TRY_eq: try {
 				final /*@NonInvalid*/ Type type_0 = si.getType();
 				if (type_0 == null) {
-					throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+					CAUGHT_eq = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+					break TRY_eq;
 				}
 				final /*@Thrown*/ String name = type_0.getName();
 				final /*@Thrown*/ boolean eq = (name != null) ? name.equals(type) : (type == null);
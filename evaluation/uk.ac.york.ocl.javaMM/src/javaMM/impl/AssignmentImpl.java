@@ -12,6 +12,8 @@ import javaMM.Expression;
 import javaMM.JavaMMPackage;
 import javaMM.JavaMMTables;
 
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -30,9 +32,6 @@ import org.eclipse.ocl.pivot.ids.TypeId;
 
 import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ClassUtil;
@@ -225,7 +224,7 @@ public class AssignmentImpl extends ExpressionImpl implements Assignment {
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noRedundantAssignment(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -242,31 +241,27 @@ public class AssignmentImpl extends ExpressionImpl implements Assignment {
 		 *         'Assignment::noRedundantAssignment'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).assignment_noRedundantAssignment;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_Assignment_c_c_noRedundantAssignment);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ AssignmentKind operator = this.getOperator();
+		final /*@NonInvalid*/ EnumerationLiteralId BOXED_operator = operator == null ? null : JavaMMTables.ENUMid_AssignmentKind.getEnumerationLiteralId(ClassUtil.nonNullState(operator.getName()));
+		final /*@NonInvalid*/ boolean eq = BOXED_operator == JavaMMTables.ELITid_ASSIGN;
+		/*@NonInvalid*/ boolean result;
+		if (eq) {
+			final /*@NonInvalid*/ Expression leftHandSide = this.getLeftHandSide();
+			final /*@NonInvalid*/ Expression rightHandSide = this.getRightHandSide();
+			final /*@NonInvalid*/ boolean ne = (leftHandSide != null) ? !leftHandSide.equals(rightHandSide) : (rightHandSide != null);
+			result = ne;
 		}
 		else {
-			final /*@NonInvalid*/ AssignmentKind operator = this.getOperator();
-			final /*@NonInvalid*/ EnumerationLiteralId BOXED_operator = operator == null ? null : JavaMMTables.ENUMid_AssignmentKind.getEnumerationLiteralId(ClassUtil.nonNullState(operator.getName()));
-			final /*@NonInvalid*/ boolean eq = BOXED_operator == JavaMMTables.ELITid_ASSIGN;
-			/*@NonInvalid*/ boolean result;
-			if (eq) {
-				final /*@NonInvalid*/ Expression leftHandSide = this.getLeftHandSide();
-				final /*@NonInvalid*/ Expression rightHandSide = this.getRightHandSide();
-				final /*@NonInvalid*/ boolean ne = (leftHandSide != null) ? !leftHandSide.equals(rightHandSide) : (rightHandSide != null);
-				result = ne;
-			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
-			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_Assignment_c_c_noRedundantAssignment, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_Assignment_c_c_noRedundantAssignment, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -14,6 +14,8 @@ import javaMM.JavaMMPackage;
 import javaMM.JavaMMTables;
 import javaMM.Statement;
 
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.NotificationChain;
 
 import org.eclipse.emf.common.util.DiagnosticChain;
@@ -35,9 +37,6 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 import org.eclipse.ocl.pivot.library.collection.CollectionIsEmptyOperation;
 import org.eclipse.ocl.pivot.library.collection.CollectionNotEmptyOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
@@ -103,7 +102,7 @@ public class BlockImpl extends StatementImpl implements Block {
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean emptyBlockIsDocumented(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -121,32 +120,28 @@ public class BlockImpl extends StatementImpl implements Block {
 		 *         'Block::emptyBlockIsDocumented'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).block_emptyBlockIsDocumented;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_Block_c_c_emptyBlockIsDocumented);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ List<Statement> statements = this.getStatements();
+		final /*@NonInvalid*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
+		final /*@NonInvalid*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_statements).booleanValue();
+		/*@NonInvalid*/ boolean result;
+		if (isEmpty) {
+			final /*@NonInvalid*/ List<Comment> comments = this.getComments();
+			final /*@NonInvalid*/ OrderedSetValue BOXED_comments = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Comment, comments);
+			final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_comments).booleanValue();
+			result = notEmpty;
 		}
 		else {
-			final /*@NonInvalid*/ List<Statement> statements = this.getStatements();
-			final /*@NonInvalid*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
-			final /*@NonInvalid*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_statements).booleanValue();
-			/*@NonInvalid*/ boolean result;
-			if (isEmpty) {
-				final /*@NonInvalid*/ List<Comment> comments = this.getComments();
-				final /*@NonInvalid*/ OrderedSetValue BOXED_comments = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Comment, comments);
-				final /*@NonInvalid*/ boolean notEmpty = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_comments).booleanValue();
-				result = notEmpty;
-			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
-			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_Block_c_c_emptyBlockIsDocumented, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_Block_c_c_emptyBlockIsDocumented, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -16,6 +16,9 @@ import javaMM.SingleVariableDeclaration;
 import javaMM.Type;
 import javaMM.TypeAccess;
 
+import javaMM.util.JavaMMInvalids;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -36,15 +39,11 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
 import org.eclipse.ocl.pivot.library.collection.CollectionNotEmptyOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
 
 import org.eclipse.ocl.pivot.values.IntegerValue;
-import org.eclipse.ocl.pivot.values.InvalidValueException;
 import org.eclipse.ocl.pivot.values.SetValue;
 
 /**
@@ -190,7 +189,7 @@ public class CatchClauseImpl extends StatementImpl implements CatchClause {
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean doesNotCatchDubiousExceptions(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -207,45 +206,44 @@ public class CatchClauseImpl extends StatementImpl implements CatchClause {
 		 *         'CatchClause::doesNotCatchDubiousExceptions'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
-		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_CatchClause_c_c_doesNotCatchDubiousExceptions);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).catchClause_doesNotCatchDubiousExceptions;
+		if (severity <= 0) {
+			return true;
 		}
-		else {
-			/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ SingleVariableDeclaration exception = this.getException();
-				if (exception == null) {
-					throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
-				}
-				final /*@Thrown*/ TypeAccess type_0 = exception.getType();
-				if (type_0 == null) {
-					throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
-				}
-				final /*@Thrown*/ Type type_1 = type_0.getType();
-				if (type_1 == null) {
-					throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
-				}
-				final /*@Thrown*/ String name = type_1.getName();
-				final /*@Thrown*/ boolean result = !JavaMMTables.STR_IllegalMonitorStateException.equals(name);
-				CAUGHT_result = result;
+		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
+		TRY_result: try {
+			final /*@NonInvalid*/ SingleVariableDeclaration exception = this.getException();
+			if (exception == null) {
+				CAUGHT_result = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+				break TRY_result;
+			}
+			final /*@Thrown*/ TypeAccess type_0 = exception.getType();
+			if (type_0 == null) {
+				CAUGHT_result = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+				break TRY_result;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			final /*@Thrown*/ Type type_1 = type_0.getType();
+			if (type_1 == null) {
+				CAUGHT_result = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+				break TRY_result;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_CatchClause_c_c_doesNotCatchDubiousExceptions, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@Thrown*/ String name = type_1.getName();
+			final /*@Thrown*/ boolean result = !JavaMMTables.STR_IllegalMonitorStateException.equals(name);
+			CAUGHT_result = result;
 		}
-		return Boolean.TRUE == symbol_0;
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
+		}
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_CatchClause_c_c_doesNotCatchDubiousExceptions, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean exceptionIsUsed(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -262,33 +260,30 @@ public class CatchClauseImpl extends StatementImpl implements CatchClause {
 		 *         'CatchClause::exceptionIsUsed'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).catchClause_exceptionIsUsed;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_CatchClause_c_c_exceptionIsUsed);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ SingleVariableDeclaration exception = this.getException();
-				if (exception == null) {
-					throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::VariableDeclaration::usageInVariableAccess\'");
-				}
-				final /*@Thrown*/ List<SingleVariableAccess> usageInVariableAccess = exception.getUsageInVariableAccess();
-				final /*@Thrown*/ SetValue BOXED_usageInVariableAccess = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_SingleVariableAccess, usageInVariableAccess);
-				final /*@Thrown*/ boolean result = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usageInVariableAccess).booleanValue();
-				CAUGHT_result = result;
-			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
+		TRY_result: try {
+			final /*@NonInvalid*/ SingleVariableDeclaration exception = this.getException();
+			if (exception == null) {
+				CAUGHT_result = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::VariableDeclaration::usageInVariableAccess\'");
+				break TRY_result;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_CatchClause_c_c_exceptionIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@Thrown*/ List<SingleVariableAccess> usageInVariableAccess = exception.getUsageInVariableAccess();
+			final /*@Thrown*/ SetValue BOXED_usageInVariableAccess = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_SingleVariableAccess, usageInVariableAccess);
+			final /*@Thrown*/ boolean result = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usageInVariableAccess).booleanValue();
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_CatchClause_c_c_exceptionIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -26,6 +26,10 @@ import javaMM.TypeAccess;
 import javaMM.VariableDeclaration;
 import javaMM.VisibilityKind;
 
+import javaMM.util.JavaMMKinds;
+import javaMM.util.JavaMMInvalids;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -47,7 +51,6 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
 import org.eclipse.ocl.pivot.library.collection.CollectionIncludesOperation;
 import org.eclipse.ocl.pivot.library.collection.CollectionIsEmptyOperation;
-import org.eclipse.ocl.pivot.library.collection.CollectionSelectByKindOperation;
 import org.eclipse.ocl.pivot.library.collection.CollectionSizeOperation;
 import org.eclipse.ocl.pivot.library.collection.OrderedCollectionFirstOperation;
 
@@ -55,11 +58,7 @@ import org.eclipse.ocl.pivot.library.logical.BooleanAndOperation;
 import org.eclipse.ocl.pivot.library.logical.BooleanImpliesOperation;
 
 import org.eclipse.ocl.pivot.library.oclany.OclAnyOclAsTypeOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsKindOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
 
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.messages.PivotMessages;
@@ -160,7 +159,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public EList<MethodDeclaration> getMethods() {
 		/**
@@ -171,7 +170,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_MethodDeclaration_0 = idResolver.getClass(JavaMMTables.CLSSid_MethodDeclaration, null);
 		final /*@NonInvalid*/ List<BodyDeclaration> bodyDeclarations = this.getBodyDeclarations();
 		final /*@NonInvalid*/ OrderedSetValue BOXED_bodyDeclarations = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_BodyDeclaration, bodyDeclarations);
-		final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_bodyDeclarations, TYP_javaMM_c_c_MethodDeclaration_0);
+		final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_bodyDeclarations, TYP_javaMM_c_c_MethodDeclaration_0, JavaMMKinds.ORD_MethodDeclaration);
 		final /*@NonInvalid*/ List<MethodDeclaration> ECORE_selectByKind = ((IdResolver.IdResolverExtension)idResolver).ecoreValueOfAll(MethodDeclaration.class, selectByKind);
 		return (EList<MethodDeclaration>)ECORE_selectByKind;
 	}
@@ -179,7 +178,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public Boolean hasEquals() {
 		/**
@@ -232,22 +231,25 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 								final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters_0 = method.getParameters();
 								final /*@NonInvalid*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
 								/*@Caught*/ /*@NonNull*/ Object CAUGHT_and;
-								try {
+								TRY_and: try {
 									final /*@NonInvalid*/ String name = method.getName();
 									final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_equals.equals(name);
 									/*@Thrown*/ boolean and;
 									if (eq) {
 										final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
 										if (first == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+											CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+											break TRY_and;
 										}
 										final /*@Thrown*/ TypeAccess type_0 = first.getType();
 										if (type_0 == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+											CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+											break TRY_and;
 										}
 										final /*@Thrown*/ Type type_1 = type_0.getType();
 										if (type_1 == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+											CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+											break TRY_and;
 										}
 										final /*@Thrown*/ String name_0 = type_1.getName();
 										final /*@Thrown*/ boolean eq_0 = JavaMMTables.STR_Object.equals(name_0);
@@ -287,10 +289,11 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 						CAUGHT_and_2 = ValueUtil.createInvalidValue(e);
 					}
 					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_2;
-					try {
+					TRY_eq_2: try {
 						final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
 						if (modifier_0 == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+							CAUGHT_eq_2 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+							break TRY_eq_2;
 						}
 						final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
 						final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
@@ -307,14 +310,15 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 					CAUGHT_and_3 = ValueUtil.createInvalidValue(e);
 				}
 				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-				try {
+				TRY_oclIsTypeOf: try {
 					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeBoolean_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeBoolean, null);
 					final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
 					if (returnType == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						break TRY_oclIsTypeOf;
 					}
 					final /*@Thrown*/ Type type_2 = returnType.getType();
-					final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_2, TYP_javaMM_c_c_PrimitiveTypeBoolean_0).booleanValue();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_2, TYP_javaMM_c_c_PrimitiveTypeBoolean_0, JavaMMKinds.ORD_PrimitiveTypeBoolean);
 					CAUGHT_oclIsTypeOf = oclIsTypeOf;
 				}
 				catch (Exception e) {
@@ -352,7 +356,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public Boolean hasHashcode() {
 		/**
@@ -393,7 +397,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 			/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_3;
 			try {
 				/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_2;
-				try {
+				TRY_and_2: try {
 					final /*@NonInvalid*/ String name = method.getName();
 					final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_hashCode.equals(name);
 					/*@NonInvalid*/ boolean and;
@@ -429,7 +433,8 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 					if (and_1) {
 						final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
 						if (modifier_0 == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+							CAUGHT_and_2 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+							break TRY_and_2;
 						}
 						final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
 						final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
@@ -445,14 +450,15 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 					CAUGHT_and_2 = ValueUtil.createInvalidValue(e);
 				}
 				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-				try {
+				TRY_oclIsTypeOf: try {
 					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
 					final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
 					if (returnType == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						break TRY_oclIsTypeOf;
 					}
 					final /*@Thrown*/ Type type_0 = returnType.getType();
-					final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeInt_0).booleanValue();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeInt_0, JavaMMKinds.ORD_PrimitiveTypeInt);
 					CAUGHT_oclIsTypeOf = oclIsTypeOf;
 				}
 				catch (Exception e) {
@@ -490,7 +496,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public Boolean hasCompareTo() {
 		/**
@@ -539,7 +545,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
 						try {
 							/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_0;
-							try {
+							TRY_and_0: try {
 								final /*@NonInvalid*/ String name = method.getName();
 								final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_compareTo.equals(name);
 								/*@NonInvalid*/ boolean and;
@@ -559,15 +565,18 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 									final /*@NonInvalid*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
 									final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
 									if (first == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+										CAUGHT_and_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+										break TRY_and_0;
 									}
 									final /*@Thrown*/ TypeAccess type_0 = first.getType();
 									if (type_0 == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+										CAUGHT_and_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+										break TRY_and_0;
 									}
 									final /*@Thrown*/ Type type_1 = type_0.getType();
 									if (type_1 == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+										CAUGHT_and_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+										break TRY_and_0;
 									}
 									final /*@Thrown*/ String name_0 = type_1.getName();
 									final /*@Thrown*/ boolean eq_1 = JavaMMTables.STR_Object.equals(name_0);
@@ -590,10 +599,11 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 							CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
 						}
 						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_2;
-						try {
+						TRY_eq_2: try {
 							final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
 							if (modifier_0 == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+								CAUGHT_eq_2 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+								break TRY_eq_2;
 							}
 							final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
 							final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
@@ -619,14 +629,15 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 					CAUGHT_and_3 = ValueUtil.createInvalidValue(e);
 				}
 				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-				try {
+				TRY_oclIsTypeOf: try {
 					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
 					final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
 					if (returnType == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						break TRY_oclIsTypeOf;
 					}
 					final /*@Thrown*/ Type type_2 = returnType.getType();
-					final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_2, TYP_javaMM_c_c_PrimitiveTypeInt_0).booleanValue();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_2, TYP_javaMM_c_c_PrimitiveTypeInt_0, JavaMMKinds.ORD_PrimitiveTypeInt);
 					CAUGHT_oclIsTypeOf = oclIsTypeOf;
 				}
 				catch (Exception e) {
@@ -664,7 +675,7 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noCovariantCompareTo(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -685,138 +696,136 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::noCovariantCompareTo'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_noCovariantCompareTo;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantCompareTo);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
 			try {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
-				try {
-					final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
-					/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
-					/*@NonNull*/ Iterator<Object> ITERATOR_method = BOXED_getMethods.iterator();
-					/*@Thrown*/ Boolean exists;
-					while (true) {
-						if (!ITERATOR_method.hasNext()) {
-							if (accumulator == null) {
-								exists = null;
-							}
-							else if (accumulator == ValueUtil.FALSE_VALUE) {
-								exists = ValueUtil.FALSE_VALUE;
-							}
-							else {
-								throw (InvalidValueException)accumulator;
-							}
-							break;
+				final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
+				/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
+				/*@NonNull*/ Iterator<Object> ITERATOR_method = BOXED_getMethods.iterator();
+				/*@Thrown*/ Boolean exists;
+				while (true) {
+					if (!ITERATOR_method.hasNext()) {
+						if (accumulator == null) {
+							exists = null;
 						}
-						/*@NonInvalid*/ MethodDeclaration method = (MethodDeclaration)ITERATOR_method.next();
-						/**
-						 * method.name = 'compareTo' and method.modifier <> null and method.modifier.visibility = VisibilityKind::public and
-						 * method.returnType.type.oclIsTypeOf(PrimitiveTypeInt)
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
-						try {
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_0;
-							try {
-								final /*@NonInvalid*/ String name = method.getName();
-								final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_compareTo.equals(name);
-								/*@NonInvalid*/ boolean and;
-								if (eq) {
-									final /*@NonInvalid*/ Modifier modifier = method.getModifier();
-									final /*@NonInvalid*/ boolean ne = modifier != null;
-									and = ne;
-								}
-								else {
-									and = ValueUtil.FALSE_VALUE;
-								}
-								/*@Thrown*/ boolean and_0;
-								if (and) {
-									final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
-									if (modifier_0 == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
-									}
-									final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
-									final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
-									final /*@Thrown*/ boolean eq_0 = BOXED_visibility == JavaMMTables.ELITid_public;
-									and_0 = eq_0;
-								}
-								else {
-									and_0 = ValueUtil.FALSE_VALUE;
-								}
-								CAUGHT_and_0 = and_0;
+						else if (accumulator == ValueUtil.FALSE_VALUE) {
+							exists = ValueUtil.FALSE_VALUE;
+						}
+						else {
+							throw (InvalidValueException)accumulator;
+						}
+						break;
+					}
+					/*@NonInvalid*/ MethodDeclaration method = (MethodDeclaration)ITERATOR_method.next();
+					/**
+					 * method.name = 'compareTo' and method.modifier <> null and method.modifier.visibility = VisibilityKind::public and
+					 * method.returnType.type.oclIsTypeOf(PrimitiveTypeInt)
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+					try {
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_0;
+						TRY_and_0: try {
+							final /*@NonInvalid*/ String name = method.getName();
+							final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_compareTo.equals(name);
+							/*@NonInvalid*/ boolean and;
+							if (eq) {
+								final /*@NonInvalid*/ Modifier modifier = method.getModifier();
+								final /*@NonInvalid*/ boolean ne = modifier != null;
+								and = ne;
 							}
-							catch (Exception e) {
-								CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+							else {
+								and = ValueUtil.FALSE_VALUE;
 							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
-								final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
-								if (returnType == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							/*@Thrown*/ boolean and_0;
+							if (and) {
+								final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
+								if (modifier_0 == null) {
+									CAUGHT_and_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+									break TRY_and_0;
 								}
-								final /*@Thrown*/ Type type_0 = returnType.getType();
-								final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeInt).booleanValue();
-								CAUGHT_oclIsTypeOf = oclIsTypeOf;
+								final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
+								final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
+								final /*@Thrown*/ boolean eq_0 = BOXED_visibility == JavaMMTables.ELITid_public;
+								and_0 = eq_0;
 							}
-							catch (Exception e) {
-								CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+							else {
+								and_0 = ValueUtil.FALSE_VALUE;
 							}
-							final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
-							CAUGHT_and_1 = and_1;
+							CAUGHT_and_0 = and_0;
 						}
 						catch (Exception e) {
-							CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
-						}
-						//
-						if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
-							exists = ValueUtil.TRUE_VALUE;
-							break;														// Stop immediately
+							CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 						}
-						else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
-							;															// Carry on
-						}
-						else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
-							if (accumulator == ValueUtil.FALSE_VALUE) {
-								accumulator = null;										// Cache a null failure
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+						TRY_oclIsTypeOf: try {
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
+							final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
+							if (returnType == null) {
+								CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+								break TRY_oclIsTypeOf;
 							}
+							final /*@Thrown*/ Type type_0 = returnType.getType();
+							final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeInt, JavaMMKinds.ORD_PrimitiveTypeInt);
+							CAUGHT_oclIsTypeOf = oclIsTypeOf;
 						}
-						else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
-							accumulator = CAUGHT_and_1;									// Cache an exception failure
+						catch (Exception e) {
+							CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
 						}
-						else {															// Impossible badly typed result
-							accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+						final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
+						CAUGHT_and_1 = and_1;
+					}
+					catch (Exception e) {
+						CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
+					}
+					//
+					if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
+						exists = ValueUtil.TRUE_VALUE;
+						break;														// Stop immediately
+					}
+					else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
+						;															// Carry on
+					}
+					else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
+						if (accumulator == ValueUtil.FALSE_VALUE) {
+							accumulator = null;										// Cache a null failure
 						}
 					}
-					CAUGHT_exists = exists;
-				}
-				catch (Exception e) {
-					CAUGHT_exists = ValueUtil.createInvalidValue(e);
+					else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
+						accumulator = CAUGHT_and_1;									// Cache an exception failure
+					}
+					else {															// Impossible badly typed result
+						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+					}
 				}
-				final /*@NonInvalid*/ boolean hasCompareTo = this.hasCompareTo();
-				final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_exists, hasCompareTo);
-				CAUGHT_result = result;
+				CAUGHT_exists = exists;
 			}
 			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+				CAUGHT_exists = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantCompareTo, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ boolean hasCompareTo = this.hasCompareTo();
+			final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_exists, hasCompareTo);
+			CAUGHT_result = result;
 		}
-		return Boolean.TRUE == symbol_0;
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
+		}
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantCompareTo, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean hashCodeAndEquals(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -837,47 +846,43 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::hashCodeAndEquals'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_hashCodeAndEquals;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_hashCodeAndEquals);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ boolean hasEq = this.hasEquals();
+		final /*@NonInvalid*/ boolean hasHc = this.hasHashcode();
+		/*@NonInvalid*/ boolean implies;
+		if (hasEq) {
+			implies = hasHc;
 		}
 		else {
-			final /*@NonInvalid*/ boolean hasEq = this.hasEquals();
-			final /*@NonInvalid*/ boolean hasHc = this.hasHashcode();
-			/*@NonInvalid*/ boolean implies;
-			if (hasEq) {
-				implies = hasHc;
-			}
-			else {
-				implies = ValueUtil.TRUE_VALUE;
-			}
-			/*@NonInvalid*/ boolean and;
-			if (implies) {
-				/*@NonInvalid*/ boolean implies_0;
-				if (hasHc) {
-					implies_0 = hasEq;
-				}
-				else {
-					implies_0 = ValueUtil.TRUE_VALUE;
-				}
-				and = implies_0;
+			implies = ValueUtil.TRUE_VALUE;
+		}
+		/*@NonInvalid*/ boolean and;
+		if (implies) {
+			/*@NonInvalid*/ boolean implies_0;
+			if (hasHc) {
+				implies_0 = hasEq;
 			}
 			else {
-				and = ValueUtil.FALSE_VALUE;
+				implies_0 = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_hashCodeAndEquals, this, (Object)null, diagnostics, context, (Object)null, severity_0, and, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			and = implies_0;
+		}
+		else {
+			and = ValueUtil.FALSE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_hashCodeAndEquals, this, (Object)null, diagnostics, context, (Object)null, severity_0, and, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean serialUIDInSerializableClass(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -898,150 +903,149 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::serialUIDInSerializableClass'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_serialUIDInSerializableClass;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_serialUIDInSerializableClass);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_2;
-		if (le) {
-			symbol_2 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Serializable);
-				/*@Thrown*/ Boolean result;
-				if (symbol_0) {
-					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_FieldDeclaration = idResolver.getClass(JavaMMTables.CLSSid_FieldDeclaration, null);
-					final /*@NonInvalid*/ List<BodyDeclaration> bodyDeclarations = this.getBodyDeclarations();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_bodyDeclarations = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_BodyDeclaration, bodyDeclarations);
-					final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_bodyDeclarations, TYP_javaMM_c_c_FieldDeclaration);
-					/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
-					/*@NonNull*/ Iterator<Object> ITERATOR_bd = selectByKind.iterator();
-					/*@Thrown*/ Boolean exists;
-					while (true) {
-						if (!ITERATOR_bd.hasNext()) {
-							if (accumulator == null) {
-								exists = null;
-							}
-							else if (accumulator == ValueUtil.FALSE_VALUE) {
-								exists = ValueUtil.FALSE_VALUE;
-							}
-							else {
-								throw (InvalidValueException)accumulator;
-							}
-							break;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Serializable);
+			/*@Thrown*/ Boolean result;
+			if (symbol_0) {
+				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_FieldDeclaration = idResolver.getClass(JavaMMTables.CLSSid_FieldDeclaration, null);
+				final /*@NonInvalid*/ List<BodyDeclaration> bodyDeclarations = this.getBodyDeclarations();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_bodyDeclarations = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_BodyDeclaration, bodyDeclarations);
+				final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_bodyDeclarations, TYP_javaMM_c_c_FieldDeclaration, JavaMMKinds.ORD_FieldDeclaration);
+				/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
+				/*@NonNull*/ Iterator<Object> ITERATOR_bd = selectByKind.iterator();
+				/*@Thrown*/ Boolean exists;
+				while (true) {
+					if (!ITERATOR_bd.hasNext()) {
+						if (accumulator == null) {
+							exists = null;
 						}
-						/*@NonInvalid*/ FieldDeclaration bd = (FieldDeclaration)ITERATOR_bd.next();
-						/**
-						 * bd.name = 'serialVersionUID' and bd.modifier.static and bd.modifier.inheritance = InheritanceKind::final and
-						 * bd.type.type.oclIsTypeOf(PrimitiveTypeLong)
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+						else if (accumulator == ValueUtil.FALSE_VALUE) {
+							exists = ValueUtil.FALSE_VALUE;
+						}
+						else {
+							throw (InvalidValueException)accumulator;
+						}
+						break;
+					}
+					/*@NonInvalid*/ FieldDeclaration bd = (FieldDeclaration)ITERATOR_bd.next();
+					/**
+					 * bd.name = 'serialVersionUID' and bd.modifier.static and bd.modifier.inheritance = InheritanceKind::final and
+					 * bd.type.type.oclIsTypeOf(PrimitiveTypeLong)
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+					try {
+						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
 						try {
-							/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
-							try {
-								/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
-								try {
-									final /*@NonInvalid*/ String name = bd.getName();
-									final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_serialVersionUID.equals(name);
-									/*@Thrown*/ Boolean and;
-									if (eq) {
-										final /*@NonInvalid*/ Modifier modifier = bd.getModifier();
-										if (modifier == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::static\'");
-										}
-										final /*@Thrown*/ Boolean symbol_1 = modifier.getStatic();
-										and = symbol_1;
-									}
-									else {
-										and = ValueUtil.FALSE_VALUE;
-									}
-									CAUGHT_and = and;
-								}
-								catch (Exception e) {
-									CAUGHT_and = ValueUtil.createInvalidValue(e);
-								}
-								/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
-								try {
-									final /*@NonInvalid*/ Modifier modifier_0 = bd.getModifier();
-									if (modifier_0 == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::inheritance\'");
+							/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
+							TRY_and: try {
+								final /*@NonInvalid*/ String name = bd.getName();
+								final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_serialVersionUID.equals(name);
+								/*@Thrown*/ Boolean and;
+								if (eq) {
+									final /*@NonInvalid*/ Modifier modifier = bd.getModifier();
+									if (modifier == null) {
+										CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::static\'");
+										break TRY_and;
 									}
-									final /*@Thrown*/ InheritanceKind inheritance = modifier_0.getInheritance();
-									final /*@Thrown*/ EnumerationLiteralId BOXED_inheritance = inheritance == null ? null : JavaMMTables.ENUMid_InheritanceKind.getEnumerationLiteralId(ClassUtil.nonNullState(inheritance.getName()));
-									final /*@Thrown*/ boolean eq_0 = BOXED_inheritance == JavaMMTables.ELITid_final;
-									CAUGHT_eq_0 = eq_0;
+									final /*@Thrown*/ Boolean symbol_1 = modifier.getStatic();
+									and = symbol_1;
 								}
-								catch (Exception e) {
-									CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
+								else {
+									and = ValueUtil.FALSE_VALUE;
 								}
-								final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_eq_0);
-								CAUGHT_and_0 = and_0;
+								CAUGHT_and = and;
 							}
 							catch (Exception e) {
-								CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+								CAUGHT_and = ValueUtil.createInvalidValue(e);
 							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeLong = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeLong, null);
-								final /*@NonInvalid*/ TypeAccess type_0 = bd.getType();
-								if (type_0 == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
+							TRY_eq_0: try {
+								final /*@NonInvalid*/ Modifier modifier_0 = bd.getModifier();
+								if (modifier_0 == null) {
+									CAUGHT_eq_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::inheritance\'");
+									break TRY_eq_0;
 								}
-								final /*@Thrown*/ Type type_1 = type_0.getType();
-								final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeLong).booleanValue();
-								CAUGHT_oclIsTypeOf = oclIsTypeOf;
+								final /*@Thrown*/ InheritanceKind inheritance = modifier_0.getInheritance();
+								final /*@Thrown*/ EnumerationLiteralId BOXED_inheritance = inheritance == null ? null : JavaMMTables.ENUMid_InheritanceKind.getEnumerationLiteralId(ClassUtil.nonNullState(inheritance.getName()));
+								final /*@Thrown*/ boolean eq_0 = BOXED_inheritance == JavaMMTables.ELITid_final;
+								CAUGHT_eq_0 = eq_0;
 							}
 							catch (Exception e) {
-								CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+								CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
 							}
-							final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
-							CAUGHT_and_1 = and_1;
+							final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_eq_0);
+							CAUGHT_and_0 = and_0;
 						}
 						catch (Exception e) {
-							CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
-						}
-						//
-						if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
-							exists = ValueUtil.TRUE_VALUE;
-							break;														// Stop immediately
-						}
-						else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
-							;															// Carry on
+							CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 						}
-						else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
-							if (accumulator == ValueUtil.FALSE_VALUE) {
-								accumulator = null;										// Cache a null failure
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+						TRY_oclIsTypeOf: try {
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeLong = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeLong, null);
+							final /*@NonInvalid*/ TypeAccess type_0 = bd.getType();
+							if (type_0 == null) {
+								CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+								break TRY_oclIsTypeOf;
 							}
+							final /*@Thrown*/ Type type_1 = type_0.getType();
+							final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeLong, JavaMMKinds.ORD_PrimitiveTypeLong);
+							CAUGHT_oclIsTypeOf = oclIsTypeOf;
 						}
-						else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
-							accumulator = CAUGHT_and_1;									// Cache an exception failure
+						catch (Exception e) {
+							CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
 						}
-						else {															// Impossible badly typed result
-							accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+						final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
+						CAUGHT_and_1 = and_1;
+					}
+					catch (Exception e) {
+						CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
+					}
+					//
+					if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
+						exists = ValueUtil.TRUE_VALUE;
+						break;														// Stop immediately
+					}
+					else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
+						;															// Carry on
+					}
+					else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
+						if (accumulator == ValueUtil.FALSE_VALUE) {
+							accumulator = null;										// Cache a null failure
 						}
 					}
-					result = exists;
-				}
-				else {
-					result = ValueUtil.TRUE_VALUE;
+					else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
+						accumulator = CAUGHT_and_1;									// Cache an exception failure
+					}
+					else {															// Impossible badly typed result
+						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+					}
 				}
-				CAUGHT_result = result;
+				result = exists;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			else {
+				result = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_serialUIDInSerializableClass, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_2 = logDiagnostic;
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_2;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_serialUIDInSerializableClass, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean equalsAndCompareTo(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1058,33 +1062,29 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::equalsAndCompareTo'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_equalsAndCompareTo;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_equalsAndCompareTo);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ boolean hasCompareTo = this.hasCompareTo();
+		/*@NonInvalid*/ boolean result;
+		if (hasCompareTo) {
+			final /*@NonInvalid*/ boolean hasEquals = this.hasEquals();
+			result = hasEquals;
 		}
 		else {
-			final /*@NonInvalid*/ boolean hasCompareTo = this.hasCompareTo();
-			/*@NonInvalid*/ boolean result;
-			if (hasCompareTo) {
-				final /*@NonInvalid*/ boolean hasEquals = this.hasEquals();
-				result = hasEquals;
-			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
-			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_equalsAndCompareTo, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_equalsAndCompareTo, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noRedundantInterfaceImpl(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1107,154 +1107,153 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::noRedundantInterfaceImpl'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_noRedundantInterfaceImpl;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_noRedundantInterfaceImpl);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
 			try {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
-				try {
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_and;
-					try {
-						final /*@NonInvalid*/ TypeAccess superClass = this.getSuperClass();
-						final /*@NonInvalid*/ boolean ne = superClass != null;
-						/*@Thrown*/ boolean and;
-						if (ne) {
-							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_ClassDeclaration = idResolver.getClass(JavaMMTables.CLSSid_ClassDeclaration, null);
-							if (superClass == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
-							}
-							final /*@Thrown*/ Type type_0 = superClass.getType();
-							final /*@Thrown*/ boolean oclIsKindOf = OclAnyOclIsKindOfOperation.INSTANCE.evaluate(executor, type_0, TYP_javaMM_c_c_ClassDeclaration).booleanValue();
-							and = oclIsKindOf;
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_and;
+				TRY_and: try {
+					final /*@NonInvalid*/ TypeAccess superClass = this.getSuperClass();
+					final /*@NonInvalid*/ boolean ne = superClass != null;
+					/*@Thrown*/ boolean and;
+					if (ne) {
+						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_ClassDeclaration = idResolver.getClass(JavaMMTables.CLSSid_ClassDeclaration, null);
+						if (superClass == null) {
+							CAUGHT_and = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							break TRY_and;
 						}
-						else {
-							and = ValueUtil.FALSE_VALUE;
-						}
-						CAUGHT_and = and;
+						final /*@Thrown*/ Type type_0 = superClass.getType();
+						final /*@Thrown*/ boolean oclIsKindOf = JavaMMKinds.isKindOf(executor, type_0, TYP_javaMM_c_c_ClassDeclaration, JavaMMKinds.ORD_ClassDeclaration);
+						and = oclIsKindOf;
 					}
-					catch (Exception e) {
-						CAUGHT_and = ValueUtil.createInvalidValue(e);
+					else {
+						and = ValueUtil.FALSE_VALUE;
 					}
-					final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, ValueUtil.TRUE_VALUE);
-					CAUGHT_and_0 = and_0;
+					CAUGHT_and = and;
 				}
 				catch (Exception e) {
-					CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+					CAUGHT_and = ValueUtil.createInvalidValue(e);
 				}
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
-				try {
-					final /*@NonInvalid*/ List<TypeAccess> superInterfaces = this.getSuperInterfaces();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_superInterfaces = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, superInterfaces);
-					/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
-					/*@NonNull*/ Iterator<Object> ITERATOR_tIface = BOXED_superInterfaces.iterator();
-					/*@Thrown*/ Boolean exists;
-					while (true) {
-						if (!ITERATOR_tIface.hasNext()) {
-							if (accumulator == null) {
-								exists = null;
-							}
-							else if (accumulator == ValueUtil.FALSE_VALUE) {
-								exists = ValueUtil.FALSE_VALUE;
-							}
-							else {
-								throw (InvalidValueException)accumulator;
-							}
-							break;
+				final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, ValueUtil.TRUE_VALUE);
+				CAUGHT_and_0 = and_0;
+			}
+			catch (Exception e) {
+				CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+			}
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
+			try {
+				final /*@NonInvalid*/ List<TypeAccess> superInterfaces = this.getSuperInterfaces();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_superInterfaces = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, superInterfaces);
+				/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
+				/*@NonNull*/ Iterator<Object> ITERATOR_tIface = BOXED_superInterfaces.iterator();
+				/*@Thrown*/ Boolean exists;
+				while (true) {
+					if (!ITERATOR_tIface.hasNext()) {
+						if (accumulator == null) {
+							exists = null;
 						}
-						/*@NonInvalid*/ TypeAccess tIface = (TypeAccess)ITERATOR_tIface.next();
-						/**
-						 *
-						 * self.superClass.type.oclIsKindOf(AbstractTypeDeclaration) implies
-						 * self.superClass.type.oclAsType(AbstractTypeDeclaration)
-						 * .superInterfaces->includes(tIface)
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_implies;
-						try {
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf_0;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractTypeDeclaration = idResolver.getClass(JavaMMTables.CLSSid_AbstractTypeDeclaration, null);
-								final /*@NonInvalid*/ TypeAccess superClass_1 = this.getSuperClass();
-								if (superClass_1 == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
-								}
-								final /*@Thrown*/ Type type_1 = superClass_1.getType();
-								final /*@Thrown*/ boolean oclIsKindOf_0 = OclAnyOclIsKindOfOperation.INSTANCE.evaluate(executor, type_1, TYP_javaMM_c_c_AbstractTypeDeclaration).booleanValue();
-								CAUGHT_oclIsKindOf_0 = oclIsKindOf_0;
-							}
-							catch (Exception e) {
-								CAUGHT_oclIsKindOf_0 = ValueUtil.createInvalidValue(e);
-							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_includes;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractTypeDeclaration_0 = idResolver.getClass(JavaMMTables.CLSSid_AbstractTypeDeclaration, null);
-								final /*@NonInvalid*/ TypeAccess superClass_2 = this.getSuperClass();
-								if (superClass_2 == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
-								}
-								final /*@Thrown*/ Type type_2 = superClass_2.getType();
-								final /*@Thrown*/ AbstractTypeDeclaration oclAsType = ClassUtil.nonNullState((AbstractTypeDeclaration)OclAnyOclAsTypeOperation.INSTANCE.evaluate(executor, type_2, TYP_javaMM_c_c_AbstractTypeDeclaration_0));
-								final /*@Thrown*/ List<TypeAccess> superInterfaces_0 = oclAsType.getSuperInterfaces();
-								final /*@Thrown*/ OrderedSetValue BOXED_superInterfaces_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, superInterfaces_0);
-								final /*@Thrown*/ boolean includes = CollectionIncludesOperation.INSTANCE.evaluate(BOXED_superInterfaces_0, tIface).booleanValue();
-								CAUGHT_includes = includes;
-							}
-							catch (Exception e) {
-								CAUGHT_includes = ValueUtil.createInvalidValue(e);
-							}
-							final /*@Thrown*/ Boolean implies = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf_0, CAUGHT_includes);
-							CAUGHT_implies = implies;
+						else if (accumulator == ValueUtil.FALSE_VALUE) {
+							exists = ValueUtil.FALSE_VALUE;
 						}
-						catch (Exception e) {
-							CAUGHT_implies = ValueUtil.createInvalidValue(e);
+						else {
+							throw (InvalidValueException)accumulator;
 						}
-						//
-						if (CAUGHT_implies == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
-							exists = ValueUtil.TRUE_VALUE;
-							break;														// Stop immediately
+						break;
+					}
+					/*@NonInvalid*/ TypeAccess tIface = (TypeAccess)ITERATOR_tIface.next();
+					/**
+					 *
+					 * self.superClass.type.oclIsKindOf(AbstractTypeDeclaration) implies
+					 * self.superClass.type.oclAsType(AbstractTypeDeclaration)
+					 * .superInterfaces->includes(tIface)
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_implies;
+					try {
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf_0;
+						TRY_oclIsKindOf_0: try {
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractTypeDeclaration = idResolver.getClass(JavaMMTables.CLSSid_AbstractTypeDeclaration, null);
+							final /*@NonInvalid*/ TypeAccess superClass_1 = this.getSuperClass();
+							if (superClass_1 == null) {
+								CAUGHT_oclIsKindOf_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+								break TRY_oclIsKindOf_0;
+							}
+							final /*@Thrown*/ Type type_1 = superClass_1.getType();
+							final /*@Thrown*/ boolean oclIsKindOf_0 = JavaMMKinds.isKindOf(executor, type_1, TYP_javaMM_c_c_AbstractTypeDeclaration, JavaMMKinds.ORD_AbstractTypeDeclaration);
+							CAUGHT_oclIsKindOf_0 = oclIsKindOf_0;
 						}
-						else if (CAUGHT_implies == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
-							;															// Carry on
+						catch (Exception e) {
+							CAUGHT_oclIsKindOf_0 = ValueUtil.createInvalidValue(e);
 						}
-						else if (CAUGHT_implies == null) {								// Abnormal null body evaluation result
-							if (accumulator == ValueUtil.FALSE_VALUE) {
-								accumulator = null;										// Cache a null failure
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_includes;
+						TRY_includes: try {
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractTypeDeclaration_0 = idResolver.getClass(JavaMMTables.CLSSid_AbstractTypeDeclaration, null);
+							final /*@NonInvalid*/ TypeAccess superClass_2 = this.getSuperClass();
+							if (superClass_2 == null) {
+								CAUGHT_includes = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+								break TRY_includes;
 							}
+							final /*@Thrown*/ Type type_2 = superClass_2.getType();
+							final /*@Thrown*/ AbstractTypeDeclaration oclAsType = ClassUtil.nonNullState((AbstractTypeDeclaration)OclAnyOclAsTypeOperation.INSTANCE.evaluate(executor, type_2, TYP_javaMM_c_c_AbstractTypeDeclaration_0));
+							final /*@Thrown*/ List<TypeAccess> superInterfaces_0 = oclAsType.getSuperInterfaces();
+							final /*@Thrown*/ OrderedSetValue BOXED_superInterfaces_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, superInterfaces_0);
+							final /*@Thrown*/ boolean includes = CollectionIncludesOperation.INSTANCE.evaluate(BOXED_superInterfaces_0, tIface).booleanValue();
+							CAUGHT_includes = includes;
 						}
-						else if (CAUGHT_implies instanceof InvalidValueException) {		// Abnormal exception evaluation result
-							accumulator = CAUGHT_implies;									// Cache an exception failure
+						catch (Exception e) {
+							CAUGHT_includes = ValueUtil.createInvalidValue(e);
 						}
-						else {															// Impossible badly typed result
-							accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+						final /*@Thrown*/ Boolean implies = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf_0, CAUGHT_includes);
+						CAUGHT_implies = implies;
+					}
+					catch (Exception e) {
+						CAUGHT_implies = ValueUtil.createInvalidValue(e);
+					}
+					//
+					if (CAUGHT_implies == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
+						exists = ValueUtil.TRUE_VALUE;
+						break;														// Stop immediately
+					}
+					else if (CAUGHT_implies == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
+						;															// Carry on
+					}
+					else if (CAUGHT_implies == null) {								// Abnormal null body evaluation result
+						if (accumulator == ValueUtil.FALSE_VALUE) {
+							accumulator = null;										// Cache a null failure
 						}
 					}
-					CAUGHT_exists = exists;
-				}
-				catch (Exception e) {
-					CAUGHT_exists = ValueUtil.createInvalidValue(e);
+					else if (CAUGHT_implies instanceof InvalidValueException) {		// Abnormal exception evaluation result
+						accumulator = CAUGHT_implies;									// Cache an exception failure
+					}
+					else {															// Impossible badly typed result
+						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+					}
 				}
-				final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_exists);
-				CAUGHT_result = result;
+				CAUGHT_exists = exists;
 			}
 			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+				CAUGHT_exists = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noRedundantInterfaceImpl, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_exists);
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noRedundantInterfaceImpl, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean cloneInCloneable(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1277,166 +1276,165 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::cloneInCloneable'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_cloneInCloneable;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_cloneInCloneable);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_1;
-		if (le) {
-			symbol_1 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Cloneable);
-				/*@Thrown*/ Boolean result;
-				if (symbol_0) {
-					final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
-					/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
-					/*@NonNull*/ Iterator<Object> ITERATOR_md = BOXED_getMethods.iterator();
-					/*@Thrown*/ Boolean exists;
-					while (true) {
-						if (!ITERATOR_md.hasNext()) {
-							if (accumulator == null) {
-								exists = null;
-							}
-							else if (accumulator == ValueUtil.FALSE_VALUE) {
-								exists = ValueUtil.FALSE_VALUE;
-							}
-							else {
-								throw (InvalidValueException)accumulator;
-							}
-							break;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Cloneable);
+			/*@Thrown*/ Boolean result;
+			if (symbol_0) {
+				final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
+				/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
+				/*@NonNull*/ Iterator<Object> ITERATOR_md = BOXED_getMethods.iterator();
+				/*@Thrown*/ Boolean exists;
+				while (true) {
+					if (!ITERATOR_md.hasNext()) {
+						if (accumulator == null) {
+							exists = null;
 						}
-						/*@NonInvalid*/ MethodDeclaration md = (MethodDeclaration)ITERATOR_md.next();
-						/**
-						 * md.name = 'clone' and
-						 * md.parameters->isEmpty() and
-						 * md.thrownExceptions->size() = 1 and
-						 * md.thrownExceptions->first().type.name = 'CloneNotSupportedException' and md.modifier <> null and md.modifier.visibility = VisibilityKind::public
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_3;
+						else if (accumulator == ValueUtil.FALSE_VALUE) {
+							exists = ValueUtil.FALSE_VALUE;
+						}
+						else {
+							throw (InvalidValueException)accumulator;
+						}
+						break;
+					}
+					/*@NonInvalid*/ MethodDeclaration md = (MethodDeclaration)ITERATOR_md.next();
+					/**
+					 * md.name = 'clone' and
+					 * md.parameters->isEmpty() and
+					 * md.thrownExceptions->size() = 1 and
+					 * md.thrownExceptions->first().type.name = 'CloneNotSupportedException' and md.modifier <> null and md.modifier.visibility = VisibilityKind::public
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_3;
+					try {
+						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_2;
 						try {
-							/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_2;
-							try {
-								/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_1;
-								try {
-									final /*@NonInvalid*/ String name = md.getName();
-									final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_clone.equals(name);
-									/*@NonInvalid*/ boolean and;
-									if (eq) {
-										final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters = md.getParameters();
-										final /*@NonInvalid*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
-										final /*@NonInvalid*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
-										and = isEmpty;
-									}
-									else {
-										and = ValueUtil.FALSE_VALUE;
-									}
-									/*@NonInvalid*/ boolean and_0;
-									if (and) {
-										final /*@NonInvalid*/ List<TypeAccess> thrownExceptions = md.getThrownExceptions();
-										final /*@NonInvalid*/ OrderedSetValue BOXED_thrownExceptions = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, thrownExceptions);
-										final /*@NonInvalid*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_thrownExceptions);
-										final /*@NonInvalid*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
-										and_0 = eq_0;
-									}
-									else {
-										and_0 = ValueUtil.FALSE_VALUE;
-									}
-									/*@Thrown*/ boolean and_1;
-									if (and_0) {
-										final /*@NonInvalid*/ List<TypeAccess> thrownExceptions_0 = md.getThrownExceptions();
-										final /*@NonInvalid*/ OrderedSetValue BOXED_thrownExceptions_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, thrownExceptions_0);
-										final /*@Thrown*/ TypeAccess first = (TypeAccess)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_thrownExceptions_0);
-										if (first == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
-										}
-										final /*@Thrown*/ Type type_0 = first.getType();
-										if (type_0 == null) {
-											throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
-										}
-										final /*@Thrown*/ String name_0 = type_0.getName();
-										final /*@Thrown*/ boolean eq_1 = JavaMMTables.STR_CloneNotSupportedException.equals(name_0);
-										and_1 = eq_1;
+							/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_1;
+							TRY_and_1: try {
+								final /*@NonInvalid*/ String name = md.getName();
+								final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_clone.equals(name);
+								/*@NonInvalid*/ boolean and;
+								if (eq) {
+									final /*@NonInvalid*/ List<SingleVariableDeclaration> parameters = md.getParameters();
+									final /*@NonInvalid*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
+									final /*@NonInvalid*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
+									and = isEmpty;
+								}
+								else {
+									and = ValueUtil.FALSE_VALUE;
+								}
+								/*@NonInvalid*/ boolean and_0;
+								if (and) {
+									final /*@NonInvalid*/ List<TypeAccess> thrownExceptions = md.getThrownExceptions();
+									final /*@NonInvalid*/ OrderedSetValue BOXED_thrownExceptions = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, thrownExceptions);
+									final /*@NonInvalid*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_thrownExceptions);
+									final /*@NonInvalid*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
+									and_0 = eq_0;
+								}
+								else {
+									and_0 = ValueUtil.FALSE_VALUE;
+								}
+								/*@Thrown*/ boolean and_1;
+								if (and_0) {
+									final /*@NonInvalid*/ List<TypeAccess> thrownExceptions_0 = md.getThrownExceptions();
+									final /*@NonInvalid*/ OrderedSetValue BOXED_thrownExceptions_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_TypeAccess, thrownExceptions_0);
+									final /*@Thrown*/ TypeAccess first = (TypeAccess)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_thrownExceptions_0);
+									if (first == null) {
+										CAUGHT_and_1 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+										break TRY_and_1;
 									}
-									else {
-										and_1 = ValueUtil.FALSE_VALUE;
+									final /*@Thrown*/ Type type_0 = first.getType();
+									if (type_0 == null) {
+										CAUGHT_and_1 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+										break TRY_and_1;
 									}
-									CAUGHT_and_1 = and_1;
+									final /*@Thrown*/ String name_0 = type_0.getName();
+									final /*@Thrown*/ boolean eq_1 = JavaMMTables.STR_CloneNotSupportedException.equals(name_0);
+									and_1 = eq_1;
 								}
-								catch (Exception e) {
-									CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
-								}
-								final /*@NonInvalid*/ Modifier modifier = md.getModifier();
-								final /*@NonInvalid*/ boolean ne = modifier != null;
-								final /*@Thrown*/ Boolean and_2 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_1, ne);
-								CAUGHT_and_2 = and_2;
-							}
-							catch (Exception e) {
-								CAUGHT_and_2 = ValueUtil.createInvalidValue(e);
-							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_2;
-							try {
-								final /*@NonInvalid*/ Modifier modifier_0 = md.getModifier();
-								if (modifier_0 == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+								else {
+									and_1 = ValueUtil.FALSE_VALUE;
 								}
-								final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
-								final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
-								final /*@Thrown*/ boolean eq_2 = BOXED_visibility == JavaMMTables.ELITid_public;
-								CAUGHT_eq_2 = eq_2;
+								CAUGHT_and_1 = and_1;
 							}
 							catch (Exception e) {
-								CAUGHT_eq_2 = ValueUtil.createInvalidValue(e);
+								CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
 							}
-							final /*@Thrown*/ Boolean and_3 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_2, CAUGHT_eq_2);
-							CAUGHT_and_3 = and_3;
+							final /*@NonInvalid*/ Modifier modifier = md.getModifier();
+							final /*@NonInvalid*/ boolean ne = modifier != null;
+							final /*@Thrown*/ Boolean and_2 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_1, ne);
+							CAUGHT_and_2 = and_2;
 						}
 						catch (Exception e) {
-							CAUGHT_and_3 = ValueUtil.createInvalidValue(e);
-						}
-						//
-						if (CAUGHT_and_3 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
-							exists = ValueUtil.TRUE_VALUE;
-							break;														// Stop immediately
+							CAUGHT_and_2 = ValueUtil.createInvalidValue(e);
 						}
-						else if (CAUGHT_and_3 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
-							;															// Carry on
-						}
-						else if (CAUGHT_and_3 == null) {								// Abnormal null body evaluation result
-							if (accumulator == ValueUtil.FALSE_VALUE) {
-								accumulator = null;										// Cache a null failure
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_2;
+						TRY_eq_2: try {
+							final /*@NonInvalid*/ Modifier modifier_0 = md.getModifier();
+							if (modifier_0 == null) {
+								CAUGHT_eq_2 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+								break TRY_eq_2;
 							}
+							final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
+							final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
+							final /*@Thrown*/ boolean eq_2 = BOXED_visibility == JavaMMTables.ELITid_public;
+							CAUGHT_eq_2 = eq_2;
 						}
-						else if (CAUGHT_and_3 instanceof InvalidValueException) {		// Abnormal exception evaluation result
-							accumulator = CAUGHT_and_3;									// Cache an exception failure
+						catch (Exception e) {
+							CAUGHT_eq_2 = ValueUtil.createInvalidValue(e);
 						}
-						else {															// Impossible badly typed result
-							accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+						final /*@Thrown*/ Boolean and_3 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_2, CAUGHT_eq_2);
+						CAUGHT_and_3 = and_3;
+					}
+					catch (Exception e) {
+						CAUGHT_and_3 = ValueUtil.createInvalidValue(e);
+					}
+					//
+					if (CAUGHT_and_3 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
+						exists = ValueUtil.TRUE_VALUE;
+						break;														// Stop immediately
+					}
+					else if (CAUGHT_and_3 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
+						;															// Carry on
+					}
+					else if (CAUGHT_and_3 == null) {								// Abnormal null body evaluation result
+						if (accumulator == ValueUtil.FALSE_VALUE) {
+							accumulator = null;										// Cache a null failure
 						}
 					}
-					result = exists;
-				}
-				else {
-					result = ValueUtil.TRUE_VALUE;
+					else if (CAUGHT_and_3 instanceof InvalidValueException) {		// Abnormal exception evaluation result
+						accumulator = CAUGHT_and_3;									// Cache an exception failure
+					}
+					else {															// Impossible badly typed result
+						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+					}
 				}
-				CAUGHT_result = result;
+				result = exists;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			else {
+				result = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_cloneInCloneable, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_1 = logDiagnostic;
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_1;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_cloneInCloneable, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noCovariantEquals(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1457,138 +1455,136 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::noCovariantEquals'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_noCovariantEquals;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantEquals);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
 			try {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_exists;
-				try {
-					final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
-					final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
-					/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
-					/*@NonNull*/ Iterator<Object> ITERATOR_method = BOXED_getMethods.iterator();
-					/*@Thrown*/ Boolean exists;
-					while (true) {
-						if (!ITERATOR_method.hasNext()) {
-							if (accumulator == null) {
-								exists = null;
-							}
-							else if (accumulator == ValueUtil.FALSE_VALUE) {
-								exists = ValueUtil.FALSE_VALUE;
-							}
-							else {
-								throw (InvalidValueException)accumulator;
-							}
-							break;
+				final /*@NonInvalid*/ List<MethodDeclaration> getMethods = this.getMethods();
+				final /*@NonInvalid*/ OrderedSetValue BOXED_getMethods = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_MethodDeclaration, getMethods);
+				/*@Thrown*/ Object accumulator = ValueUtil.FALSE_VALUE;
+				/*@NonNull*/ Iterator<Object> ITERATOR_method = BOXED_getMethods.iterator();
+				/*@Thrown*/ Boolean exists;
+				while (true) {
+					if (!ITERATOR_method.hasNext()) {
+						if (accumulator == null) {
+							exists = null;
 						}
-						/*@NonInvalid*/ MethodDeclaration method = (MethodDeclaration)ITERATOR_method.next();
-						/**
-						 * method.name = 'equals' and method.modifier <> null and method.modifier.visibility = VisibilityKind::public and
-						 * method.returnType.type.oclIsTypeOf(PrimitiveTypeBoolean)
-						 */
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
-						try {
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_0;
-							try {
-								final /*@NonInvalid*/ String name = method.getName();
-								final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_equals.equals(name);
-								/*@NonInvalid*/ boolean and;
-								if (eq) {
-									final /*@NonInvalid*/ Modifier modifier = method.getModifier();
-									final /*@NonInvalid*/ boolean ne = modifier != null;
-									and = ne;
-								}
-								else {
-									and = ValueUtil.FALSE_VALUE;
-								}
-								/*@Thrown*/ boolean and_0;
-								if (and) {
-									final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
-									if (modifier_0 == null) {
-										throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
-									}
-									final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
-									final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
-									final /*@Thrown*/ boolean eq_0 = BOXED_visibility == JavaMMTables.ELITid_public;
-									and_0 = eq_0;
-								}
-								else {
-									and_0 = ValueUtil.FALSE_VALUE;
-								}
-								CAUGHT_and_0 = and_0;
+						else if (accumulator == ValueUtil.FALSE_VALUE) {
+							exists = ValueUtil.FALSE_VALUE;
+						}
+						else {
+							throw (InvalidValueException)accumulator;
+						}
+						break;
+					}
+					/*@NonInvalid*/ MethodDeclaration method = (MethodDeclaration)ITERATOR_method.next();
+					/**
+					 * method.name = 'equals' and method.modifier <> null and method.modifier.visibility = VisibilityKind::public and
+					 * method.returnType.type.oclIsTypeOf(PrimitiveTypeBoolean)
+					 */
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_1;
+					try {
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_and_0;
+						TRY_and_0: try {
+							final /*@NonInvalid*/ String name = method.getName();
+							final /*@NonInvalid*/ boolean eq = JavaMMTables.STR_equals.equals(name);
+							/*@NonInvalid*/ boolean and;
+							if (eq) {
+								final /*@NonInvalid*/ Modifier modifier = method.getModifier();
+								final /*@NonInvalid*/ boolean ne = modifier != null;
+								and = ne;
 							}
-							catch (Exception e) {
-								CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+							else {
+								and = ValueUtil.FALSE_VALUE;
 							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeBoolean = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeBoolean, null);
-								final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
-								if (returnType == null) {
-									throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							/*@Thrown*/ boolean and_0;
+							if (and) {
+								final /*@NonInvalid*/ Modifier modifier_0 = method.getModifier();
+								if (modifier_0 == null) {
+									CAUGHT_and_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+									break TRY_and_0;
 								}
-								final /*@Thrown*/ Type type_0 = returnType.getType();
-								final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeBoolean).booleanValue();
-								CAUGHT_oclIsTypeOf = oclIsTypeOf;
+								final /*@Thrown*/ VisibilityKind visibility = modifier_0.getVisibility();
+								final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
+								final /*@Thrown*/ boolean eq_0 = BOXED_visibility == JavaMMTables.ELITid_public;
+								and_0 = eq_0;
 							}
-							catch (Exception e) {
-								CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+							else {
+								and_0 = ValueUtil.FALSE_VALUE;
 							}
-							final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
-							CAUGHT_and_1 = and_1;
+							CAUGHT_and_0 = and_0;
 						}
 						catch (Exception e) {
-							CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
-						}
-						//
-						if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
-							exists = ValueUtil.TRUE_VALUE;
-							break;														// Stop immediately
+							CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 						}
-						else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
-							;															// Carry on
-						}
-						else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
-							if (accumulator == ValueUtil.FALSE_VALUE) {
-								accumulator = null;										// Cache a null failure
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+						TRY_oclIsTypeOf: try {
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeBoolean = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeBoolean, null);
+							final /*@NonInvalid*/ TypeAccess returnType = method.getReturnType();
+							if (returnType == null) {
+								CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+								break TRY_oclIsTypeOf;
 							}
+							final /*@Thrown*/ Type type_0 = returnType.getType();
+							final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_0, TYP_javaMM_c_c_PrimitiveTypeBoolean, JavaMMKinds.ORD_PrimitiveTypeBoolean);
+							CAUGHT_oclIsTypeOf = oclIsTypeOf;
 						}
-						else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
-							accumulator = CAUGHT_and_1;									// Cache an exception failure
+						catch (Exception e) {
+							CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
 						}
-						else {															// Impossible badly typed result
-							accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+						final /*@Thrown*/ Boolean and_1 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and_0, CAUGHT_oclIsTypeOf);
+						CAUGHT_and_1 = and_1;
+					}
+					catch (Exception e) {
+						CAUGHT_and_1 = ValueUtil.createInvalidValue(e);
+					}
+					//
+					if (CAUGHT_and_1 == ValueUtil.TRUE_VALUE) {					// Normal successful body evaluation result
+						exists = ValueUtil.TRUE_VALUE;
+						break;														// Stop immediately
+					}
+					else if (CAUGHT_and_1 == ValueUtil.FALSE_VALUE) {				// Normal unsuccessful body evaluation result
+						;															// Carry on
+					}
+					else if (CAUGHT_and_1 == null) {								// Abnormal null body evaluation result
+						if (accumulator == ValueUtil.FALSE_VALUE) {
+							accumulator = null;										// Cache a null failure
 						}
 					}
-					CAUGHT_exists = exists;
-				}
-				catch (Exception e) {
-					CAUGHT_exists = ValueUtil.createInvalidValue(e);
+					else if (CAUGHT_and_1 instanceof InvalidValueException) {		// Abnormal exception evaluation result
+						accumulator = CAUGHT_and_1;									// Cache an exception failure
+					}
+					else {															// Impossible badly typed result
+						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "exists");
+					}
 				}
-				final /*@NonInvalid*/ boolean hasEquals = this.hasEquals();
-				final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_exists, hasEquals);
-				CAUGHT_result = result;
+				CAUGHT_exists = exists;
 			}
 			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+				CAUGHT_exists = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantEquals, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ boolean hasEquals = this.hasEquals();
+			final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_exists, hasEquals);
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noCovariantEquals, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noObscuredVariables(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1612,172 +1608,169 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::noObscuredVariables'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_noObscuredVariables;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_noObscuredVariables);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_forAll;
-			try {
-				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_FieldDeclaration_0 = idResolver.getClass(JavaMMTables.CLSSid_FieldDeclaration, null);
-				final /*@NonInvalid*/ List<BodyDeclaration> bodyDeclarations_0 = this.getBodyDeclarations();
-				final /*@NonInvalid*/ OrderedSetValue BOXED_bodyDeclarations_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_BodyDeclaration, bodyDeclarations_0);
-				final /*@NonInvalid*/ OrderedSetValue fields = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_bodyDeclarations_0, TYP_javaMM_c_c_FieldDeclaration_0);
-				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractMethodDeclaration = idResolver.getClass(JavaMMTables.CLSSid_AbstractMethodDeclaration, null);
-				final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_bodyDeclarations_0, TYP_javaMM_c_c_AbstractMethodDeclaration);
-				/*@Thrown*/ Object accumulator = ValueUtil.TRUE_VALUE;
-				/*@NonNull*/ Iterator<Object> ITERATOR_md = selectByKind.iterator();
-				/*@Thrown*/ Boolean forAll;
-				while (true) {
-					if (!ITERATOR_md.hasNext()) {
-						if (accumulator == null) {
-							forAll = null;
-						}
-						else if (accumulator == ValueUtil.TRUE_VALUE) {
-							forAll = ValueUtil.TRUE_VALUE;
-						}
-						else {
-							throw (InvalidValueException)accumulator;
-						}
-						break;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_forAll;
+		try {
+			final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_FieldDeclaration_0 = idResolver.getClass(JavaMMTables.CLSSid_FieldDeclaration, null);
+			final /*@NonInvalid*/ List<BodyDeclaration> bodyDeclarations_0 = this.getBodyDeclarations();
+			final /*@NonInvalid*/ OrderedSetValue BOXED_bodyDeclarations_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_BodyDeclaration, bodyDeclarations_0);
+			final /*@NonInvalid*/ OrderedSetValue fields = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_bodyDeclarations_0, TYP_javaMM_c_c_FieldDeclaration_0, JavaMMKinds.ORD_FieldDeclaration);
+			final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_AbstractMethodDeclaration = idResolver.getClass(JavaMMTables.CLSSid_AbstractMethodDeclaration, null);
+			final /*@NonInvalid*/ OrderedSetValue selectByKind = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_bodyDeclarations_0, TYP_javaMM_c_c_AbstractMethodDeclaration, JavaMMKinds.ORD_AbstractMethodDeclaration);
+			/*@Thrown*/ Object accumulator = ValueUtil.TRUE_VALUE;
+			/*@NonNull*/ Iterator<Object> ITERATOR_md = selectByKind.iterator();
+			/*@Thrown*/ Boolean forAll;
+			while (true) {
+				if (!ITERATOR_md.hasNext()) {
+					if (accumulator == null) {
+						forAll = null;
 					}
-					/*@NonInvalid*/ AbstractMethodDeclaration md = (AbstractMethodDeclaration)ITERATOR_md.next();
-					/**
-					 * md.body <> null implies
-					 * md.body.statements->selectByKind(VariableDeclaration)
-					 * ->forAll(vd | fields->forAll(fd | fd.name <> vd.name))
-					 */
-					/*@Caught*/ /*@Nullable*/ Object CAUGHT_implies;
-					try {
-						final /*@NonInvalid*/ Block body = md.getBody();
-						final /*@NonInvalid*/ boolean ne = body != null;
-						/*@Thrown*/ Boolean implies;
-						if (ne) {
-							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_VariableDeclaration = idResolver.getClass(JavaMMTables.CLSSid_VariableDeclaration, null);
-							if (body == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Block::statements\'");
+					else if (accumulator == ValueUtil.TRUE_VALUE) {
+						forAll = ValueUtil.TRUE_VALUE;
+					}
+					else {
+						throw (InvalidValueException)accumulator;
+					}
+					break;
+				}
+				/*@NonInvalid*/ AbstractMethodDeclaration md = (AbstractMethodDeclaration)ITERATOR_md.next();
+				/**
+				 * md.body <> null implies
+				 * md.body.statements->selectByKind(VariableDeclaration)
+				 * ->forAll(vd | fields->forAll(fd | fd.name <> vd.name))
+				 */
+				/*@Caught*/ /*@Nullable*/ Object CAUGHT_implies;
+				TRY_implies: try {
+					final /*@NonInvalid*/ Block body = md.getBody();
+					final /*@NonInvalid*/ boolean ne = body != null;
+					/*@Thrown*/ Boolean implies;
+					if (ne) {
+						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_VariableDeclaration = idResolver.getClass(JavaMMTables.CLSSid_VariableDeclaration, null);
+						if (body == null) {
+							CAUGHT_implies = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Block::statements\'");
+							break TRY_implies;
+						}
+						final /*@Thrown*/ List<Statement> statements = body.getStatements();
+						final /*@Thrown*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
+						final /*@Thrown*/ OrderedSetValue selectByKind_0 = (OrderedSetValue)JavaMMKinds.selectByKind(executor, BOXED_statements, TYP_javaMM_c_c_VariableDeclaration, JavaMMKinds.ORD_VariableDeclaration);
+						/*@Thrown*/ Object accumulator_0 = ValueUtil.TRUE_VALUE;
+						/*@NonNull*/ Iterator<Object> ITERATOR_vd = selectByKind_0.iterator();
+						/*@Thrown*/ Boolean forAll_0;
+						while (true) {
+							if (!ITERATOR_vd.hasNext()) {
+								if (accumulator_0 == null) {
+									forAll_0 = null;
+								}
+								else if (accumulator_0 == ValueUtil.TRUE_VALUE) {
+									forAll_0 = ValueUtil.TRUE_VALUE;
+								}
+								else {
+									throw (InvalidValueException)accumulator_0;
+								}
+								break;
 							}
-							final /*@Thrown*/ List<Statement> statements = body.getStatements();
-							final /*@Thrown*/ OrderedSetValue BOXED_statements = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_Statement, statements);
-							final /*@Thrown*/ OrderedSetValue selectByKind_0 = (OrderedSetValue)CollectionSelectByKindOperation.INSTANCE.evaluate(executor, BOXED_statements, TYP_javaMM_c_c_VariableDeclaration);
-							/*@Thrown*/ Object accumulator_0 = ValueUtil.TRUE_VALUE;
-							/*@NonNull*/ Iterator<Object> ITERATOR_vd = selectByKind_0.iterator();
-							/*@Thrown*/ Boolean forAll_0;
+							/*@NonInvalid*/ VariableDeclaration vd = (VariableDeclaration)ITERATOR_vd.next();
+							/**
+							 * fields->forAll(fd | fd.name <> vd.name)
+							 */
+							/*@Thrown*/ Object accumulator_1 = ValueUtil.TRUE_VALUE;
+							/*@NonNull*/ Iterator<Object> ITERATOR_fd = fields.iterator();
+							/*@NonInvalid*/ Boolean forAll_1;
 							while (true) {
-								if (!ITERATOR_vd.hasNext()) {
-									if (accumulator_0 == null) {
-										forAll_0 = null;
-									}
-									else if (accumulator_0 == ValueUtil.TRUE_VALUE) {
-										forAll_0 = ValueUtil.TRUE_VALUE;
+								if (!ITERATOR_fd.hasNext()) {
+									if (accumulator_1 == ValueUtil.TRUE_VALUE) {
+										forAll_1 = ValueUtil.TRUE_VALUE;
 									}
 									else {
-										throw (InvalidValueException)accumulator_0;
+										throw (InvalidValueException)accumulator_1;
 									}
 									break;
 								}
-								/*@NonInvalid*/ VariableDeclaration vd = (VariableDeclaration)ITERATOR_vd.next();
+								/*@NonInvalid*/ FieldDeclaration fd = (FieldDeclaration)ITERATOR_fd.next();
 								/**
-								 * fields->forAll(fd | fd.name <> vd.name)
+								 * fd.name <> vd.name
 								 */
-								/*@Thrown*/ Object accumulator_1 = ValueUtil.TRUE_VALUE;
-								/*@NonNull*/ Iterator<Object> ITERATOR_fd = fields.iterator();
-								/*@NonInvalid*/ Boolean forAll_1;
-								while (true) {
-									if (!ITERATOR_fd.hasNext()) {
-										if (accumulator_1 == ValueUtil.TRUE_VALUE) {
-											forAll_1 = ValueUtil.TRUE_VALUE;
-										}
-										else {
-											throw (InvalidValueException)accumulator_1;
-										}
-										break;
-									}
-									/*@NonInvalid*/ FieldDeclaration fd = (FieldDeclaration)ITERATOR_fd.next();
-									/**
-									 * fd.name <> vd.name
-									 */
-									final /*@NonInvalid*/ String name = fd.getName();
-									final /*@NonInvalid*/ String name_0 = vd.getName();
-									final /*@NonInvalid*/ boolean ne_0 = (name != null) ? !name.equals(name_0) : (name_0 != null);
-									//
-									if (ne_0 == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
-										forAll_1 = ValueUtil.FALSE_VALUE;
-										break;														// Stop immediately
-									}
-									else if (ne_0 == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
-										;															// Carry on
-									}
-									else {															// Impossible badly typed result
-										accumulator_1 = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
-									}
-								}
+								final /*@NonInvalid*/ String name = fd.getName();
+								final /*@NonInvalid*/ String name_0 = vd.getName();
+								final /*@NonInvalid*/ boolean ne_0 = (name != null) ? !name.equals(name_0) : (name_0 != null);
 								//
-								if (forAll_1 == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
-									forAll_0 = ValueUtil.FALSE_VALUE;
+								if (ne_0 == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
+									forAll_1 = ValueUtil.FALSE_VALUE;
 									break;														// Stop immediately
 								}
-								else if (forAll_1 == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
+								else if (ne_0 == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
 									;															// Carry on
 								}
-								else if (forAll_1 == null) {								// Abnormal null body evaluation result
-									if (accumulator_0 == ValueUtil.TRUE_VALUE) {
-										accumulator_0 = null;										// Cache a null failure
-									}
-								}
 								else {															// Impossible badly typed result
-									accumulator_0 = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
+									accumulator_1 = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
 								}
 							}
-							implies = forAll_0;
-						}
-						else {
-							implies = ValueUtil.TRUE_VALUE;
-						}
-						CAUGHT_implies = implies;
-					}
-					catch (Exception e) {
-						CAUGHT_implies = ValueUtil.createInvalidValue(e);
-					}
-					//
-					if (CAUGHT_implies == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
-						forAll = ValueUtil.FALSE_VALUE;
-						break;														// Stop immediately
-					}
-					else if (CAUGHT_implies == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
-						;															// Carry on
-					}
-					else if (CAUGHT_implies == null) {								// Abnormal null body evaluation result
-						if (accumulator == ValueUtil.TRUE_VALUE) {
-							accumulator = null;										// Cache a null failure
+							//
+							if (forAll_1 == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
+								forAll_0 = ValueUtil.FALSE_VALUE;
+								break;														// Stop immediately
+							}
+							else if (forAll_1 == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
+								;															// Carry on
+							}
+							else if (forAll_1 == null) {								// Abnormal null body evaluation result
+								if (accumulator_0 == ValueUtil.TRUE_VALUE) {
+									accumulator_0 = null;										// Cache a null failure
+								}
+							}
+							else {															// Impossible badly typed result
+								accumulator_0 = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
+							}
 						}
+						implies = forAll_0;
 					}
-					else if (CAUGHT_implies instanceof InvalidValueException) {		// Abnormal exception evaluation result
-						accumulator = CAUGHT_implies;									// Cache an exception failure
+					else {
+						implies = ValueUtil.TRUE_VALUE;
 					}
-					else {															// Impossible badly typed result
-						accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
+					CAUGHT_implies = implies;
+				}
+				catch (Exception e) {
+					CAUGHT_implies = ValueUtil.createInvalidValue(e);
+				}
+				//
+				if (CAUGHT_implies == ValueUtil.FALSE_VALUE) {					// Normal unsuccessful body evaluation result
+					forAll = ValueUtil.FALSE_VALUE;
+					break;														// Stop immediately
+				}
+				else if (CAUGHT_implies == ValueUtil.TRUE_VALUE) {				// Normal successful body evaluation result
+					;															// Carry on
+				}
+				else if (CAUGHT_implies == null) {								// Abnormal null body evaluation result
+					if (accumulator == ValueUtil.TRUE_VALUE) {
+						accumulator = null;										// Cache a null failure
 					}
 				}
-				CAUGHT_forAll = forAll;
-			}
-			catch (Exception e) {
-				CAUGHT_forAll = ValueUtil.createInvalidValue(e);
+				else if (CAUGHT_implies instanceof InvalidValueException) {		// Abnormal exception evaluation result
+					accumulator = CAUGHT_implies;									// Cache an exception failure
+				}
+				else {															// Impossible badly typed result
+					accumulator = new InvalidValueException(PivotMessages.NonBooleanBody, "forAll");
+				}
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noObscuredVariables, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_forAll, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			CAUGHT_forAll = forAll;
+		}
+		catch (Exception e) {
+			CAUGHT_forAll = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_noObscuredVariables, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_forAll, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean comparatorImplementsSerializable(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -1796,27 +1789,23 @@ public class ClassDeclarationImpl extends TypeDeclarationImpl implements ClassDe
 		 *         'ClassDeclaration::comparatorImplementsSerializable'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).classDeclaration_comparatorImplementsSerializable;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_ClassDeclaration_c_c_comparatorImplementsSerializable);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_2;
-		if (le) {
-			symbol_2 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Comparator);
+		/*@NonInvalid*/ boolean result;
+		if (symbol_0) {
+			final /*@NonInvalid*/ boolean symbol_1 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Serializable);
+			result = symbol_1;
 		}
 		else {
-			final /*@NonInvalid*/ boolean symbol_0 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Comparator);
-			/*@NonInvalid*/ boolean result;
-			if (symbol_0) {
-				final /*@NonInvalid*/ boolean symbol_1 = ((AbstractTypeDeclaration)this).implements_(JavaMMTables.STR_Serializable);
-				result = symbol_1;
-			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
-			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_comparatorImplementsSerializable, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_2 = logDiagnostic;
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_2;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_ClassDeclaration_c_c_comparatorImplementsSerializable, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
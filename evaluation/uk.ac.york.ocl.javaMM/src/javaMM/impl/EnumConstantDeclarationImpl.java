@@ -16,6 +16,8 @@ import javaMM.JavaMMTables;
 import javaMM.SingleVariableAccess;
 import javaMM.VariableDeclaration;
 
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -40,13 +42,8 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
 import org.eclipse.ocl.pivot.library.collection.CollectionNotEmptyOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
-import org.eclipse.ocl.pivot.utilities.ValueUtil;
-
 import org.eclipse.ocl.pivot.values.IntegerValue;
 import org.eclipse.ocl.pivot.values.SetValue;
 
@@ -281,7 +278,7 @@ public class EnumConstantDeclarationImpl extends BodyDeclarationImpl implements
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean variableIsUsed(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -298,22 +295,18 @@ public class EnumConstantDeclarationImpl extends BodyDeclarationImpl implements
 		 *         'VariableDeclaration::variableIsUsed'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).variableDeclaration_variableIsUsed;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_VariableDeclaration_c_c_variableIsUsed);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			final /*@NonInvalid*/ List<SingleVariableAccess> usageInVariableAccess = this.getUsageInVariableAccess();
-			final /*@NonInvalid*/ SetValue BOXED_usageInVariableAccess = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_SingleVariableAccess, usageInVariableAccess);
-			final /*@NonInvalid*/ boolean result = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usageInVariableAccess).booleanValue();
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_VariableDeclaration_c_c_variableIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
-		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ List<SingleVariableAccess> usageInVariableAccess = this.getUsageInVariableAccess();
+		final /*@NonInvalid*/ SetValue BOXED_usageInVariableAccess = idResolver.createSetOfAll(JavaMMTables.SET_CLSSid_SingleVariableAccess, usageInVariableAccess);
+		final /*@NonInvalid*/ boolean result = CollectionNotEmptyOperation.INSTANCE.evaluate(BOXED_usageInVariableAccess).booleanValue();
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_VariableDeclaration_c_c_variableIsUsed, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -12,6 +12,9 @@ import javaMM.JavaMMPackage;
 import javaMM.JavaMMTables;
 import javaMM.Statement;
 
+import javaMM.util.JavaMMKinds;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -33,11 +36,7 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 import org.eclipse.ocl.pivot.library.logical.BooleanAndOperation;
 import org.eclipse.ocl.pivot.library.logical.BooleanNotOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsKindOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
 
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
@@ -241,7 +240,7 @@ public class IfStatementImpl extends StatementImpl implements IfStatement {
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noDeadCode(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -258,36 +257,32 @@ public class IfStatementImpl extends StatementImpl implements IfStatement {
 		 *         'IfStatement::noDeadCode'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).ifStatement_noDeadCode;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_IfStatement_c_c_noDeadCode);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf;
+		try {
+			final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_TypeLiteral = idResolver.getClass(JavaMMTables.CLSSid_TypeLiteral, null);
+			final /*@NonInvalid*/ Expression expression = this.getExpression();
+			final /*@Thrown*/ boolean oclIsKindOf = JavaMMKinds.isKindOf(executor, expression, TYP_javaMM_c_c_TypeLiteral, JavaMMKinds.ORD_TypeLiteral);
+			CAUGHT_oclIsKindOf = oclIsKindOf;
 		}
-		else {
-			/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsKindOf;
-			try {
-				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_TypeLiteral = idResolver.getClass(JavaMMTables.CLSSid_TypeLiteral, null);
-				final /*@NonInvalid*/ Expression expression = this.getExpression();
-				final /*@Thrown*/ boolean oclIsKindOf = OclAnyOclIsKindOfOperation.INSTANCE.evaluate(executor, expression, TYP_javaMM_c_c_TypeLiteral).booleanValue();
-				CAUGHT_oclIsKindOf = oclIsKindOf;
-			}
-			catch (Exception e) {
-				CAUGHT_oclIsKindOf = ValueUtil.createInvalidValue(e);
-			}
-			final /*@NonInvalid*/ Boolean result = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf);
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_IfStatement_c_c_noDeadCode, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+		catch (Exception e) {
+			CAUGHT_oclIsKindOf = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ Boolean result = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsKindOf);
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_IfStatement_c_c_noDeadCode, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noUselessControlFlow(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -308,57 +303,53 @@ public class IfStatementImpl extends StatementImpl implements IfStatement {
 		 *         'IfStatement::noUselessControlFlow'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).ifStatement_noUselessControlFlow;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_IfStatement_c_c_noUselessControlFlow);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			final /*@NonInvalid*/ Statement elseStatement = this.getElseStatement();
+			/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
 			try {
-				final /*@NonInvalid*/ Statement elseStatement = this.getElseStatement();
-				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+				final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_EmptyStatement = idResolver.getClass(JavaMMTables.CLSSid_EmptyStatement, null);
+				final /*@NonInvalid*/ Statement thenStatement = this.getThenStatement();
+				final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, thenStatement, TYP_javaMM_c_c_EmptyStatement, JavaMMKinds.ORD_EmptyStatement);
+				CAUGHT_oclIsTypeOf = oclIsTypeOf;
+			}
+			catch (Exception e) {
+				CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+			}
+			final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf);
+			final /*@NonInvalid*/ boolean ne = elseStatement != null;
+			/*@NonInvalid*/ Boolean implies;
+			if (ne) {
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
 				try {
-					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_EmptyStatement = idResolver.getClass(JavaMMTables.CLSSid_EmptyStatement, null);
-					final /*@NonInvalid*/ Statement thenStatement = this.getThenStatement();
-					final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, thenStatement, TYP_javaMM_c_c_EmptyStatement).booleanValue();
-					CAUGHT_oclIsTypeOf = oclIsTypeOf;
+					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_EmptyStatement_0 = idResolver.getClass(JavaMMTables.CLSSid_EmptyStatement, null);
+					final /*@Thrown*/ boolean oclIsTypeOf_0 = JavaMMKinds.isTypeOf(executor, elseStatement, TYP_javaMM_c_c_EmptyStatement_0, JavaMMKinds.ORD_EmptyStatement);
+					CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
 				}
 				catch (Exception e) {
-					CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+					CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
 				}
-				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf);
-				final /*@NonInvalid*/ boolean ne = elseStatement != null;
-				/*@NonInvalid*/ Boolean implies;
-				if (ne) {
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
-					try {
-						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_EmptyStatement_0 = idResolver.getClass(JavaMMTables.CLSSid_EmptyStatement, null);
-						final /*@Thrown*/ boolean oclIsTypeOf_0 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, elseStatement, TYP_javaMM_c_c_EmptyStatement_0).booleanValue();
-						CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
-					}
-					catch (Exception e) {
-						CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
-					}
-					final /*@NonInvalid*/ Boolean not_0 = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf_0);
-					implies = not_0;
-				}
-				else {
-					implies = ValueUtil.TRUE_VALUE;
-				}
-				final /*@Thrown*/ Boolean result = BooleanAndOperation.INSTANCE.evaluate(not, implies);
-				CAUGHT_result = result;
+				final /*@NonInvalid*/ Boolean not_0 = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf_0);
+				implies = not_0;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			else {
+				implies = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_IfStatement_c_c_noUselessControlFlow, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@Thrown*/ Boolean result = BooleanAndOperation.INSTANCE.evaluate(not, implies);
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_IfStatement_c_c_noUselessControlFlow, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -13,6 +13,9 @@ import javaMM.InfixExpressionKind;
 import javaMM.JavaMMPackage;
 import javaMM.JavaMMTables;
 
+import javaMM.util.JavaMMKinds;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -41,9 +44,7 @@ import org.eclipse.ocl.pivot.library.logical.BooleanOrOperation;
 
 import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
 import org.eclipse.ocl.pivot.library.oclany.OclAnyOclTypeOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
 
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ClassUtil;
@@ -282,7 +283,7 @@ public class InfixExpressionImpl extends ExpressionImpl implements InfixExpressi
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean equalsNotOnLiterals(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -309,153 +310,149 @@ public class InfixExpressionImpl extends ExpressionImpl implements InfixExpressi
 		 *         'InfixExpression::equalsNotOnLiterals'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).infixExpression_equalsNotOnLiterals;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnLiterals);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ boolean operatorIsEquality = this.operatorIsEquality();
-				/*@Thrown*/ Boolean result;
-				if (operatorIsEquality) {
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-					try {
-						final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
-						final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
-						final /*@Thrown*/ org.eclipse.ocl.pivot.Class oclType = (org.eclipse.ocl.pivot.Class)OclAnyOclTypeOperation.INSTANCE.evaluate(executor, rightOperand);
-						final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand, oclType).booleanValue();
-						CAUGHT_oclIsTypeOf = oclIsTypeOf;
-					}
-					catch (Exception e) {
-						CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
-					}
-					/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_3;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			final /*@NonInvalid*/ boolean operatorIsEquality = this.operatorIsEquality();
+			/*@Thrown*/ Boolean result;
+			if (operatorIsEquality) {
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+				try {
+					final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
+					final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
+					final /*@Thrown*/ org.eclipse.ocl.pivot.Class oclType = (org.eclipse.ocl.pivot.Class)OclAnyOclTypeOperation.INSTANCE.evaluate(executor, rightOperand);
+					final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand, oclType).booleanValue();
+					CAUGHT_oclIsTypeOf = oclIsTypeOf;
+				}
+				catch (Exception e) {
+					CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+				}
+				/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_3;
+				try {
+					/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_2;
 					try {
-						/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_2;
+						/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_1;
 						try {
-							/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_1;
+							/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_0;
 							try {
-								/*@Caught*/ /*@Nullable*/ Object CAUGHT_or_0;
+								/*@Caught*/ /*@Nullable*/ Object CAUGHT_or;
 								try {
-									/*@Caught*/ /*@Nullable*/ Object CAUGHT_or;
+									/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
 									try {
-										/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
-										try {
-											final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
-											final /*@NonInvalid*/ Expression leftOperand_0 = this.getLeftOperand();
-											final /*@Thrown*/ boolean oclIsTypeOf_0 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_0, TYP_javaMM_c_c_StringLiteral).booleanValue();
-											CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
-										}
-										catch (Exception e) {
-											CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
-										}
-										/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_1;
-										try {
-											final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_NumberLiteral = idResolver.getClass(JavaMMTables.CLSSid_NumberLiteral, null);
-											final /*@NonInvalid*/ Expression leftOperand_1 = this.getLeftOperand();
-											final /*@Thrown*/ boolean oclIsTypeOf_1 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_1, TYP_javaMM_c_c_NumberLiteral).booleanValue();
-											CAUGHT_oclIsTypeOf_1 = oclIsTypeOf_1;
-										}
-										catch (Exception e) {
-											CAUGHT_oclIsTypeOf_1 = ValueUtil.createInvalidValue(e);
-										}
-										final /*@Thrown*/ Boolean or = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf_0, CAUGHT_oclIsTypeOf_1);
-										CAUGHT_or = or;
+										final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
+										final /*@NonInvalid*/ Expression leftOperand_0 = this.getLeftOperand();
+										final /*@Thrown*/ boolean oclIsTypeOf_0 = JavaMMKinds.isTypeOf(executor, leftOperand_0, TYP_javaMM_c_c_StringLiteral, JavaMMKinds.ORD_StringLiteral);
+										CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
 									}
 									catch (Exception e) {
-										CAUGHT_or = ValueUtil.createInvalidValue(e);
+										CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
 									}
-									/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_2;
+									/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_1;
 									try {
-										final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_CharacterLiteral = idResolver.getClass(JavaMMTables.CLSSid_CharacterLiteral, null);
-										final /*@NonInvalid*/ Expression leftOperand_2 = this.getLeftOperand();
-										final /*@Thrown*/ boolean oclIsTypeOf_2 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_2, TYP_javaMM_c_c_CharacterLiteral).booleanValue();
-										CAUGHT_oclIsTypeOf_2 = oclIsTypeOf_2;
+										final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_NumberLiteral = idResolver.getClass(JavaMMTables.CLSSid_NumberLiteral, null);
+										final /*@NonInvalid*/ Expression leftOperand_1 = this.getLeftOperand();
+										final /*@Thrown*/ boolean oclIsTypeOf_1 = JavaMMKinds.isTypeOf(executor, leftOperand_1, TYP_javaMM_c_c_NumberLiteral, JavaMMKinds.ORD_NumberLiteral);
+										CAUGHT_oclIsTypeOf_1 = oclIsTypeOf_1;
 									}
 									catch (Exception e) {
-										CAUGHT_oclIsTypeOf_2 = ValueUtil.createInvalidValue(e);
+										CAUGHT_oclIsTypeOf_1 = ValueUtil.createInvalidValue(e);
 									}
-									final /*@Thrown*/ Boolean or_0 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or, CAUGHT_oclIsTypeOf_2);
-									CAUGHT_or_0 = or_0;
+									final /*@Thrown*/ Boolean or = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf_0, CAUGHT_oclIsTypeOf_1);
+									CAUGHT_or = or;
 								}
 								catch (Exception e) {
-									CAUGHT_or_0 = ValueUtil.createInvalidValue(e);
+									CAUGHT_or = ValueUtil.createInvalidValue(e);
 								}
-								/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_3;
+								/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_2;
 								try {
-									final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_BooleanLiteral = idResolver.getClass(JavaMMTables.CLSSid_BooleanLiteral, null);
-									final /*@NonInvalid*/ Expression leftOperand_3 = this.getLeftOperand();
-									final /*@Thrown*/ boolean oclIsTypeOf_3 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_3, TYP_javaMM_c_c_BooleanLiteral).booleanValue();
-									CAUGHT_oclIsTypeOf_3 = oclIsTypeOf_3;
+									final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_CharacterLiteral = idResolver.getClass(JavaMMTables.CLSSid_CharacterLiteral, null);
+									final /*@NonInvalid*/ Expression leftOperand_2 = this.getLeftOperand();
+									final /*@Thrown*/ boolean oclIsTypeOf_2 = JavaMMKinds.isTypeOf(executor, leftOperand_2, TYP_javaMM_c_c_CharacterLiteral, JavaMMKinds.ORD_CharacterLiteral);
+									CAUGHT_oclIsTypeOf_2 = oclIsTypeOf_2;
 								}
 								catch (Exception e) {
-									CAUGHT_oclIsTypeOf_3 = ValueUtil.createInvalidValue(e);
+									CAUGHT_oclIsTypeOf_2 = ValueUtil.createInvalidValue(e);
 								}
-								final /*@Thrown*/ Boolean or_1 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_0, CAUGHT_oclIsTypeOf_3);
-								CAUGHT_or_1 = or_1;
+								final /*@Thrown*/ Boolean or_0 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or, CAUGHT_oclIsTypeOf_2);
+								CAUGHT_or_0 = or_0;
 							}
 							catch (Exception e) {
-								CAUGHT_or_1 = ValueUtil.createInvalidValue(e);
+								CAUGHT_or_0 = ValueUtil.createInvalidValue(e);
 							}
-							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_4;
+							/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_3;
 							try {
-								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_NullLiteral = idResolver.getClass(JavaMMTables.CLSSid_NullLiteral, null);
-								final /*@NonInvalid*/ Expression leftOperand_4 = this.getLeftOperand();
-								final /*@Thrown*/ boolean oclIsTypeOf_4 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_4, TYP_javaMM_c_c_NullLiteral).booleanValue();
-								CAUGHT_oclIsTypeOf_4 = oclIsTypeOf_4;
+								final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_BooleanLiteral = idResolver.getClass(JavaMMTables.CLSSid_BooleanLiteral, null);
+								final /*@NonInvalid*/ Expression leftOperand_3 = this.getLeftOperand();
+								final /*@Thrown*/ boolean oclIsTypeOf_3 = JavaMMKinds.isTypeOf(executor, leftOperand_3, TYP_javaMM_c_c_BooleanLiteral, JavaMMKinds.ORD_BooleanLiteral);
+								CAUGHT_oclIsTypeOf_3 = oclIsTypeOf_3;
 							}
 							catch (Exception e) {
-								CAUGHT_oclIsTypeOf_4 = ValueUtil.createInvalidValue(e);
+								CAUGHT_oclIsTypeOf_3 = ValueUtil.createInvalidValue(e);
 							}
-							final /*@Thrown*/ Boolean or_2 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_1, CAUGHT_oclIsTypeOf_4);
-							CAUGHT_or_2 = or_2;
+							final /*@Thrown*/ Boolean or_1 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_0, CAUGHT_oclIsTypeOf_3);
+							CAUGHT_or_1 = or_1;
 						}
 						catch (Exception e) {
-							CAUGHT_or_2 = ValueUtil.createInvalidValue(e);
+							CAUGHT_or_1 = ValueUtil.createInvalidValue(e);
 						}
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_5;
+						/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_4;
 						try {
-							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_TypeLiteral_0 = idResolver.getClass(JavaMMTables.CLSSid_TypeLiteral, null);
-							final /*@NonInvalid*/ Expression leftOperand_5 = this.getLeftOperand();
-							final /*@Thrown*/ boolean oclIsTypeOf_5 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand_5, TYP_javaMM_c_c_TypeLiteral_0).booleanValue();
-							CAUGHT_oclIsTypeOf_5 = oclIsTypeOf_5;
+							final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_NullLiteral = idResolver.getClass(JavaMMTables.CLSSid_NullLiteral, null);
+							final /*@NonInvalid*/ Expression leftOperand_4 = this.getLeftOperand();
+							final /*@Thrown*/ boolean oclIsTypeOf_4 = JavaMMKinds.isTypeOf(executor, leftOperand_4, TYP_javaMM_c_c_NullLiteral, JavaMMKinds.ORD_NullLiteral);
+							CAUGHT_oclIsTypeOf_4 = oclIsTypeOf_4;
 						}
 						catch (Exception e) {
-							CAUGHT_oclIsTypeOf_5 = ValueUtil.createInvalidValue(e);
+							CAUGHT_oclIsTypeOf_4 = ValueUtil.createInvalidValue(e);
 						}
-						final /*@Thrown*/ Boolean or_3 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_2, CAUGHT_oclIsTypeOf_5);
-						CAUGHT_or_3 = or_3;
+						final /*@Thrown*/ Boolean or_2 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_1, CAUGHT_oclIsTypeOf_4);
+						CAUGHT_or_2 = or_2;
+					}
+					catch (Exception e) {
+						CAUGHT_or_2 = ValueUtil.createInvalidValue(e);
+					}
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_5;
+					try {
+						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_TypeLiteral_0 = idResolver.getClass(JavaMMTables.CLSSid_TypeLiteral, null);
+						final /*@NonInvalid*/ Expression leftOperand_5 = this.getLeftOperand();
+						final /*@Thrown*/ boolean oclIsTypeOf_5 = JavaMMKinds.isTypeOf(executor, leftOperand_5, TYP_javaMM_c_c_TypeLiteral_0, JavaMMKinds.ORD_TypeLiteral);
+						CAUGHT_oclIsTypeOf_5 = oclIsTypeOf_5;
 					}
 					catch (Exception e) {
-						CAUGHT_or_3 = ValueUtil.createInvalidValue(e);
+						CAUGHT_oclIsTypeOf_5 = ValueUtil.createInvalidValue(e);
 					}
-					final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_or_3);
-					final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf, not);
-					result = and;
+					final /*@Thrown*/ Boolean or_3 = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_or_2, CAUGHT_oclIsTypeOf_5);
+					CAUGHT_or_3 = or_3;
 				}
-				else {
-					result = ValueUtil.TRUE_VALUE;
+				catch (Exception e) {
+					CAUGHT_or_3 = ValueUtil.createInvalidValue(e);
 				}
-				CAUGHT_result = result;
+				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_or_3);
+				final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf, not);
+				result = and;
 			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+			else {
+				result = ValueUtil.TRUE_VALUE;
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnLiterals, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			CAUGHT_result = result;
 		}
-		return Boolean.TRUE == symbol_0;
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
+		}
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnLiterals, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean noRedundantComparison(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -472,27 +469,23 @@ public class InfixExpressionImpl extends ExpressionImpl implements InfixExpressi
 		 *         'InfixExpression::noRedundantComparison'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
-		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_InfixExpression_c_c_noRedundantComparison);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).infixExpression_noRedundantComparison;
+		if (severity <= 0) {
+			return true;
 		}
-		else {
-			final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
-			final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
-			final /*@NonInvalid*/ boolean result = (leftOperand != null) ? !leftOperand.equals(rightOperand) : (rightOperand != null);
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_noRedundantComparison, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
-		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
+		final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
+		final /*@NonInvalid*/ boolean result = (leftOperand != null) ? !leftOperand.equals(rightOperand) : (rightOperand != null);
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_noRedundantComparison, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean equalsNotOnStrings(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -514,56 +507,52 @@ public class InfixExpressionImpl extends ExpressionImpl implements InfixExpressi
 		 *         'InfixExpression::equalsNotOnStrings'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).infixExpression_equalsNotOnStrings;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnStrings);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			final /*@NonInvalid*/ boolean operatorIsEquality = this.operatorIsEquality();
-			/*@NonInvalid*/ Boolean result;
-			if (operatorIsEquality) {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_or;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ boolean operatorIsEquality = this.operatorIsEquality();
+		/*@NonInvalid*/ Boolean result;
+		if (operatorIsEquality) {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_or;
+			try {
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
 				try {
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-					try {
-						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral_0 = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
-						final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
-						final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, leftOperand, TYP_javaMM_c_c_StringLiteral_0).booleanValue();
-						CAUGHT_oclIsTypeOf = oclIsTypeOf;
-					}
-					catch (Exception e) {
-						CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
-					}
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
-					try {
-						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral_1 = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
-						final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
-						final /*@Thrown*/ boolean oclIsTypeOf_0 = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, rightOperand, TYP_javaMM_c_c_StringLiteral_1).booleanValue();
-						CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
-					}
-					catch (Exception e) {
-						CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
-					}
-					final /*@Thrown*/ Boolean or = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf, CAUGHT_oclIsTypeOf_0);
-					CAUGHT_or = or;
+					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral_0 = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
+					final /*@NonInvalid*/ Expression leftOperand = this.getLeftOperand();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, leftOperand, TYP_javaMM_c_c_StringLiteral_0, JavaMMKinds.ORD_StringLiteral);
+					CAUGHT_oclIsTypeOf = oclIsTypeOf;
 				}
 				catch (Exception e) {
-					CAUGHT_or = ValueUtil.createInvalidValue(e);
+					CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
 				}
-				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_or);
-				result = not;
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf_0;
+				try {
+					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_StringLiteral_1 = idResolver.getClass(JavaMMTables.CLSSid_StringLiteral, null);
+					final /*@NonInvalid*/ Expression rightOperand = this.getRightOperand();
+					final /*@Thrown*/ boolean oclIsTypeOf_0 = JavaMMKinds.isTypeOf(executor, rightOperand, TYP_javaMM_c_c_StringLiteral_1, JavaMMKinds.ORD_StringLiteral);
+					CAUGHT_oclIsTypeOf_0 = oclIsTypeOf_0;
+				}
+				catch (Exception e) {
+					CAUGHT_oclIsTypeOf_0 = ValueUtil.createInvalidValue(e);
+				}
+				final /*@Thrown*/ Boolean or = BooleanOrOperation.INSTANCE.evaluate(CAUGHT_oclIsTypeOf, CAUGHT_oclIsTypeOf_0);
+				CAUGHT_or = or;
 			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
+			catch (Exception e) {
+				CAUGHT_or = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnStrings, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_or);
+			result = not;
+		}
+		else {
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_InfixExpression_c_c_equalsNotOnStrings, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -12,6 +12,8 @@ import javaMM.JavaMMTables;
 import javaMM.MethodDeclaration;
 import javaMM.TypeAccess;
 
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -32,9 +34,6 @@ import org.eclipse.ocl.pivot.ids.TypeId;
 
 import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 import org.eclipse.ocl.pivot.library.string.StringAtOperation;
 import org.eclipse.ocl.pivot.library.string.StringToLowerCaseOperation;
@@ -268,7 +267,7 @@ public class MethodDeclarationImpl extends AbstractMethodDeclarationImpl impleme
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean shouldStartWithLowerCase(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -288,29 +287,25 @@ public class MethodDeclarationImpl extends AbstractMethodDeclarationImpl impleme
 		 *         'MethodDeclaration::shouldStartWithLowerCase'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).methodDeclaration_shouldStartWithLowerCase;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_MethodDeclaration_c_c_shouldStartWithLowerCase);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
+		try {
+			final /*@NonInvalid*/ String name_0 = this.getName();
+			final /*@Thrown*/ String at_0 = StringAtOperation.INSTANCE.evaluate(name_0, JavaMMTables.INT_1);
+			final /*@Thrown*/ String toLowerCase = StringToLowerCaseOperation.INSTANCE.evaluate(at_0);
+			final /*@Thrown*/ boolean result = toLowerCase.equals(at_0);
+			CAUGHT_result = result;
 		}
-		else {
-			/*@Caught*/ /*@NonNull*/ Object CAUGHT_result;
-			try {
-				final /*@NonInvalid*/ String name_0 = this.getName();
-				final /*@Thrown*/ String at_0 = StringAtOperation.INSTANCE.evaluate(name_0, JavaMMTables.INT_1);
-				final /*@Thrown*/ String toLowerCase = StringToLowerCaseOperation.INSTANCE.evaluate(at_0);
-				final /*@Thrown*/ boolean result = toLowerCase.equals(at_0);
-				CAUGHT_result = result;
-			}
-			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
-			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodDeclaration_c_c_shouldStartWithLowerCase, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodDeclaration_c_c_shouldStartWithLowerCase, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
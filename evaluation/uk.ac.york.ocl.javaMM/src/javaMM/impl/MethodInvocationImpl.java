@@ -18,6 +18,10 @@ import javaMM.SingleVariableDeclaration;
 import javaMM.Type;
 import javaMM.TypeAccess;
 
+import javaMM.util.JavaMMKinds;
+import javaMM.util.JavaMMInvalids;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -46,16 +50,12 @@ import org.eclipse.ocl.pivot.library.collection.OrderedCollectionFirstOperation;
 import org.eclipse.ocl.pivot.library.logical.BooleanAndOperation;
 import org.eclipse.ocl.pivot.library.logical.BooleanNotOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
 
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
 
 import org.eclipse.ocl.pivot.values.IntegerValue;
-import org.eclipse.ocl.pivot.values.InvalidValueException;
 import org.eclipse.ocl.pivot.values.OrderedSetValue;
 
 /**
@@ -264,7 +264,7 @@ public class MethodInvocationImpl extends ExpressionImpl implements MethodInvoca
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean doesNotCallRunFinalizers(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -286,100 +286,101 @@ public class MethodInvocationImpl extends ExpressionImpl implements MethodInvoca
 		 *         'MethodInvocation::doesNotCallRunFinalizers'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).methodInvocation_doesNotCallRunFinalizers;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallRunFinalizers);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
-			final /*@NonInvalid*/ boolean ne = method != null;
-			/*@NonInvalid*/ Boolean result;
-			if (ne) {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
+		final /*@NonInvalid*/ boolean ne = method != null;
+		/*@NonInvalid*/ Boolean result;
+		if (ne) {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
+			try {
+				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
 				try {
-					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
-					try {
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
-						try {
-							if (method == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
-							}
-							final /*@Thrown*/ String name = method.getName();
-							final /*@Thrown*/ boolean eq = JavaMMTables.STR_runFinalizersOnExit.equals(name);
-							CAUGHT_eq = eq;
-						}
-						catch (Exception e) {
-							CAUGHT_eq = ValueUtil.createInvalidValue(e);
-						}
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
-						try {
-							if (method == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
-							}
-							final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
-							final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
-							final /*@Thrown*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_parameters);
-							final /*@Thrown*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
-							CAUGHT_eq_0 = eq_0;
-						}
-						catch (Exception e) {
-							CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
+					TRY_eq: try {
+						if (method == null) {
+							CAUGHT_eq = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+							break TRY_eq;
 						}
-						final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
-						CAUGHT_and = and;
+						final /*@Thrown*/ String name = method.getName();
+						final /*@Thrown*/ boolean eq = JavaMMTables.STR_runFinalizersOnExit.equals(name);
+						CAUGHT_eq = eq;
 					}
 					catch (Exception e) {
-						CAUGHT_and = ValueUtil.createInvalidValue(e);
+						CAUGHT_eq = ValueUtil.createInvalidValue(e);
 					}
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-					try {
-						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeBoolean_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeBoolean, null);
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
+					TRY_eq_0: try {
 						if (method == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
-						}
-						final /*@Thrown*/ List<SingleVariableDeclaration> parameters_0 = method.getParameters();
-						final /*@Thrown*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
-						final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
-						if (first == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
-						}
-						final /*@Thrown*/ TypeAccess type_0 = first.getType();
-						if (type_0 == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							CAUGHT_eq_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
+							break TRY_eq_0;
 						}
-						final /*@Thrown*/ Type type_1 = type_0.getType();
-						final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeBoolean_0).booleanValue();
-						CAUGHT_oclIsTypeOf = oclIsTypeOf;
+						final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
+						final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
+						final /*@Thrown*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_parameters);
+						final /*@Thrown*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
+						CAUGHT_eq_0 = eq_0;
 					}
 					catch (Exception e) {
-						CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+						CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
 					}
-					final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_oclIsTypeOf);
-					CAUGHT_and_0 = and_0;
+					final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
+					CAUGHT_and = and;
 				}
 				catch (Exception e) {
-					CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+					CAUGHT_and = ValueUtil.createInvalidValue(e);
 				}
-				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and_0);
-				result = not;
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+				TRY_oclIsTypeOf: try {
+					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeBoolean_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeBoolean, null);
+					if (method == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ List<SingleVariableDeclaration> parameters_0 = method.getParameters();
+					final /*@Thrown*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
+					final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
+					if (first == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ TypeAccess type_0 = first.getType();
+					if (type_0 == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ Type type_1 = type_0.getType();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeBoolean_0, JavaMMKinds.ORD_PrimitiveTypeBoolean);
+					CAUGHT_oclIsTypeOf = oclIsTypeOf;
+				}
+				catch (Exception e) {
+					CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+				}
+				final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_oclIsTypeOf);
+				CAUGHT_and_0 = and_0;
 			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
+			catch (Exception e) {
+				CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallRunFinalizers, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and_0);
+			result = not;
 		}
-		return Boolean.TRUE == symbol_0;
+		else {
+			result = ValueUtil.TRUE_VALUE;
+		}
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallRunFinalizers, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean doesNotCallFinalize(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -399,68 +400,66 @@ public class MethodInvocationImpl extends ExpressionImpl implements MethodInvoca
 		 *         'MethodInvocation::doesNotCallFinalize'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).methodInvocation_doesNotCallFinalize;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallFinalize);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
-			final /*@NonInvalid*/ boolean ne = method != null;
-			/*@NonInvalid*/ Boolean result;
-			if (ne) {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
-				try {
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
-					try {
-						if (method == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
-						}
-						final /*@Thrown*/ String name = method.getName();
-						final /*@Thrown*/ boolean eq = JavaMMTables.STR_finalize.equals(name);
-						CAUGHT_eq = eq;
-					}
-					catch (Exception e) {
-						CAUGHT_eq = ValueUtil.createInvalidValue(e);
-					}
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_isEmpty;
-					try {
-						if (method == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
-						}
-						final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
-						final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
-						final /*@Thrown*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
-						CAUGHT_isEmpty = isEmpty;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
+		final /*@NonInvalid*/ boolean ne = method != null;
+		/*@NonInvalid*/ Boolean result;
+		if (ne) {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
+			try {
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
+				TRY_eq: try {
+					if (method == null) {
+						CAUGHT_eq = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+						break TRY_eq;
 					}
-					catch (Exception e) {
-						CAUGHT_isEmpty = ValueUtil.createInvalidValue(e);
+					final /*@Thrown*/ String name = method.getName();
+					final /*@Thrown*/ boolean eq = JavaMMTables.STR_finalize.equals(name);
+					CAUGHT_eq = eq;
+				}
+				catch (Exception e) {
+					CAUGHT_eq = ValueUtil.createInvalidValue(e);
+				}
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_isEmpty;
+				TRY_isEmpty: try {
+					if (method == null) {
+						CAUGHT_isEmpty = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
+						break TRY_isEmpty;
 					}
-					final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_isEmpty);
-					CAUGHT_and = and;
+					final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
+					final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
+					final /*@Thrown*/ boolean isEmpty = CollectionIsEmptyOperation.INSTANCE.evaluate(BOXED_parameters).booleanValue();
+					CAUGHT_isEmpty = isEmpty;
 				}
 				catch (Exception e) {
-					CAUGHT_and = ValueUtil.createInvalidValue(e);
+					CAUGHT_isEmpty = ValueUtil.createInvalidValue(e);
 				}
-				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and);
-				result = not;
+				final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_isEmpty);
+				CAUGHT_and = and;
 			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
+			catch (Exception e) {
+				CAUGHT_and = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallFinalize, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and);
+			result = not;
+		}
+		else {
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallFinalize, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean doesNotCallExit(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -482,94 +481,95 @@ public class MethodInvocationImpl extends ExpressionImpl implements MethodInvoca
 		 *         'MethodInvocation::doesNotCallExit'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).methodInvocation_doesNotCallExit;
+		if (severity <= 0) {
+			return true;
+		}
 		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
 		final /*@NonInvalid*/ IdResolver idResolver = executor.getIdResolver();
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallExit);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
-		}
-		else {
-			final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
-			final /*@NonInvalid*/ boolean ne = method != null;
-			/*@NonInvalid*/ Boolean result;
-			if (ne) {
-				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		final /*@NonInvalid*/ AbstractMethodDeclaration method = this.getMethod();
+		final /*@NonInvalid*/ boolean ne = method != null;
+		/*@NonInvalid*/ Boolean result;
+		if (ne) {
+			/*@Caught*/ /*@Nullable*/ Object CAUGHT_and_0;
+			try {
+				/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
 				try {
-					/*@Caught*/ /*@Nullable*/ Object CAUGHT_and;
-					try {
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
-						try {
-							if (method == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
-							}
-							final /*@Thrown*/ String name = method.getName();
-							final /*@Thrown*/ boolean eq = JavaMMTables.STR_exit.equals(name);
-							CAUGHT_eq = eq;
-						}
-						catch (Exception e) {
-							CAUGHT_eq = ValueUtil.createInvalidValue(e);
-						}
-						/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
-						try {
-							if (method == null) {
-								throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
-							}
-							final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
-							final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
-							final /*@Thrown*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_parameters);
-							final /*@Thrown*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
-							CAUGHT_eq_0 = eq_0;
-						}
-						catch (Exception e) {
-							CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
+					TRY_eq: try {
+						if (method == null) {
+							CAUGHT_eq = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::NamedElement::name\'");
+							break TRY_eq;
 						}
-						final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
-						CAUGHT_and = and;
+						final /*@Thrown*/ String name = method.getName();
+						final /*@Thrown*/ boolean eq = JavaMMTables.STR_exit.equals(name);
+						CAUGHT_eq = eq;
 					}
 					catch (Exception e) {
-						CAUGHT_and = ValueUtil.createInvalidValue(e);
+						CAUGHT_eq = ValueUtil.createInvalidValue(e);
 					}
-					/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
-					try {
-						final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
+					/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
+					TRY_eq_0: try {
 						if (method == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
-						}
-						final /*@Thrown*/ List<SingleVariableDeclaration> parameters_0 = method.getParameters();
-						final /*@Thrown*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
-						final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
-						if (first == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
-						}
-						final /*@Thrown*/ TypeAccess type_0 = first.getType();
-						if (type_0 == null) {
-							throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+							CAUGHT_eq_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
+							break TRY_eq_0;
 						}
-						final /*@Thrown*/ Type type_1 = type_0.getType();
-						final /*@Thrown*/ boolean oclIsTypeOf = OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeInt_0).booleanValue();
-						CAUGHT_oclIsTypeOf = oclIsTypeOf;
+						final /*@Thrown*/ List<SingleVariableDeclaration> parameters = method.getParameters();
+						final /*@Thrown*/ OrderedSetValue BOXED_parameters = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters);
+						final /*@Thrown*/ IntegerValue size = CollectionSizeOperation.INSTANCE.evaluate(BOXED_parameters);
+						final /*@Thrown*/ boolean eq_0 = size.equals(JavaMMTables.INT_1);
+						CAUGHT_eq_0 = eq_0;
 					}
 					catch (Exception e) {
-						CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
+						CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
 					}
-					final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_oclIsTypeOf);
-					CAUGHT_and_0 = and_0;
+					final /*@Thrown*/ Boolean and = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
+					CAUGHT_and = and;
+				}
+				catch (Exception e) {
+					CAUGHT_and = ValueUtil.createInvalidValue(e);
+				}
+				/*@Caught*/ /*@NonNull*/ Object CAUGHT_oclIsTypeOf;
+				TRY_oclIsTypeOf: try {
+					final /*@NonInvalid*/ org.eclipse.ocl.pivot.Class TYP_javaMM_c_c_PrimitiveTypeInt_0 = idResolver.getClass(JavaMMTables.CLSSid_PrimitiveTypeInt, null);
+					if (method == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::AbstractMethodDeclaration::parameters\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ List<SingleVariableDeclaration> parameters_0 = method.getParameters();
+					final /*@Thrown*/ OrderedSetValue BOXED_parameters_0 = idResolver.createOrderedSetOfAll(JavaMMTables.ORD_CLSSid_SingleVariableDeclaration, parameters_0);
+					final /*@Thrown*/ SingleVariableDeclaration first = (SingleVariableDeclaration)OrderedCollectionFirstOperation.INSTANCE.evaluate(BOXED_parameters_0);
+					if (first == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::SingleVariableDeclaration::type\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ TypeAccess type_0 = first.getType();
+					if (type_0 == null) {
+						CAUGHT_oclIsTypeOf = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::TypeAccess::type\'");
+						break TRY_oclIsTypeOf;
+					}
+					final /*@Thrown*/ Type type_1 = type_0.getType();
+					final /*@Thrown*/ boolean oclIsTypeOf = JavaMMKinds.isTypeOf(executor, type_1, TYP_javaMM_c_c_PrimitiveTypeInt_0, JavaMMKinds.ORD_PrimitiveTypeInt);
+					CAUGHT_oclIsTypeOf = oclIsTypeOf;
 				}
 				catch (Exception e) {
-					CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
+					CAUGHT_oclIsTypeOf = ValueUtil.createInvalidValue(e);
 				}
-				final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and_0);
-				result = not;
+				final /*@Thrown*/ Boolean and_0 = BooleanAndOperation.INSTANCE.evaluate(CAUGHT_and, CAUGHT_oclIsTypeOf);
+				CAUGHT_and_0 = and_0;
 			}
-			else {
-				result = ValueUtil.TRUE_VALUE;
+			catch (Exception e) {
+				CAUGHT_and_0 = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallExit, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@NonInvalid*/ Boolean not = BooleanNotOperation.INSTANCE.evaluate(CAUGHT_and_0);
+			result = not;
+		}
+		else {
+			result = ValueUtil.TRUE_VALUE;
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_MethodInvocation_c_c_doesNotCallExit, this, (Object)null, diagnostics, context, (Object)null, severity_0, result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
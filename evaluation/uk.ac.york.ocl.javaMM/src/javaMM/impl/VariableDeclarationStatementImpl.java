@@ -18,6 +18,9 @@ import javaMM.VariableDeclarationFragment;
 import javaMM.VariableDeclarationStatement;
 import javaMM.VisibilityKind;
 
+import javaMM.util.JavaMMInvalids;
+import javaMM.util.JavaMMSeverities;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
@@ -42,16 +45,12 @@ import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 
 import org.eclipse.ocl.pivot.library.logical.BooleanImpliesOperation;
 
-import org.eclipse.ocl.pivot.library.oclany.OclComparableLessThanEqualOperation;
-
-import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
 import org.eclipse.ocl.pivot.library.string.CGStringLogDiagnosticOperation;
 
 import org.eclipse.ocl.pivot.utilities.ClassUtil;
 import org.eclipse.ocl.pivot.utilities.ValueUtil;
 
 import org.eclipse.ocl.pivot.values.IntegerValue;
-import org.eclipse.ocl.pivot.values.InvalidValueException;
 
 /**
  * <!-- begin-user-doc -->
@@ -284,7 +283,7 @@ public class VariableDeclarationStatementImpl extends StatementImpl implements V
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public boolean publicVariableIsFinal(final DiagnosticChain diagnostics, final Map<Object, Object> context) {
 		/**
@@ -301,54 +300,52 @@ public class VariableDeclarationStatementImpl extends StatementImpl implements V
 		 *         'VariableDeclarationStatement::publicVariableIsFinal'.logDiagnostic(self, null, diagnostics, context, null, severity, result, 0)
 		 *     endif
 		 */
-		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
-		final /*@NonInvalid*/ IntegerValue severity_0 = CGStringGetSeverityOperation.INSTANCE.evaluate(executor, JavaMMTables.STR_VariableDeclarationStatement_c_c_publicVariableIsFinal);
-		final /*@NonInvalid*/ boolean le = OclComparableLessThanEqualOperation.INSTANCE.evaluate(executor, severity_0, JavaMMTables.INT_0).booleanValue();
-		/*@NonInvalid*/ boolean symbol_0;
-		if (le) {
-			symbol_0 = ValueUtil.TRUE_VALUE;
+		final /*@NonInvalid*/ int severity = JavaMMSeverities.get(this).variableDeclarationStatement_publicVariableIsFinal;
+		if (severity <= 0) {
+			return true;
 		}
-		else {
-			/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
-			try {
-				/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
-				try {
-					final /*@NonInvalid*/ Modifier modifier = this.getModifier();
-					if (modifier == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
-					}
-					final /*@Thrown*/ VisibilityKind visibility = modifier.getVisibility();
-					final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
-					final /*@Thrown*/ boolean eq = BOXED_visibility == JavaMMTables.ELITid_public;
-					CAUGHT_eq = eq;
-				}
-				catch (Exception e) {
-					CAUGHT_eq = ValueUtil.createInvalidValue(e);
-				}
-				/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
-				try {
-					final /*@NonInvalid*/ Modifier modifier_0 = this.getModifier();
-					if (modifier_0 == null) {
-						throw new InvalidValueException("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::inheritance\'");
-					}
-					final /*@Thrown*/ InheritanceKind inheritance = modifier_0.getInheritance();
-					final /*@Thrown*/ EnumerationLiteralId BOXED_inheritance = inheritance == null ? null : JavaMMTables.ENUMid_InheritanceKind.getEnumerationLiteralId(ClassUtil.nonNullState(inheritance.getName()));
-					final /*@Thrown*/ boolean eq_0 = BOXED_inheritance == JavaMMTables.ELITid_final;
-					CAUGHT_eq_0 = eq_0;
+		final /*@NonInvalid*/ Executor executor = PivotUtilInternal.getExecutor(this);
+		final /*@NonInvalid*/ IntegerValue severity_0 = JavaMMSeverities.valueOf(severity);
+		/*@Caught*/ /*@Nullable*/ Object CAUGHT_result;
+		try {
+			/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq;
+			TRY_eq: try {
+				final /*@NonInvalid*/ Modifier modifier = this.getModifier();
+				if (modifier == null) {
+					CAUGHT_eq = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::visibility\'");
+					break TRY_eq;
 				}
-				catch (Exception e) {
-					CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
+				final /*@Thrown*/ VisibilityKind visibility = modifier.getVisibility();
+				final /*@Thrown*/ EnumerationLiteralId BOXED_visibility = visibility == null ? null : JavaMMTables.ENUMid_VisibilityKind.getEnumerationLiteralId(ClassUtil.nonNullState(visibility.getName()));
+				final /*@Thrown*/ boolean eq = BOXED_visibility == JavaMMTables.ELITid_public;
+				CAUGHT_eq = eq;
+			}
+			catch (Exception e) {
+				CAUGHT_eq = ValueUtil.createInvalidValue(e);
+			}
+			/*@Caught*/ /*@NonNull*/ Object CAUGHT_eq_0;
+			TRY_eq_0: try {
+				final /*@NonInvalid*/ Modifier modifier_0 = this.getModifier();
+				if (modifier_0 == null) {
+					CAUGHT_eq_0 = JavaMMInvalids.nullSource("Null source for \'\'http://www.eclipse.org/MoDisco/Java/0.2.incubation/java\'::Modifier::inheritance\'");
+					break TRY_eq_0;
 				}
-				final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
-				CAUGHT_result = result;
+				final /*@Thrown*/ InheritanceKind inheritance = modifier_0.getInheritance();
+				final /*@Thrown*/ EnumerationLiteralId BOXED_inheritance = inheritance == null ? null : JavaMMTables.ENUMid_InheritanceKind.getEnumerationLiteralId(ClassUtil.nonNullState(inheritance.getName()));
+				final /*@Thrown*/ boolean eq_0 = BOXED_inheritance == JavaMMTables.ELITid_final;
+				CAUGHT_eq_0 = eq_0;
 			}
 			catch (Exception e) {
-				CAUGHT_result = ValueUtil.createInvalidValue(e);
+				CAUGHT_eq_0 = ValueUtil.createInvalidValue(e);
 			}
-			final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_VariableDeclarationStatement_c_c_publicVariableIsFinal, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
-			symbol_0 = logDiagnostic;
+			final /*@Thrown*/ Boolean result = BooleanImpliesOperation.INSTANCE.evaluate(CAUGHT_eq, CAUGHT_eq_0);
+			CAUGHT_result = result;
+		}
+		catch (Exception e) {
+			CAUGHT_result = ValueUtil.createInvalidValue(e);
 		}
-		return Boolean.TRUE == symbol_0;
+		final /*@NonInvalid*/ boolean logDiagnostic = CGStringLogDiagnosticOperation.INSTANCE.evaluate(executor, TypeId.BOOLEAN, JavaMMTables.STR_VariableDeclarationStatement_c_c_publicVariableIsFinal, this, (Object)null, diagnostics, context, (Object)null, severity_0, CAUGHT_result, JavaMMTables.INT_0).booleanValue();
+		return logDiagnostic;
 	}
 
 	/**
@@ -10,18 +10,38 @@
 package javaMM.launch;
 
 import javaMM.JavaMMPackage;
+import javaMM.util.JavaMMConcurrentValidator;
+import javaMM.util.JavaMMSeverities;
 import javaMM.util.JavaMMValidator;
+import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
 import uk.ac.york.ocl.standalone.*;
 
 /**
  * Entry point for evaluating compiled version of java_simple.ocl
+ * Setting <code>-DjavaMM.parallelConstraints=true</code> evaluates
+ * the invariants of each element in parallel.
  *
  * @author Sina Madani
  */
 public class JavaMMLauncher {
 	public static void main(String... args) throws Exception {
-		StandaloneOclConfigParser.newCompiledInstance(
-			JavaMMPackage.eINSTANCE, JavaMMValidator.INSTANCE, args
-		).run();
+		JavaMMValidator validator = Boolean.getBoolean("javaMM.parallelConstraints") ?
+			new JavaMMConcurrentValidator() : JavaMMValidator.INSTANCE;
+		
+		new StandaloneOcl(StandaloneOclConfigParser
+			.compiledInstanceBuilder(JavaMMPackage.eINSTANCE, args)
+			.withValidator(validator)
+		) {
+			@Override
+			protected void registerValidator() {
+				super.registerValidator();
+				// Constraint severities don't change during validation, so resolve them once here.
+				// An empty model has nothing to validate, so leave them to be resolved lazily.
+				if (!modelResource.getContents().isEmpty()) {
+					JavaMMSeverities.register(PivotUtilInternal.getExecutor(modelResource.getContents().get(0)));
+				}
+			}
+		}
+		.run();
 	}
 }
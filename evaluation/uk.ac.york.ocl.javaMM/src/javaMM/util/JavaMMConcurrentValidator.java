@@ -0,0 +1,292 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package javaMM.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import javaMM.AbstractMethodDeclaration;
+import javaMM.Assignment;
+import javaMM.Block;
+import javaMM.CatchClause;
+import javaMM.ClassDeclaration;
+import javaMM.IfStatement;
+import javaMM.InfixExpression;
+import javaMM.JavaMMPackage;
+import javaMM.MethodDeclaration;
+import javaMM.MethodInvocation;
+import javaMM.SuperConstructorInvocation;
+import javaMM.SwitchStatement;
+import javaMM.SynchronizedStatement;
+import javaMM.VariableDeclaration;
+import javaMM.VariableDeclarationExpression;
+import javaMM.VariableDeclarationStatement;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Variant of the generated {@link JavaMMValidator} which evaluates the invariants
+ * of a single element in parallel when it has at least <code>parallelThreshold</code>
+ * of them (e.g. ClassDeclaration). The EMF structural constraints are still checked
+ * sequentially beforehand, as in the generated chain. Each invariant reports into
+ * its own diagnostic, which are then merged into the caller's chain in a fixed order.
+ * <br/>
+ * The invariants are also exposed individually through {@link #getInvariants(EClass)}
+ * and {@link #validateInvariant(int, EObject, DiagnosticChain, Map)}, so that an
+ * external scheduler can distribute (constraint, element) pairs itself.
+ * <br/>
+ * Since invariants of the same element may run concurrently, the context map should
+ * be thread-safe, as created by a concurrent <code>ConstraintDiagnostician</code>.
+ *
+ * @author Sina Madani
+ */
+public class JavaMMConcurrentValidator extends JavaMMValidator {
+	
+	@FunctionalInterface
+	public interface InvariantCheck {
+		boolean validate(JavaMMValidator validator, EObject element, DiagnosticChain diagnostics, Map<Object, Object> context);
+	}
+	
+	/**
+	 * A compiled invariant, identified by its diagnostic code in {@link JavaMMValidator}.
+	 */
+	public static final class Invariant {
+		public final int code;
+		public final EClass context;
+		public final String name;
+		final InvariantCheck check;
+		
+		Invariant(int code, EClass context, String name, InvariantCheck check) {
+			this.code = code;
+			this.context = context;
+			this.name = name;
+			this.check = check;
+		}
+		
+		public boolean appliesTo(EObject element) {
+			return context.isSuperTypeOf(element.eClass());
+		}
+		
+		@Override
+		public String toString() {
+			return context.getName()+"::"+name;
+		}
+	}
+	
+	static final List<Invariant> INVARIANTS = Collections.unmodifiableList(Arrays.asList(
+		new Invariant(ABSTRACT_METHOD_DECLARATION__PARAMETERS_EFFECTIVELY_FINAL, JavaMMPackage.Literals.ABSTRACT_METHOD_DECLARATION, "parametersEffectivelyFinal",
+			(v, e, d, c) -> v.validateAbstractMethodDeclaration_parametersEffectivelyFinal((AbstractMethodDeclaration) e, d, c)
+		),
+		new Invariant(ABSTRACT_METHOD_DECLARATION__LOCAL_METHOD_IS_USED, JavaMMPackage.Literals.ABSTRACT_METHOD_DECLARATION, "localMethodIsUsed",
+			(v, e, d, c) -> v.validateAbstractMethodDeclaration_localMethodIsUsed((AbstractMethodDeclaration) e, d, c)
+		),
+		new Invariant(ASSIGNMENT__NO_REDUNDANT_ASSIGNMENT, JavaMMPackage.Literals.ASSIGNMENT, "noRedundantAssignment",
+			(v, e, d, c) -> v.validateAssignment_noRedundantAssignment((Assignment) e, d, c)
+		),
+		new Invariant(BLOCK__EMPTY_BLOCK_IS_DOCUMENTED, JavaMMPackage.Literals.BLOCK, "emptyBlockIsDocumented",
+			(v, e, d, c) -> v.validateBlock_emptyBlockIsDocumented((Block) e, d, c)
+		),
+		new Invariant(CATCH_CLAUSE__DOES_NOT_CATCH_DUBIOUS_EXCEPTIONS, JavaMMPackage.Literals.CATCH_CLAUSE, "doesNotCatchDubiousExceptions",
+			(v, e, d, c) -> v.validateCatchClause_doesNotCatchDubiousExceptions((CatchClause) e, d, c)
+		),
+		new Invariant(CATCH_CLAUSE__EXCEPTION_IS_USED, JavaMMPackage.Literals.CATCH_CLAUSE, "exceptionIsUsed",
+			(v, e, d, c) -> v.validateCatchClause_exceptionIsUsed((CatchClause) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__NO_COVARIANT_COMPARE_TO, JavaMMPackage.Literals.CLASS_DECLARATION, "noCovariantCompareTo",
+			(v, e, d, c) -> v.validateClassDeclaration_noCovariantCompareTo((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__HASH_CODE_AND_EQUALS, JavaMMPackage.Literals.CLASS_DECLARATION, "hashCodeAndEquals",
+			(v, e, d, c) -> v.validateClassDeclaration_hashCodeAndEquals((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__SERIAL_UID_IN_SERIALIZABLE_CLASS, JavaMMPackage.Literals.CLASS_DECLARATION, "serialUIDInSerializableClass",
+			(v, e, d, c) -> v.validateClassDeclaration_serialUIDInSerializableClass((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__EQUALS_AND_COMPARE_TO, JavaMMPackage.Literals.CLASS_DECLARATION, "equalsAndCompareTo",
+			(v, e, d, c) -> v.validateClassDeclaration_equalsAndCompareTo((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__NO_REDUNDANT_INTERFACE_IMPL, JavaMMPackage.Literals.CLASS_DECLARATION, "noRedundantInterfaceImpl",
+			(v, e, d, c) -> v.validateClassDeclaration_noRedundantInterfaceImpl((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__CLONE_IN_CLONEABLE, JavaMMPackage.Literals.CLASS_DECLARATION, "cloneInCloneable",
+			(v, e, d, c) -> v.validateClassDeclaration_cloneInCloneable((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__NO_COVARIANT_EQUALS, JavaMMPackage.Literals.CLASS_DECLARATION, "noCovariantEquals",
+			(v, e, d, c) -> v.validateClassDeclaration_noCovariantEquals((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__NO_OBSCURED_VARIABLES, JavaMMPackage.Literals.CLASS_DECLARATION, "noObscuredVariables",
+			(v, e, d, c) -> v.validateClassDeclaration_noObscuredVariables((ClassDeclaration) e, d, c)
+		),
+		new Invariant(CLASS_DECLARATION__COMPARATOR_IMPLEMENTS_SERIALIZABLE, JavaMMPackage.Literals.CLASS_DECLARATION, "comparatorImplementsSerializable",
+			(v, e, d, c) -> v.validateClassDeclaration_comparatorImplementsSerializable((ClassDeclaration) e, d, c)
+		),
+		new Invariant(IF_STATEMENT__NO_DEAD_CODE, JavaMMPackage.Literals.IF_STATEMENT, "noDeadCode",
+			(v, e, d, c) -> v.validateIfStatement_noDeadCode((IfStatement) e, d, c)
+		),
+		new Invariant(IF_STATEMENT__NO_USELESS_CONTROL_FLOW, JavaMMPackage.Literals.IF_STATEMENT, "noUselessControlFlow",
+			(v, e, d, c) -> v.validateIfStatement_noUselessControlFlow((IfStatement) e, d, c)
+		),
+		new Invariant(INFIX_EXPRESSION__EQUALS_NOT_ON_LITERALS, JavaMMPackage.Literals.INFIX_EXPRESSION, "equalsNotOnLiterals",
+			(v, e, d, c) -> v.validateInfixExpression_equalsNotOnLiterals((InfixExpression) e, d, c)
+		),
+		new Invariant(INFIX_EXPRESSION__NO_REDUNDANT_COMPARISON, JavaMMPackage.Literals.INFIX_EXPRESSION, "noRedundantComparison",
+			(v, e, d, c) -> v.validateInfixExpression_noRedundantComparison((InfixExpression) e, d, c)
+		),
+		new Invariant(INFIX_EXPRESSION__EQUALS_NOT_ON_STRINGS, JavaMMPackage.Literals.INFIX_EXPRESSION, "equalsNotOnStrings",
+			(v, e, d, c) -> v.validateInfixExpression_equalsNotOnStrings((InfixExpression) e, d, c)
+		),
+		new Invariant(METHOD_DECLARATION__SHOULD_START_WITH_LOWER_CASE, JavaMMPackage.Literals.METHOD_DECLARATION, "shouldStartWithLowerCase",
+			(v, e, d, c) -> v.validateMethodDeclaration_shouldStartWithLowerCase((MethodDeclaration) e, d, c)
+		),
+		new Invariant(METHOD_INVOCATION__DOES_NOT_CALL_RUN_FINALIZERS, JavaMMPackage.Literals.METHOD_INVOCATION, "doesNotCallRunFinalizers",
+			(v, e, d, c) -> v.validateMethodInvocation_doesNotCallRunFinalizers((MethodInvocation) e, d, c)
+		),
+		new Invariant(METHOD_INVOCATION__DOES_NOT_CALL_FINALIZE, JavaMMPackage.Literals.METHOD_INVOCATION, "doesNotCallFinalize",
+			(v, e, d, c) -> v.validateMethodInvocation_doesNotCallFinalize((MethodInvocation) e, d, c)
+		),
+		new Invariant(METHOD_INVOCATION__DOES_NOT_CALL_EXIT, JavaMMPackage.Literals.METHOD_INVOCATION, "doesNotCallExit",
+			(v, e, d, c) -> v.validateMethodInvocation_doesNotCallExit((MethodInvocation) e, d, c)
+		),
+		new Invariant(SUPER_CONSTRUCTOR_INVOCATION__NO_REDUNDANT_SUPER_CALL, JavaMMPackage.Literals.SUPER_CONSTRUCTOR_INVOCATION, "noRedundantSuperCall",
+			(v, e, d, c) -> v.validateSuperConstructorInvocation_noRedundantSuperCall((SuperConstructorInvocation) e, d, c)
+		),
+		new Invariant(SWITCH_STATEMENT__MORE_THAN3_CASES, JavaMMPackage.Literals.SWITCH_STATEMENT, "moreThan3Cases",
+			(v, e, d, c) -> v.validateSwitchStatement_moreThan3Cases((SwitchStatement) e, d, c)
+		),
+		new Invariant(SYNCHRONIZED_STATEMENT__HAS_STATEMENTS, JavaMMPackage.Literals.SYNCHRONIZED_STATEMENT, "hasStatements",
+			(v, e, d, c) -> v.validateSynchronizedStatement_hasStatements((SynchronizedStatement) e, d, c)
+		),
+		new Invariant(VARIABLE_DECLARATION__VARIABLE_IS_USED, JavaMMPackage.Literals.VARIABLE_DECLARATION, "variableIsUsed",
+			(v, e, d, c) -> v.validateVariableDeclaration_variableIsUsed((VariableDeclaration) e, d, c)
+		),
+		new Invariant(VARIABLE_DECLARATION_EXPRESSION__PUBLIC_VARIABLE_IS_FINAL, JavaMMPackage.Literals.VARIABLE_DECLARATION_EXPRESSION, "publicVariableIsFinal",
+			(v, e, d, c) -> v.validateVariableDeclarationExpression_publicVariableIsFinal((VariableDeclarationExpression) e, d, c)
+		),
+		new Invariant(VARIABLE_DECLARATION_STATEMENT__PUBLIC_VARIABLE_IS_FINAL, JavaMMPackage.Literals.VARIABLE_DECLARATION_STATEMENT, "publicVariableIsFinal",
+			(v, e, d, c) -> v.validateVariableDeclarationStatement_publicVariableIsFinal((VariableDeclarationStatement) e, d, c)
+		)
+	));
+	
+	protected final int parallelThreshold;
+	protected final Map<EClass, List<Invariant>> invariantsByType = new ConcurrentHashMap<>();
+	
+	public JavaMMConcurrentValidator() {
+		this(3);
+	}
+	
+	/**
+	 * 
+	 * @param parallelThreshold The minimum number of invariants an element must have
+	 * for them to be evaluated in parallel.
+	 */
+	public JavaMMConcurrentValidator(int parallelThreshold) {
+		this.parallelThreshold = Math.max(parallelThreshold, 2);
+	}
+	
+	/**
+	 * 
+	 * @return All of the compiled invariants, in diagnostic code order.
+	 */
+	public static List<Invariant> getInvariants() {
+		return INVARIANTS;
+	}
+	
+	/**
+	 * 
+	 * @param eClass The type of the element.
+	 * @return The invariants applicable to instances of the type, including inherited ones.
+	 */
+	public List<Invariant> getInvariants(EClass eClass) {
+		return invariantsByType.computeIfAbsent(eClass, ec -> {
+			List<Invariant> applicable = new ArrayList<>(4);
+			for (Invariant inv : INVARIANTS) {
+				if (inv.context.isSuperTypeOf(ec)) {
+					applicable.add(inv);
+				}
+			}
+			return Collections.unmodifiableList(applicable);
+		});
+	}
+	
+	/**
+	 * Evaluates a single invariant on the given element, without the structural EMF constraints.
+	 * 
+	 * @param code The diagnostic code of the invariant, as defined in {@link JavaMMValidator}.
+	 * @param element The model element to validate.
+	 * @param diagnostics The chain to report to, or <code>null</code>.
+	 * @param context The validation context.
+	 * @return Whether the invariant is satisfied.
+	 * @throws IllegalArgumentException If there is no such invariant for the element's type.
+	 */
+	public boolean validateInvariant(int code, EObject element, DiagnosticChain diagnostics, Map<Object, Object> context) throws IllegalArgumentException {
+		if (code < 1 || code > INVARIANTS.size()) {
+			throw new IllegalArgumentException("No invariant with code "+code);
+		}
+		Invariant inv = INVARIANTS.get(code-1);
+		if (!inv.appliesTo(element)) {
+			throw new IllegalArgumentException(inv+" is not applicable to "+element.eClass().getName());
+		}
+		return validateInvariant(inv, element, diagnostics, context);
+	}
+	
+	public boolean validateInvariant(Invariant invariant, EObject element, DiagnosticChain diagnostics, Map<Object, Object> context) {
+		return invariant.check.validate(this, element, diagnostics, context);
+	}
+	
+	@Override
+	protected boolean validate(int classifierID, Object value, DiagnosticChain diagnostics, Map<Object, Object> context) {
+		if (!(value instanceof EObject)) {
+			return super.validate(classifierID, value, diagnostics, context);
+		}
+		EObject eObject = (EObject) value;
+		List<Invariant> invariants = getInvariants(eObject.eClass());
+		if (invariants.size() < parallelThreshold) {
+			return super.validate(classifierID, value, diagnostics, context);
+		}
+		
+		if (!validate_NoCircularContainment(eObject, diagnostics, context)) return false;
+		boolean result = validate_EveryMultiplicityConforms(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryDataValueConforms(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryReferenceIsContained(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryBidirectionalReferenceIsPaired(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryProxyResolves(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_UniqueID(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryKeyUnique(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validate_EveryMapEntryUnique(eObject, diagnostics, context);
+		if (result || diagnostics != null) result &= validateInvariantsInParallel(invariants, eObject, diagnostics, context);
+		return result;
+	}
+	
+	protected boolean validateInvariantsInParallel(List<Invariant> invariants, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+		if (diagnostics == null) {
+			// Nothing to report, so stop as soon as any invariant fails
+			return invariants.parallelStream().allMatch(inv -> validateInvariant(inv, eObject, null, context));
+		}
+		
+		BasicDiagnostic[] results = new BasicDiagnostic[invariants.size()];
+		boolean result = IntStream.range(0, results.length)
+			.parallel()
+			.mapToObj(i -> validateInvariant(invariants.get(i), eObject, results[i] = new BasicDiagnostic(), context))
+			.reduce(Boolean.TRUE, Boolean::logicalAnd);
+		
+		for (BasicDiagnostic local : results) {
+			for (Diagnostic child : local.getChildren()) {
+				diagnostics.add(child);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,50 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package javaMM.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.ocl.pivot.utilities.ValueUtil;
+import org.eclipse.ocl.pivot.values.InvalidValue;
+import org.eclipse.ocl.pivot.values.InvalidValueException;
+
+/**
+ * Invalid values for null navigations in the compiled invariants. The generated
+ * code throws (and immediately catches) an {@link InvalidValueException} for every
+ * null source, which fills in a stack trace each time. Since the message only
+ * depends on the navigation, the bodies instead break out of the enclosing
+ * <code>try</code> with a shared invalid value per message.
+ * <br/>
+ * Setting <code>-DjavaMM.invalidExceptions=true</code> restores the original
+ * throwing behaviour, for comparison.
+ *
+ * @author Sina Madani
+ */
+public final class JavaMMInvalids {
+	
+	public static final boolean USE_EXCEPTIONS = Boolean.getBoolean("javaMM.invalidExceptions");
+	
+	private static final Map<String, InvalidValue> SENTINELS = new ConcurrentHashMap<>();
+	
+	private JavaMMInvalids() {}
+	
+	/**
+	 * 
+	 * @param message The reason the navigation is invalid.
+	 * @return The shared invalid value for the message.
+	 * @throws InvalidValueException If {@link #USE_EXCEPTIONS} is set.
+	 */
+	public static Object nullSource(String message) throws InvalidValueException {
+		if (USE_EXCEPTIONS) {
+			throw new InvalidValueException(message);
+		}
+		return SENTINELS.computeIfAbsent(message, m -> ValueUtil.createInvalidValue(new InvalidValueException(m)));
+	}
+}
@@ -0,0 +1,87 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package javaMM.util;
+
+import java.util.List;
+import javaMM.JavaMMPackage;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.ocl.pivot.evaluation.Executor;
+import org.eclipse.ocl.pivot.ids.CollectionTypeId;
+import org.eclipse.ocl.pivot.library.collection.CollectionSelectByKindOperation;
+import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsKindOfOperation;
+import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
+import org.eclipse.ocl.pivot.values.CollectionValue;
+import uk.ac.york.ocl.standalone.EClassKindTable;
+
+/**
+ * Type tests for the compiled invariants and operations, using a precomputed
+ * {@link EClassKindTable} of the JavaMM package instead of the standard library's
+ * walk of the type hierarchy. The pivot type is still passed in so that values
+ * outside the package (null, invalid etc.) fall back to the standard library.
+ *
+ * @author Sina Madani
+ */
+public final class JavaMMKinds {
+	
+	public static final EClassKindTable TABLE = new EClassKindTable(JavaMMPackage.eINSTANCE);
+	
+	public static final int ORD_AbstractMethodDeclaration = TABLE.ordinal(JavaMMPackage.Literals.ABSTRACT_METHOD_DECLARATION);
+	public static final int ORD_AbstractTypeDeclaration = TABLE.ordinal(JavaMMPackage.Literals.ABSTRACT_TYPE_DECLARATION);
+	public static final int ORD_Assignment = TABLE.ordinal(JavaMMPackage.Literals.ASSIGNMENT);
+	public static final int ORD_BooleanLiteral = TABLE.ordinal(JavaMMPackage.Literals.BOOLEAN_LITERAL);
+	public static final int ORD_CharacterLiteral = TABLE.ordinal(JavaMMPackage.Literals.CHARACTER_LITERAL);
+	public static final int ORD_ClassDeclaration = TABLE.ordinal(JavaMMPackage.Literals.CLASS_DECLARATION);
+	public static final int ORD_EmptyStatement = TABLE.ordinal(JavaMMPackage.Literals.EMPTY_STATEMENT);
+	public static final int ORD_ExpressionStatement = TABLE.ordinal(JavaMMPackage.Literals.EXPRESSION_STATEMENT);
+	public static final int ORD_FieldDeclaration = TABLE.ordinal(JavaMMPackage.Literals.FIELD_DECLARATION);
+	public static final int ORD_MethodDeclaration = TABLE.ordinal(JavaMMPackage.Literals.METHOD_DECLARATION);
+	public static final int ORD_NullLiteral = TABLE.ordinal(JavaMMPackage.Literals.NULL_LITERAL);
+	public static final int ORD_NumberLiteral = TABLE.ordinal(JavaMMPackage.Literals.NUMBER_LITERAL);
+	public static final int ORD_PrimitiveTypeBoolean = TABLE.ordinal(JavaMMPackage.Literals.PRIMITIVE_TYPE_BOOLEAN);
+	public static final int ORD_PrimitiveTypeInt = TABLE.ordinal(JavaMMPackage.Literals.PRIMITIVE_TYPE_INT);
+	public static final int ORD_PrimitiveTypeLong = TABLE.ordinal(JavaMMPackage.Literals.PRIMITIVE_TYPE_LONG);
+	public static final int ORD_SingleVariableAccess = TABLE.ordinal(JavaMMPackage.Literals.SINGLE_VARIABLE_ACCESS);
+	public static final int ORD_StringLiteral = TABLE.ordinal(JavaMMPackage.Literals.STRING_LITERAL);
+	public static final int ORD_TypeLiteral = TABLE.ordinal(JavaMMPackage.Literals.TYPE_LITERAL);
+	public static final int ORD_VariableDeclaration = TABLE.ordinal(JavaMMPackage.Literals.VARIABLE_DECLARATION);
+	
+	private JavaMMKinds() {}
+	
+	public static boolean isKindOf(Executor executor, Object value, org.eclipse.ocl.pivot.Class type, int ordinal) {
+		if (TABLE.covers(value)) {
+			return TABLE.isKindOf((EObject) value, ordinal);
+		}
+		return OclAnyOclIsKindOfOperation.INSTANCE.evaluate(executor, value, type).booleanValue();
+	}
+	
+	public static boolean isTypeOf(Executor executor, Object value, org.eclipse.ocl.pivot.Class type, int ordinal) {
+		if (TABLE.covers(value)) {
+			return TABLE.isTypeOf((EObject) value, ordinal);
+		}
+		return OclAnyOclIsTypeOfOperation.INSTANCE.evaluate(executor, value, type).booleanValue();
+	}
+	
+	/**
+	 *
+	 * @param executor The executor of the calling expression.
+	 * @param source The collection to filter.
+	 * @param type The type to select.
+	 * @param ordinal The ordinal of the type in {@link #TABLE}.
+	 * @return A collection of the same kind as the source, containing only instances of the type.
+	 */
+	public static CollectionValue selectByKind(Executor executor, CollectionValue source, org.eclipse.ocl.pivot.Class type, int ordinal) {
+		List<Object> results = TABLE.selectByKind(source.iterable(), ordinal);
+		if (results == null) {
+			return (CollectionValue) CollectionSelectByKindOperation.INSTANCE.evaluate(executor, source, type);
+		}
+		CollectionTypeId resultTypeId = source.getTypeId().getGeneralizedId().getSpecializedId(type.getTypeId());
+		return executor.getIdResolver().createCollectionOfAll(resultTypeId, results);
+	}
+}
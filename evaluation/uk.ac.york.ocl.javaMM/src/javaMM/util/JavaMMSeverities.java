@@ -0,0 +1,171 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package javaMM.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import javaMM.JavaMMTables;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.ocl.pivot.evaluation.Executor;
+import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
+import org.eclipse.ocl.pivot.library.string.CGStringGetSeverityOperation;
+import org.eclipse.ocl.pivot.utilities.ValueUtil;
+import org.eclipse.ocl.pivot.values.IntegerValue;
+
+/**
+ * Severity of each compiled invariant, resolved once when the validator is
+ * registered rather than on every element. Invariants whose severity is
+ * zero or less short-circuit to <code>true</code> before touching the executor,
+ * so constraints can be disabled by registering an override of 0.
+ * <br/>
+ * If no table has been registered, one is resolved lazily from the executor
+ * of the first element to be validated.
+ *
+ * @author Sina Madani
+ */
+public final class JavaMMSeverities {
+	
+	private static final IntegerValue[] BOXED = new IntegerValue[Diagnostic.CANCEL+1];
+	static {
+		for (int i = 0; i < BOXED.length; i++) {
+			BOXED[i] = ValueUtil.integerValueOf(i);
+		}
+	}
+	
+	private static volatile JavaMMSeverities current;
+	
+	public final int
+		abstractMethodDeclaration_localMethodIsUsed,
+		abstractMethodDeclaration_parametersEffectivelyFinal,
+		assignment_noRedundantAssignment,
+		block_emptyBlockIsDocumented,
+		catchClause_doesNotCatchDubiousExceptions,
+		catchClause_exceptionIsUsed,
+		classDeclaration_cloneInCloneable,
+		classDeclaration_comparatorImplementsSerializable,
+		classDeclaration_equalsAndCompareTo,
+		classDeclaration_hashCodeAndEquals,
+		classDeclaration_noCovariantCompareTo,
+		classDeclaration_noCovariantEquals,
+		classDeclaration_noObscuredVariables,
+		classDeclaration_noRedundantInterfaceImpl,
+		classDeclaration_serialUIDInSerializableClass,
+		ifStatement_noDeadCode,
+		ifStatement_noUselessControlFlow,
+		infixExpression_equalsNotOnLiterals,
+		infixExpression_equalsNotOnStrings,
+		infixExpression_noRedundantComparison,
+		methodDeclaration_shouldStartWithLowerCase,
+		methodInvocation_doesNotCallExit,
+		methodInvocation_doesNotCallFinalize,
+		methodInvocation_doesNotCallRunFinalizers,
+		superConstructorInvocation_noRedundantSuperCall,
+		switchStatement_moreThan3Cases,
+		synchronizedStatement_hasStatements,
+		variableDeclarationExpression_publicVariableIsFinal,
+		variableDeclarationStatement_publicVariableIsFinal,
+		variableDeclaration_variableIsUsed;
+	
+	JavaMMSeverities(ToIntFunction<String> severityOf) {
+		abstractMethodDeclaration_localMethodIsUsed = severityOf.applyAsInt(JavaMMTables.STR_AbstractMethodDeclaration_c_c_localMethodIsUsed);
+		abstractMethodDeclaration_parametersEffectivelyFinal = severityOf.applyAsInt(JavaMMTables.STR_AbstractMethodDeclaration_c_c_parametersEffectivelyFinal);
+		assignment_noRedundantAssignment = severityOf.applyAsInt(JavaMMTables.STR_Assignment_c_c_noRedundantAssignment);
+		block_emptyBlockIsDocumented = severityOf.applyAsInt(JavaMMTables.STR_Block_c_c_emptyBlockIsDocumented);
+		catchClause_doesNotCatchDubiousExceptions = severityOf.applyAsInt(JavaMMTables.STR_CatchClause_c_c_doesNotCatchDubiousExceptions);
+		catchClause_exceptionIsUsed = severityOf.applyAsInt(JavaMMTables.STR_CatchClause_c_c_exceptionIsUsed);
+		classDeclaration_cloneInCloneable = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_cloneInCloneable);
+		classDeclaration_comparatorImplementsSerializable = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_comparatorImplementsSerializable);
+		classDeclaration_equalsAndCompareTo = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_equalsAndCompareTo);
+		classDeclaration_hashCodeAndEquals = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_hashCodeAndEquals);
+		classDeclaration_noCovariantCompareTo = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_noCovariantCompareTo);
+		classDeclaration_noCovariantEquals = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_noCovariantEquals);
+		classDeclaration_noObscuredVariables = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_noObscuredVariables);
+		classDeclaration_noRedundantInterfaceImpl = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_noRedundantInterfaceImpl);
+		classDeclaration_serialUIDInSerializableClass = severityOf.applyAsInt(JavaMMTables.STR_ClassDeclaration_c_c_serialUIDInSerializableClass);
+		ifStatement_noDeadCode = severityOf.applyAsInt(JavaMMTables.STR_IfStatement_c_c_noDeadCode);
+		ifStatement_noUselessControlFlow = severityOf.applyAsInt(JavaMMTables.STR_IfStatement_c_c_noUselessControlFlow);
+		infixExpression_equalsNotOnLiterals = severityOf.applyAsInt(JavaMMTables.STR_InfixExpression_c_c_equalsNotOnLiterals);
+		infixExpression_equalsNotOnStrings = severityOf.applyAsInt(JavaMMTables.STR_InfixExpression_c_c_equalsNotOnStrings);
+		infixExpression_noRedundantComparison = severityOf.applyAsInt(JavaMMTables.STR_InfixExpression_c_c_noRedundantComparison);
+		methodDeclaration_shouldStartWithLowerCase = severityOf.applyAsInt(JavaMMTables.STR_MethodDeclaration_c_c_shouldStartWithLowerCase);
+		methodInvocation_doesNotCallExit = severityOf.applyAsInt(JavaMMTables.STR_MethodInvocation_c_c_doesNotCallExit);
+		methodInvocation_doesNotCallFinalize = severityOf.applyAsInt(JavaMMTables.STR_MethodInvocation_c_c_doesNotCallFinalize);
+		methodInvocation_doesNotCallRunFinalizers = severityOf.applyAsInt(JavaMMTables.STR_MethodInvocation_c_c_doesNotCallRunFinalizers);
+		superConstructorInvocation_noRedundantSuperCall = severityOf.applyAsInt(JavaMMTables.STR_SuperConstructorInvocation_c_c_noRedundantSuperCall);
+		switchStatement_moreThan3Cases = severityOf.applyAsInt(JavaMMTables.STR_SwitchStatement_c_c_moreThan3Cases);
+		synchronizedStatement_hasStatements = severityOf.applyAsInt(JavaMMTables.STR_SynchronizedStatement_c_c_hasStatements);
+		variableDeclarationExpression_publicVariableIsFinal = severityOf.applyAsInt(JavaMMTables.STR_VariableDeclarationExpression_c_c_publicVariableIsFinal);
+		variableDeclarationStatement_publicVariableIsFinal = severityOf.applyAsInt(JavaMMTables.STR_VariableDeclarationStatement_c_c_publicVariableIsFinal);
+		variableDeclaration_variableIsUsed = severityOf.applyAsInt(JavaMMTables.STR_VariableDeclaration_c_c_variableIsUsed);
+	}
+	
+	/**
+	 * Resolves the severities of all constraints using the given executor.
+	 * 
+	 * @param executor The executor whose environment determines the severities.
+	 * @return The table which will be used by all subsequent validations.
+	 */
+	public static JavaMMSeverities register(Executor executor) {
+		return register(executor, Collections.emptyMap());
+	}
+	
+	/**
+	 * Resolves the severities of all constraints using the given executor,
+	 * with the option of overriding the severity of individual constraints.
+	 * 
+	 * @param executor The executor whose environment determines the severities.
+	 * @param overrides Constraint names (e.g. "CatchClause::exceptionIsUsed") mapped to their severity.
+	 * A severity of 0 disables the constraint.
+	 * @return The table which will be used by all subsequent validations.
+	 */
+	public static JavaMMSeverities register(Executor executor, Map<String, Integer> overrides) {
+		return current = new JavaMMSeverities(constraint -> {
+			Integer override = overrides.get(constraint);
+			return override != null ? override :
+				CGStringGetSeverityOperation.INSTANCE.evaluate(executor, constraint).intValue();
+		});
+	}
+	
+	/**
+	 * Discards the registered table, so that it is resolved again on next use.
+	 */
+	public static void reset() {
+		current = null;
+	}
+	
+	/**
+	 * 
+	 * @param element The element being validated, used to resolve the severities
+	 * if they have not been registered yet.
+	 * @return The registered severities.
+	 */
+	public static JavaMMSeverities get(EObject element) {
+		JavaMMSeverities severities = current;
+		if (severities == null) {
+			synchronized (JavaMMSeverities.class) {
+				if ((severities = current) == null) {
+					severities = register(PivotUtilInternal.getExecutor(element));
+				}
+			}
+		}
+		return severities;
+	}
+	
+	/**
+	 * 
+	 * @param severity The severity.
+	 * @return The boxed severity, avoiding allocation for the standard severities.
+	 */
+	public static IntegerValue valueOf(int severity) {
+		return severity >= 0 && severity < BOXED.length ? BOXED[severity] : ValueUtil.integerValueOf(severity);
+	}
+}
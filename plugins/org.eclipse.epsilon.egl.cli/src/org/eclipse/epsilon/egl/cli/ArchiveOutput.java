@@ -0,0 +1,234 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates all files into a single archive with sequential writes, rather than creating a
+ * file (and possibly directories) for each target. Entries are named by the target's path
+ * relative to the output root, with <code>/</code> as the separator. The archive is created
+ * on the first write. Use {@link ArchiveReader} to list or extract the entries.
+ * <br/>
+ * Two formats are supported: {@link Zip} (uncompressed, readable by any zip tool) and
+ * {@link Pack}, an append-only file with an index at the end, in which generating the same target
+ * more than once is allowed (the last write wins).
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public abstract class ArchiveOutput implements GenerationOutput {
+	
+	protected final Path archive, base;
+	/**
+	 * Guarded by this.
+	 */
+	protected long entries, bytes;
+	protected boolean closed;
+	
+	/**
+	 *
+	 * @param archive The archive file.
+	 * @param base The output root, which entry names are relative to. May be <code>null</code>.
+	 */
+	protected ArchiveOutput(Path archive, Path base) {
+		this.archive = archive.toAbsolutePath();
+		this.base = base != null ? base.toAbsolutePath().normalize() : null;
+	}
+	
+	protected String entryName(Path target) {
+		Path path = target.toAbsolutePath().normalize();
+		if (base != null && path.startsWith(base)) {
+			path = base.relativize(path);
+		}
+		else if (path.getRoot() != null) {
+			path = path.getRoot().relativize(path);
+		}
+		return path.toString().replace(path.getFileSystem().getSeparator(), "/");
+	}
+	
+	public Path getArchive() {
+		return archive;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		long archiveSize = 0;
+		try {
+			archiveSize = Files.size(archive);
+		}
+		catch (IOException iox) {
+			// Not created yet
+		}
+		return getClass().getSimpleName()+" output: "+entries+" entries, "+bytes+" bytes ("+archiveSize+" bytes on disk) in "+archive;
+	}
+	
+	/**
+	 * Zip archive with uncompressed (stored) entries. Each target can only be generated once.
+	 */
+	public static class Zip extends ArchiveOutput {
+		protected ZipOutputStream zip;
+		/**
+		 * Names of the entries written. Guarded by this.
+		 */
+		protected final Map<String, Boolean> names = new LinkedHashMap<>();
+		
+		public Zip(Path archive, Path base) {
+			super(archive, base);
+		}
+		
+		@Override
+		public long write(Path target, String contents) throws IOException {
+			String name = entryName(target);
+			byte[] data = contents.getBytes(StandardCharsets.UTF_8);
+			CRC32 crc = new CRC32();
+			crc.update(data);
+			ZipEntry entry = new ZipEntry(name);
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(data.length);
+			entry.setCompressedSize(data.length);
+			entry.setCrc(crc.getValue());
+			
+			synchronized (this) {
+				if (names.put(name, Boolean.TRUE) != null) {
+					throw new IOException("Duplicate entry '"+name+"' in "+archive);
+				}
+				if (zip == null) {
+					Files.createDirectories(archive.getParent());
+					zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive), 1 << 16));
+				}
+				zip.putNextEntry(entry);
+				zip.write(data);
+				zip.closeEntry();
+				entries++;
+				bytes += data.length;
+			}
+			return data.length;
+		}
+		
+		@Override
+		public synchronized boolean exists(Path target) {
+			return names.containsKey(entryName(target));
+		}
+		
+		@Override
+		public synchronized void close() throws IOException {
+			if (zip != null && !closed) {
+				zip.close();
+			}
+			closed = true;
+		}
+	}
+	
+	/**
+	 * Append-only pack file. Each entry is stored as
+	 * <code>[int nameLength][name][int dataLength][data]</code>. On close, the index of
+	 * <code>[int nameLength][name][long dataOffset][int dataLength]</code> entries is
+	 * appended, followed by the footer <code>[long indexOffset][int indexEntries][int MAGIC]</code>.
+	 * All integers are big-endian and names are UTF-8.
+	 */
+	public static class Pack extends ArchiveOutput {
+		public static final int MAGIC = 0x45475850;	// "EGXP"
+		public static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES * 2;
+		
+		protected FileChannel channel;
+		/**
+		 * Entry name to data offset and length. Guarded by this.
+		 */
+		protected final Map<String, long[]> index = new LinkedHashMap<>();
+		
+		public Pack(Path archive, Path base) {
+			super(archive, base);
+		}
+		
+		@Override
+		public long write(Path target, String contents) throws IOException {
+			byte[] name = entryName(target).getBytes(StandardCharsets.UTF_8);
+			ByteBuffer data = StandardCharsets.UTF_8.encode(contents);
+			int length = data.remaining();
+			ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + name.length);
+			header.putInt(name.length).put(name).putInt(length).flip();
+			
+			synchronized (this) {
+				if (channel == null) {
+					Files.createDirectories(archive.getParent());
+					channel = FileChannel.open(archive,
+						StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+					);
+				}
+				long dataOffset = channel.position() + header.remaining();
+				writeFully(header, data);
+				// Later writes of the same target replace the index entry, but keep its position
+				index.put(new String(name, StandardCharsets.UTF_8), new long[] {dataOffset, length});
+				entries++;
+				bytes += length;
+			}
+			return length;
+		}
+		
+		protected void writeFully(ByteBuffer... buffers) throws IOException {
+			ByteBuffer last = buffers[buffers.length - 1];
+			while (last.hasRemaining()) {
+				channel.write(buffers);
+			}
+		}
+		
+		@Override
+		public synchronized boolean exists(Path target) {
+			return index.containsKey(entryName(target));
+		}
+		
+		@Override
+		public synchronized void close() throws IOException {
+			if (channel == null || closed) {
+				closed = true;
+				return;
+			}
+			try {
+				long indexOffset = channel.position();
+				ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+				for (Map.Entry<String, long[]> entry : index.entrySet()) {
+					byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+					int recordSize = Integer.BYTES * 2 + Long.BYTES + name.length;
+					if (buffer.remaining() < recordSize) {
+						buffer.flip();
+						writeFully(buffer);
+						buffer = ByteBuffer.allocate(Math.max(buffer.capacity(), recordSize));
+					}
+					buffer.putInt(name.length).put(name)
+						.putLong(entry.getValue()[0]).putInt((int) entry.getValue()[1]);
+				}
+				if (buffer.remaining() < FOOTER_SIZE) {
+					buffer.flip();
+					writeFully(buffer);
+					buffer = ByteBuffer.allocate(FOOTER_SIZE);
+				}
+				buffer.putLong(indexOffset).putInt(index.size()).putInt(MAGIC).flip();
+				writeFully(buffer);
+			}
+			finally {
+				channel.close();
+				closed = true;
+			}
+		}
+	}
+}
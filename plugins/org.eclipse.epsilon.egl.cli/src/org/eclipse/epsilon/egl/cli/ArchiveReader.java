@@ -0,0 +1,243 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads the entries of an archive written by {@link ArchiveOutput}. The format is
+ * determined from the file itself: pack files end with {@link ArchiveOutput.Pack#MAGIC},
+ * anything else is opened as a zip. Can also be run from the command line:
+ * <br/>
+ * <code>ArchiveReader archive [entry|-all] [outputDir]</code>
+ * <br/>
+ * lists the entries if only the archive is given, prints the entry if no output directory is
+ * given, and otherwise extracts the entry (or all entries) into the directory.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public abstract class ArchiveReader implements Closeable {
+	
+	/**
+	 *
+	 * @param archive The zip or pack file.
+	 * @return A reader for the archive.
+	 * @throws IOException If the archive can't be opened or its index is corrupt.
+	 */
+	public static ArchiveReader open(Path archive) throws IOException {
+		return isPack(archive) ? new Pack(archive) : new Zip(archive);
+	}
+	
+	static boolean isPack(Path archive) throws IOException {
+		try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < ArchiveOutput.Pack.FOOTER_SIZE) return false;
+			ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+			channel.read(magic, size - Integer.BYTES);
+			return magic.remaining() == 0 && magic.getInt(0) == ArchiveOutput.Pack.MAGIC;
+		}
+	}
+	
+	/**
+	 *
+	 * @return The names of the entries, in the order they were written.
+	 */
+	public abstract List<String> list();
+	
+	/**
+	 *
+	 * @param name The entry name, relative to the output root and separated by <code>/</code>.
+	 * @return The entry's contents, or <code>null</code> if there is no such entry.
+	 * @throws IOException
+	 */
+	public String read(String name) throws IOException {
+		byte[] data = readBytes(name);
+		return data != null ? new String(data, StandardCharsets.UTF_8) : null;
+	}
+	
+	protected abstract byte[] readBytes(String name) throws IOException;
+	
+	/**
+	 * Writes an entry to the file it would have been generated as.
+	 *
+	 * @param name The entry name.
+	 * @param outputRoot The directory to extract to.
+	 * @return The extracted file.
+	 * @throws IOException If the entry doesn't exist or can't be written.
+	 */
+	public Path extract(String name, Path outputRoot) throws IOException {
+		byte[] data = readBytes(name);
+		if (data == null) {
+			throw new IOException("No entry '"+name+"'");
+		}
+		Path root = outputRoot.toAbsolutePath().normalize();
+		Path target = root.resolve(name).normalize();
+		if (!target.startsWith(root)) {
+			throw new IOException("Entry '"+name+"' is outside of "+outputRoot);
+		}
+		Files.createDirectories(target.getParent());
+		return Files.write(target, data);
+	}
+	
+	/**
+	 *
+	 * @param outputRoot The directory to extract to.
+	 * @return The number of entries extracted.
+	 * @throws IOException
+	 */
+	public int extractAll(Path outputRoot) throws IOException {
+		List<String> names = list();
+		for (String name : names) {
+			extract(name, outputRoot);
+		}
+		return names.size();
+	}
+	
+	static class Zip extends ArchiveReader {
+		final ZipFile zip;
+		
+		Zip(Path archive) throws IOException {
+			zip = new ZipFile(archive.toFile());
+		}
+		
+		@Override
+		public List<String> list() {
+			List<String> names = new ArrayList<>(zip.size());
+			for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+				ZipEntry entry = entries.nextElement();
+				if (!entry.isDirectory()) {
+					names.add(entry.getName());
+				}
+			}
+			return names;
+		}
+		
+		@Override
+		protected byte[] readBytes(String name) throws IOException {
+			ZipEntry entry = zip.getEntry(name);
+			if (entry == null) return null;
+			try (InputStream in = zip.getInputStream(entry)) {
+				byte[] data = new byte[(int) entry.getSize()];
+				for (int read = 0, n; read < data.length && (n = in.read(data, read, data.length - read)) > 0; read += n);
+				return data;
+			}
+		}
+		
+		@Override
+		public void close() throws IOException {
+			zip.close();
+		}
+	}
+	
+	static class Pack extends ArchiveReader {
+		final FileChannel channel;
+		/**
+		 * Entry name to data offset and length.
+		 */
+		final Map<String, long[]> index;
+		
+		Pack(Path archive) throws IOException {
+			channel = FileChannel.open(archive, StandardOpenOption.READ);
+			try {
+				ByteBuffer footer = readFully(channel.size() - ArchiveOutput.Pack.FOOTER_SIZE, ArchiveOutput.Pack.FOOTER_SIZE);
+				long indexOffset = footer.getLong();
+				int count = footer.getInt();
+				long indexEnd = channel.size() - ArchiveOutput.Pack.FOOTER_SIZE;
+				if (indexOffset < 0 || indexOffset > indexEnd || count < 0) {
+					throw new IOException("Corrupt pack index in "+archive);
+				}
+				ByteBuffer records = readFully(indexOffset, (int) (indexEnd - indexOffset));
+				index = new LinkedHashMap<>(count * 4 / 3 + 1);
+				for (int i = 0; i < count; i++) {
+					byte[] name = new byte[records.getInt()];
+					records.get(name);
+					index.put(new String(name, StandardCharsets.UTF_8), new long[] {records.getLong(), records.getInt()});
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				channel.close();
+				throw ex;
+			}
+		}
+		
+		ByteBuffer readFully(long position, int length) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate(length);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					throw new IOException("Unexpected end of pack at "+(position + buffer.position()));
+				}
+			}
+			buffer.flip();
+			return buffer;
+		}
+		
+		@Override
+		public List<String> list() {
+			return Collections.unmodifiableList(new ArrayList<>(index.keySet()));
+		}
+		
+		@Override
+		protected byte[] readBytes(String name) throws IOException {
+			long[] location = index.get(name);
+			if (location == null) return null;
+			return readFully(location[0], (int) location[1]).array();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+	
+	public static void main(String... args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: ArchiveReader archive [entry|-all] [outputDir]");
+			return;
+		}
+		try (ArchiveReader reader = open(Paths.get(args[0]))) {
+			if (args.length == 1) {
+				reader.list().forEach(System.out::println);
+			}
+			else if (args.length == 2) {
+				String contents = reader.read(args[1]);
+				if (contents == null) {
+					System.err.println("No entry '"+args[1]+"'");
+				}
+				else {
+					System.out.print(contents);
+				}
+			}
+			else if ("-all".equals(args[1])) {
+				System.out.println("Extracted "+reader.extractAll(Paths.get(args[2]))+" entries");
+			}
+			else {
+				System.out.println(reader.extract(args[1], Paths.get(args[2])));
+			}
+		}
+	}
+}
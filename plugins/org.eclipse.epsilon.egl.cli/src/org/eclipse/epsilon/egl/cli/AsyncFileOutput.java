@@ -0,0 +1,212 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind file output. Generating threads encode the contents and put them in a
+ * bounded queue, which a few dedicated I/O threads drain, writing each file with a
+ * {@link FileChannel}. Generating threads therefore only wait for the file system when
+ * the queue is full. Any write failure is rethrown from the next call to
+ * {@link #write(Path, String)} or from {@link #close()}.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class AsyncFileOutput implements GenerationOutput {
+	
+	static final class Entry {
+		final Path target;
+		final ByteBuffer contents;
+		
+		Entry(Path target, ByteBuffer contents) {
+			this.target = target;
+			this.contents = contents;
+		}
+	}
+	
+	static final Entry POISON = new Entry(null, null);
+	
+	protected final BlockingQueue<Entry> queue;
+	protected final Thread[] writers;
+	protected final Set<Path> createdDirs = ConcurrentHashMap.newKeySet();
+	protected final LongAdder
+		filesWritten = new LongAdder(),
+		bytesWritten = new LongAdder(),
+		writeNanos = new LongAdder(),
+		blockedNanos = new LongAdder(),
+		blockedWrites = new LongAdder();
+	protected final AtomicInteger maxDepth = new AtomicInteger();
+	/**
+	 * Times of the first write and of the end of {@link #close()}.
+	 */
+	protected volatile long startNanos, endNanos;
+	protected volatile IOException failure;
+	
+	/**
+	 *
+	 * @param ioThreads The number of threads writing files.
+	 * @param capacity The maximum number of files waiting to be written.
+	 */
+	public AsyncFileOutput(int ioThreads, int capacity) {
+		queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+		writers = new Thread[Math.max(1, ioThreads)];
+		for (int i = 0; i < writers.length; i++) {
+			Thread writer = writers[i] = new Thread(this::drain, "EGX-writer-"+i);
+			writer.setDaemon(true);
+			writer.start();
+		}
+	}
+	
+	@Override
+	public long write(Path target, String contents) throws IOException {
+		checkFailure();
+		if (startNanos == 0) {
+			startNanos = System.nanoTime();
+		}
+		Entry entry = new Entry(target, StandardCharsets.UTF_8.encode(contents));
+		long size = entry.contents.remaining();
+		try {
+			if (!queue.offer(entry)) {
+				// Back-pressure: the writers can't keep up
+				long start = System.nanoTime();
+				queue.put(entry);
+				blockedNanos.add(System.nanoTime() - start);
+				blockedWrites.increment();
+			}
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while queueing "+target);
+		}
+		int depth = queue.size();
+		for (int max; depth > (max = maxDepth.get()) && !maxDepth.compareAndSet(max, depth););
+		return size;
+	}
+	
+	@Override
+	public boolean exists(Path target) {
+		return Files.exists(target);
+	}
+	
+	protected void drain() {
+		try {
+			for (Entry entry; (entry = queue.take()) != POISON;) {
+				if (failure != null) continue;
+				try {
+					long start = System.nanoTime();
+					long bytes = writeFile(entry.target, entry.contents);
+					writeNanos.add(System.nanoTime() - start);
+					bytesWritten.add(bytes);
+					filesWritten.increment();
+				}
+				catch (IOException iox) {
+					failure = iox;
+				}
+			}
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	protected long writeFile(Path target, ByteBuffer contents) throws IOException {
+		Path parent = target.getParent();
+		if (parent != null && !createdDirs.contains(parent)) {
+			Files.createDirectories(parent);
+			createdDirs.add(parent);
+		}
+		try (FileChannel channel = FileChannel.open(target,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long written = 0;
+			while (contents.hasRemaining()) {
+				written += channel.write(contents);
+			}
+			return written;
+		}
+	}
+	
+	protected void checkFailure() throws IOException {
+		IOException ex = failure;
+		if (ex != null) throw ex;
+	}
+	
+	/**
+	 * Waits for all queued files to be written and stops the I/O threads.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (endNanos == 0) {
+			try {
+				for (int i = 0; i < writers.length; i++) {
+					queue.put(POISON);
+				}
+				for (Thread writer : writers) {
+					writer.join();
+				}
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while flushing output");
+			}
+			finally {
+				endNanos = System.nanoTime();
+			}
+		}
+		checkFailure();
+	}
+	
+	public long getFilesWritten() {
+		return filesWritten.sum();
+	}
+	
+	public long getBytesWritten() {
+		return bytesWritten.sum();
+	}
+	
+	public int getMaxQueueDepth() {
+		return maxDepth.get();
+	}
+	
+	/**
+	 *
+	 * @return The total time generating threads spent waiting for space in the queue, in milliseconds.
+	 */
+	public long getBlockedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(blockedNanos.sum());
+	}
+	
+	@Override
+	public String toString() {
+		long elapsed = startNanos == 0 ? 0 : (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+		double seconds = Math.max(elapsed, 1) / 1e9;
+		return "Async output: "+getFilesWritten()+" files, "+getBytesWritten()+" bytes by "+writers.length+" threads ("+
+			Math.round(getFilesWritten() / seconds)+" files/s, "+
+			Math.round(getBytesWritten() / seconds / 1024)+" KB/s, "+
+			TimeUnit.NANOSECONDS.toMillis(writeNanos.sum())+" ms in writes), "+
+			"max queue depth "+getMaxQueueDepth()+"/"+(queue.size() + queue.remainingCapacity())+", "+
+			blockedWrites.sum()+" blocked puts ("+getBlockedMillis()+" ms)";
+	}
+}
@@ -28,18 +28,29 @@ public class EgxConfigParser<C extends EgxRunConfiguration, B extends EgxRunConf
 	
 	@SuppressWarnings("unchecked")
 	public EgxConfigParser() {
-		this((B) EgxRunConfiguration.Builder());
+		this((B) EgxOutputRunConfiguration.Builder());
 	}
 	
 	protected final String
 		tfRootOpt = "factoryRoot",
 		inMemoryOutput = "nopersist",
-		deleteFiles = "deleteBeforeGen";
+		deleteFiles = "deleteBeforeGen",
+		outputModeOpt = "outputMode",
+		ioThreadsOpt = "ioThreads",
+		queueCapacityOpt = "queueCapacity",
+		archiveOpt = "archive",
+		incrementalOpt = "incremental",
+		templateCacheOpt = "templateCache",
+		bufferSizeOpt = "bufferSize";
 	
 	public EgxConfigParser(B builder) {
 		super(builder);
 		optionalUsage += "  [no generated files]"+nL
-			+"  -"+tfRootOpt+" [TemplateFactory root path]"+nL;
+			+"  -"+tfRootOpt+" [TemplateFactory root path]"+nL
+			+"  -"+outputModeOpt+" [sync|async|stream|zip|pack]"+nL
+			+"  -"+archiveOpt+" [archive path for zip or pack output]"+nL
+			+"  -"+incrementalOpt+" [fingerprint depth]"+nL
+			+"  -"+templateCacheOpt+" [reuse parsed templates]"+nL;
 		
 		options.addOption(Option.builder("tfr")
 			.longOpt(tfRootOpt)
@@ -56,6 +67,50 @@ public class EgxConfigParser<C extends EgxRunConfiguration, B extends EgxRunConf
 			.longOpt(deleteFiles)
 			.desc("Deletes all files in the output directory before each run")
 			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(outputModeOpt)
+			.hasArg()
+			.desc("How generated files are written: sync (by the generating thread), async (by dedicated I/O threads), "
+				+ "stream (by the generating thread, through pooled buffers), zip or pack (into a single archive)")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(ioThreadsOpt)
+			.hasArg()
+			.desc("Number of I/O threads for async output")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(queueCapacityOpt)
+			.hasArg()
+			.desc("Maximum number of files waiting to be written with async output")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(bufferSizeOpt)
+			.hasArg()
+			.desc("Size in bytes of each pooled buffer with stream output")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(archiveOpt)
+			.hasArg()
+			.desc("Archive file for zip or pack output")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(incrementalOpt)
+			.hasArg()
+			.optionalArg(true)
+			.desc("Only writes files whose contents changed since the last run. If a depth is given, "
+				+ "templates whose parameters (up to that many references deep) are unchanged aren't evaluated")
+			.build()
+		)
+		.addOption(Option.builder()
+			.longOpt(templateCacheOpt)
+			.desc("Reuses parsed templates across rule invocations, threads and repeats of the same module")
+			.build()
 		);
 	}
 	
@@ -67,5 +122,34 @@ public class EgxConfigParser<C extends EgxRunConfiguration, B extends EgxRunConf
 		if (cmdLine.hasOption(tfRootOpt)) {
 			builder.withOutputRoot(cmdLine.getOptionValue(tfRootOpt));
 		}
+		if (builder instanceof EgxOutputRunConfiguration.Builder) {
+			EgxOutputRunConfiguration.Builder<?, ?> outputBuilder = (EgxOutputRunConfiguration.Builder<?, ?>) builder;
+			if (cmdLine.hasOption(outputModeOpt)) {
+				outputBuilder.outputMode = cmdLine.getOptionValue(outputModeOpt);
+			}
+			if (cmdLine.hasOption(ioThreadsOpt)) {
+				outputBuilder.ioThreads = Integer.parseInt(cmdLine.getOptionValue(ioThreadsOpt));
+			}
+			if (cmdLine.hasOption(queueCapacityOpt)) {
+				outputBuilder.queueCapacity = Integer.parseInt(cmdLine.getOptionValue(queueCapacityOpt));
+			}
+			if (cmdLine.hasOption(bufferSizeOpt)) {
+				outputBuilder.bufferSize = Integer.parseInt(cmdLine.getOptionValue(bufferSizeOpt));
+			}
+			if (cmdLine.hasOption(archiveOpt)) {
+				outputBuilder.archive = cmdLine.getOptionValue(archiveOpt);
+			}
+			outputBuilder.templateCache = cmdLine.hasOption(templateCacheOpt);
+			if (cmdLine.hasOption(incrementalOpt)) {
+				outputBuilder.incremental = true;
+				String depth = cmdLine.getOptionValue(incrementalOpt);
+				if (depth != null) {
+					outputBuilder.incrementalDepth = Integer.parseInt(depth);
+				}
+			}
+			if (cmdLine.hasOption(tfRootOpt)) {
+				outputBuilder.outputBase = cmdLine.getOptionValue(tfRootOpt);
+			}
+		}
 	}
 }
@@ -0,0 +1,251 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.eclipse.epsilon.common.util.profiling.BenchmarkUtils;
+import org.eclipse.epsilon.common.util.profiling.ProfileDiagnostic;
+import org.eclipse.epsilon.egl.exceptions.EglRuntimeException;
+import org.eclipse.epsilon.egl.launch.EgxRunConfiguration;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+
+/**
+ * EGX run configuration which can send the generated files to a {@link GenerationOutput}
+ * instead of having each template write its own file. The output is flushed at the end of
+ * execution, so that writes still pending are included in the execution time, and a new output
+ * is created for each repeat since flushing closes it. The flush is also
+ * profiled as a stage of its own, and the output's statistics are written out when profiling. Parsed
+ * templates can also be reused through the shared {@link TemplateCache}, in which case the
+ * parsing time and the (estimated) time saved are added to the profiled stages. When profiling,
+ * {@link GenerationMetrics} are collected for each rule and written out after execution.
+ * None of these apply if the output isn't persisted, in which case the module's own
+ * template factory is left in place.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class EgxOutputRunConfiguration extends EgxRunConfiguration {
+	
+	/**
+	 * Output modes.
+	 */
+	public static final String
+		SYNC = "sync",
+		ASYNC = "async",
+		ZIP = "zip",
+		PACK = "pack",
+		STREAM = "stream";
+	
+	public static class Builder<R extends EgxOutputRunConfiguration, B extends Builder<R, B>> extends EgxRunConfiguration.Builder<R, B> {
+		public Builder(Class<R> runConfigClass) {
+			super(runConfigClass);
+		}
+		
+		public String outputMode = SYNC;
+		/**
+		 * Number of I/O threads and queue capacity, for {@link EgxOutputRunConfiguration#ASYNC}.
+		 */
+		public int ioThreads = 2, queueCapacity = 4096;
+		/**
+		 * Size in bytes of the pooled buffers, for {@link EgxOutputRunConfiguration#STREAM}.
+		 */
+		public int bufferSize = 1 << 16;
+		/**
+		 * The archive file for {@link EgxOutputRunConfiguration#ZIP} and {@link EgxOutputRunConfiguration#PACK}.
+		 * Defaults to <code>output.zip</code> or <code>output.pack</code> in the output base.
+		 */
+		public String archive;
+		/**
+		 * Directory which archive entry names and incremental index entries are relative to. Defaults to the working directory.
+		 */
+		public String outputBase;
+		/**
+		 * Whether to skip writing targets whose contents haven't changed since the last run.
+		 * Can't be combined with deleting the output directory before generation.
+		 */
+		public boolean incremental;
+		/**
+		 * How many references to follow when fingerprinting template parameters, so that templates
+		 * with unchanged inputs aren't evaluated. Negative values always evaluate templates.
+		 */
+		public int incrementalDepth = -1;
+		/**
+		 * The file storing the hashes between runs. Defaults to {@link IncrementalOutput#DEFAULT_INDEX} in the output base.
+		 */
+		public String incrementalIndex;
+		/**
+		 * Whether to reuse parsed templates from {@link TemplateCache#getShared()}.
+		 */
+		public boolean templateCache;
+	}
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Builder<EgxOutputRunConfiguration, ?> Builder() {
+		return new Builder(EgxOutputRunConfiguration.class);
+	}
+	
+	/**
+	 * Where the files are generated, or <code>null</code> if each template writes its own file.
+	 */
+	protected GenerationOutput output;
+	/**
+	 * Creates the output for each repeat.
+	 */
+	protected final Supplier<GenerationOutput> outputSupplier;
+	/**
+	 * The factory which templates obtain the output from, or <code>null</code> if the module's own factory is used.
+	 */
+	protected final OutputTemplateFactory templateFactory;
+	/**
+	 * Whether the current output has been closed by a previous repeat.
+	 */
+	protected boolean outputFlushed;
+	/**
+	 * Where parsed templates are obtained from, or <code>null</code> if they're parsed on each invocation.
+	 */
+	protected final TemplateCache templateCache;
+	/**
+	 * Per-rule statistics of the current repeat, or <code>null</code> if not profiling.
+	 */
+	protected final GenerationMetrics metrics;
+	
+	public EgxOutputRunConfiguration(Builder<? extends EgxOutputRunConfiguration, ?> builder) throws EglRuntimeException {
+		super(builder);
+		outputSupplier = () -> createIncrementalOutput(builder);
+		output = builder.persistOutput ? outputSupplier.get() : null;
+		templateCache = builder.templateCache ? TemplateCache.getShared() : null;
+		metrics = profileExecution ? new GenerationMetrics() : null;
+		if (metrics != null) {
+			getModule().getContext().getExecutorFactory().addExecutionListener(metrics);
+		}
+		if (builder.persistOutput && (output != null || templateCache != null || metrics != null)) {
+			templateFactory = new OutputTemplateFactory(output, templateCache, metrics);
+			getModule().getContext().setTemplateFactory(templateFactory);
+		}
+		else {
+			templateFactory = null;
+		}
+	}
+	
+	protected GenerationOutput createIncrementalOutput(Builder<?, ?> builder) {
+		GenerationOutput delegate = createOutput(builder);
+		if (!builder.incremental) return delegate;
+		if (delegate instanceof ArchiveOutput) {
+			throw new IllegalArgumentException("Incremental generation is not supported with "+builder.outputMode+" output");
+		}
+		if (builder.deleteOutputDirBefore) {
+			// Would delete the previous outputs (and by default the index) before they can be compared
+			throw new IllegalArgumentException("Incremental generation can't be combined with deleting the output directory");
+		}
+		Path index = builder.incrementalIndex != null ? Paths.get(builder.incrementalIndex) :
+			getOutputBase(builder).resolve(IncrementalOutput.DEFAULT_INDEX);
+		try {
+			return new IncrementalOutput(index, getOutputBase(builder), delegate, builder.incrementalDepth);
+		}
+		catch (IOException iox) {
+			throw new UncheckedIOException("Could not read incremental index "+index, iox);
+		}
+	}
+	
+	protected GenerationOutput createOutput(Builder<?, ?> builder) {
+		switch (builder.outputMode) {
+			case SYNC:
+				return null;
+			case ASYNC:
+				return new AsyncFileOutput(builder.ioThreads, builder.queueCapacity);
+			case STREAM:
+				return new StreamingFileOutput(builder.bufferSize, Runtime.getRuntime().availableProcessors() * 2);
+			case ZIP:
+				return new ArchiveOutput.Zip(getArchive(builder), getOutputBase(builder));
+			case PACK:
+				return new ArchiveOutput.Pack(getArchive(builder), getOutputBase(builder));
+			default:
+				throw new IllegalArgumentException("Unknown output mode '"+builder.outputMode+"'");
+		}
+	}
+	
+	protected Path getOutputBase(Builder<?, ?> builder) {
+		return Paths.get(builder.outputBase != null ? builder.outputBase : "");
+	}
+	
+	protected Path getArchive(Builder<?, ?> builder) {
+		return builder.archive != null ? Paths.get(builder.archive) :
+			getOutputBase(builder).resolve("output."+builder.outputMode);
+	}
+	
+	@Override
+	protected void preExecute() throws Exception {
+		super.preExecute();
+		if (outputFlushed) {
+			output = outputSupplier.get();
+			templateFactory.setOutput(output);
+			outputFlushed = false;
+		}
+		if (templateCache != null) {
+			templateCache.resetStats();
+		}
+		if (metrics != null) {
+			metrics.reset();
+		}
+	}
+	
+	/**
+	 * Executes the module and then flushes the output, so that asynchronous and
+	 * archive outputs aren't faster just because their writes haven't finished.
+	 */
+	@Override
+	protected Object execute() throws EolRuntimeException {
+		Object result = super.execute();
+		if (output != null) {
+			if (profileExecution) {
+				BenchmarkUtils.profileExecutionStage(profiledStages, "Flush output", this::flushOutput);
+			}
+			else {
+				flushOutput();
+			}
+		}
+		return result;
+	}
+	
+	protected GenerationOutput flushOutput() {
+		try {
+			output.close();
+			outputFlushed = true;
+			return output;
+		}
+		catch (IOException iox) {
+			throw new UncheckedIOException("Could not flush output", iox);
+		}
+	}
+	
+	@Override
+	protected void postExecute() throws Exception {
+		if (output != null && profileExecution) {
+			writeOut(output);
+		}
+		if (templateCache != null) {
+			profiledStages.add(new ProfileDiagnostic("Template parsing", templateCache.getParseNanos(), 0, TimeUnit.NANOSECONDS));
+			profiledStages.add(new ProfileDiagnostic("Template parsing saved", templateCache.getSavedNanos(), 0, TimeUnit.NANOSECONDS));
+			if (profileExecution) {
+				writeOut(templateCache);
+			}
+		}
+		if (metrics != null) {
+			writeOut(metrics);
+			writeOut(metrics.toCsv());
+		}
+		super.postExecute();
+	}
+}
@@ -0,0 +1,69 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.util.Collection;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * EMF part of {@link InputFingerprint}, kept separate so that EMF is an optional dependency.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+class EmfFingerprint {
+	
+	private EmfFingerprint() {}
+	
+	static boolean isModelElement(Object value) {
+		return value instanceof EObject;
+	}
+	
+	/**
+	 * Hashes the element's type and features. An element which has already been
+	 * hashed as part of this fingerprint is hashed by the order in which it was first
+	 * visited instead, so cycles of references are only followed once.
+	 */
+	static void update(InputFingerprint fingerprint, Object value, int depth) {
+		EObject element = (EObject) value;
+		Integer visited = fingerprint.visited.putIfAbsent(element, fingerprint.visited.size());
+		if (visited != null) {
+			fingerprint.update("@"+visited);
+			return;
+		}
+		fingerprint.update(element.eClass().getName());
+		for (EStructuralFeature feature : element.eClass().getEAllStructuralFeatures()) {
+			if (feature.isTransient() || feature.isDerived()) continue;
+			fingerprint.update(feature.getName());
+			Object featureValue = element.eGet(feature);
+			
+			if (feature instanceof EAttribute) {
+				fingerprint.update(String.valueOf(featureValue));
+			}
+			else if (featureValue instanceof Collection) {
+				Collection<?> references = (Collection<?>) featureValue;
+				fingerprint.update(String.valueOf(references.size()));
+				if (depth > 0) {
+					for (Object reference : references) {
+						update(fingerprint, reference, depth - 1);
+					}
+				}
+			}
+			else if (featureValue != null && depth > 0) {
+				update(fingerprint, featureValue, depth - 1);
+			}
+			else {
+				fingerprint.update(featureValue != null ? "1" : "0");
+			}
+		}
+	}
+}
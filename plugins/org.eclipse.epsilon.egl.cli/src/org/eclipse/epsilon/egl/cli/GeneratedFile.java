@@ -0,0 +1,58 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.File;
+
+/**
+ * The file returned from generating a template, which is what EGX rules see as
+ * <code>generated</code> in their <code>post</code> block. Since the file may not have
+ * been written yet (or at all, with archive output), {@link #length()} returns the size of
+ * the generated contents rather than querying the file system. The number of characters
+ * is available as <code>generated.characters</code>.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class GeneratedFile extends File {
+	
+	private static final long serialVersionUID = 6528347750131839582L;
+	
+	protected final long bytes, characters;
+	
+	/**
+	 *
+	 * @param file The target.
+	 * @param bytes The size of the contents in UTF-8.
+	 * @param characters The length of the contents.
+	 */
+	public GeneratedFile(File file, long bytes, long characters) {
+		super(file.getPath());
+		this.bytes = bytes;
+		this.characters = characters;
+	}
+	
+	/**
+	 *
+	 * @return The number of bytes generated.
+	 */
+	@Override
+	public long length() {
+		return bytes;
+	}
+	
+	public long getBytes() {
+		return bytes;
+	}
+	
+	public long getCharacters() {
+		return characters;
+	}
+}
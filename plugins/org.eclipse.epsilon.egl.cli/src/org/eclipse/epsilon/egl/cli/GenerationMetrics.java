@@ -0,0 +1,202 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.epsilon.common.module.ModuleElement;
+import org.eclipse.epsilon.egl.dom.GenerationRule;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.control.IExecutionListener;
+
+/**
+ * Per-rule statistics of an EGX run. As an execution listener, it tracks which rule each
+ * thread is executing (from the rule's guard, parameters, target and post blocks), and the
+ * time spent in those blocks. Templates report the time spent evaluating and writing each
+ * file, and its size, against the rule of the generating thread.
+ * <br/>
+ * {@link #toString()} gives a table for people, and {@link #toCsv()} gives lines prefixed
+ * with {@link #CSV_PREFIX} for the evaluation scripts.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class GenerationMetrics implements IExecutionListener {
+	
+	public static final String CSV_PREFIX = "RULE_METRICS,", NO_RULE = "<no rule>";
+	public static final String CSV_HEADER = CSV_PREFIX +
+		"rule,invocations,skipped,evalMs,writeMs,blocksMs,bytes,evalP50us,evalP90us,evalP99us,evalMaxUs,bytesP50,bytesMax";
+	
+	public static class RuleMetrics {
+		protected final LongAdder
+			invocations = new LongAdder(),
+			skipped = new LongAdder(),
+			evalNanos = new LongAdder(),
+			writeNanos = new LongAdder(),
+			blockNanos = new LongAdder(),
+			bytes = new LongAdder();
+		/**
+		 * Template evaluation times in microseconds, and sizes of the generated files in bytes.
+		 */
+		protected final Histogram evalMicros = new Histogram(), fileBytes = new Histogram();
+		
+		/**
+		 *
+		 * @param evalNanos Time spent evaluating the template.
+		 * @param writeNanos Time spent generating the file other than evaluating the template.
+		 * @param bytes The size of the file, or a negative number if it wasn't generated.
+		 * @param skipped Whether the file was left as it was.
+		 */
+		public void recordGeneration(long evalNanos, long writeNanos, long bytes, boolean skipped) {
+			invocations.increment();
+			this.evalNanos.add(evalNanos);
+			this.writeNanos.add(writeNanos);
+			evalMicros.record(TimeUnit.NANOSECONDS.toMicros(evalNanos));
+			if (skipped) {
+				this.skipped.increment();
+			}
+			if (bytes >= 0) {
+				this.bytes.add(bytes);
+				fileBytes.record(bytes);
+			}
+		}
+	}
+	
+	static final class ThreadState {
+		String rule = NO_RULE;
+		int depth;
+		long start;
+	}
+	
+	protected final Map<String, RuleMetrics> rules = new ConcurrentHashMap<>();
+	protected final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+	/**
+	 * The rule (if any) enclosing each element seen so far, so the parents are only walked once per element.
+	 */
+	protected final Map<ModuleElement, Optional<GenerationRule>> enclosingRules = new ConcurrentHashMap<>();
+	
+	public RuleMetrics getRule(String name) {
+		return rules.computeIfAbsent(name, n -> new RuleMetrics());
+	}
+	
+	/**
+	 * Discards the statistics collected so far, so that each repeat reports its own.
+	 */
+	public void reset() {
+		rules.clear();
+	}
+	
+	/**
+	 *
+	 * @return The metrics of the rule most recently executed by the current thread.
+	 */
+	public RuleMetrics getCurrentRule() {
+		return getRule(threadState.get().rule);
+	}
+	
+	protected GenerationRule getEnclosingRule(ModuleElement ast) {
+		Optional<GenerationRule> rule = enclosingRules.get(ast);
+		if (rule == null) {
+			rule = Optional.ofNullable(findEnclosingRule(ast));
+			enclosingRules.putIfAbsent(ast, rule);
+		}
+		return rule.orElse(null);
+	}
+	
+	protected static GenerationRule findEnclosingRule(ModuleElement ast) {
+		for (ModuleElement element = ast; element != null; element = element.getParent()) {
+			if (element instanceof GenerationRule) {
+				return (GenerationRule) element;
+			}
+		}
+		return null;
+	}
+	
+	@Override
+	public void aboutToExecute(ModuleElement ast, IEolContext context) {
+		GenerationRule rule = getEnclosingRule(ast);
+		if (rule == null) return;
+		ThreadState state = threadState.get();
+		if (state.depth++ == 0) {
+			state.rule = rule.getName();
+			state.start = System.nanoTime();
+		}
+	}
+	
+	@Override
+	public void finishedExecuting(ModuleElement ast, Object result, IEolContext context) {
+		finished(ast);
+	}
+	
+	@Override
+	public void finishedExecutingWithException(ModuleElement ast, EolRuntimeException exception, IEolContext context) {
+		finished(ast);
+	}
+	
+	protected void finished(ModuleElement ast) {
+		if (getEnclosingRule(ast) == null) return;
+		ThreadState state = threadState.get();
+		if (state.depth > 0 && --state.depth == 0) {
+			getRule(state.rule).blockNanos.add(System.nanoTime() - state.start);
+		}
+	}
+	
+	static long millis(LongAdder nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+	}
+	
+	/**
+	 *
+	 * @return A header line followed by one line per rule, in CSV format.
+	 */
+	public String toCsv() {
+		StringBuilder csv = new StringBuilder(CSV_HEADER);
+		for (Map.Entry<String, RuleMetrics> entry : new TreeMap<>(rules).entrySet()) {
+			RuleMetrics m = entry.getValue();
+			csv.append(System.lineSeparator()).append(CSV_PREFIX)
+				.append(entry.getKey().replace(',', ';')).append(',')
+				.append(m.invocations.sum()).append(',')
+				.append(m.skipped.sum()).append(',')
+				.append(millis(m.evalNanos)).append(',')
+				.append(millis(m.writeNanos)).append(',')
+				.append(millis(m.blockNanos)).append(',')
+				.append(m.bytes.sum()).append(',')
+				.append(m.evalMicros.getPercentile(0.5)).append(',')
+				.append(m.evalMicros.getPercentile(0.9)).append(',')
+				.append(m.evalMicros.getPercentile(0.99)).append(',')
+				.append(m.evalMicros.getMax()).append(',')
+				.append(m.fileBytes.getPercentile(0.5)).append(',')
+				.append(m.fileBytes.getMax());
+		}
+		return csv.toString();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder table = new StringBuilder("Rule metrics:");
+		for (Map.Entry<String, RuleMetrics> entry : new TreeMap<>(rules).entrySet()) {
+			RuleMetrics m = entry.getValue();
+			table.append(System.lineSeparator()).append("  ").append(entry.getKey()).append(": ")
+				.append(m.invocations.sum()).append(" invocations (").append(m.skipped.sum()).append(" skipped), ")
+				.append(m.bytes.sum()).append(" bytes, ")
+				.append(millis(m.evalNanos)).append(" ms template evaluation, ")
+				.append(millis(m.writeNanos)).append(" ms writing, ")
+				.append(millis(m.blockNanos)).append(" ms in rule blocks")
+				.append(System.lineSeparator()).append("    Evaluation (us): ").append(m.evalMicros)
+				.append(System.lineSeparator()).append("    File size (bytes): ").append(m.fileBytes);
+		}
+		return table.toString();
+	}
+}
@@ -0,0 +1,52 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Destination for the contents generated by EGX rules, as an alternative to the
+ * template writing each file itself. Implementations must be thread-safe, since
+ * parallel EGX modules generate from several threads at once.
+ * 
+ * @see OutputTemplateFactory
+ * @author Sina Madani
+ * @since 1.6
+ */
+public interface GenerationOutput extends Closeable {
+	
+	/**
+	 * Stores the generated contents of a target. This may return before the
+	 * contents have been persisted, but not after {@link #close()}.
+	 * 
+	 * @param target The resolved target path.
+	 * @param contents The generated text.
+	 * @return The size of the encoded contents in bytes, as encoded by this output.
+	 * @throws IOException If the contents can't be stored.
+	 */
+	long write(Path target, String contents) throws IOException;
+	
+	/**
+	 * 
+	 * @param target The resolved target path.
+	 * @return Whether the target already exists, for rules which don't overwrite.
+	 */
+	boolean exists(Path target);
+	
+	/**
+	 * Persists everything written so far and releases any resources.
+	 * 
+	 * @throws IOException If any of the contents couldn't be persisted.
+	 */
+	@Override
+	void close() throws IOException;
+}
@@ -0,0 +1,85 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of non-negative values with power-of-two buckets, so recording is
+ * cheap and percentiles are accurate to within a factor of two.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class Histogram {
+	
+	/**
+	 * Bucket <code>i</code> holds values less than <code>2<sup>i</sup></code> and (for i > 0)
+	 * at least <code>2<sup>i-1</sup></code>.
+	 */
+	protected final LongAdder[] buckets = new LongAdder[Long.SIZE];
+	protected final LongAdder count = new LongAdder(), sum = new LongAdder();
+	protected final AtomicLong max = new AtomicLong();
+	
+	public Histogram() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+	
+	public void record(long value) {
+		long v = Math.max(value, 0);
+		buckets[Math.min(Long.SIZE - Long.numberOfLeadingZeros(v), buckets.length - 1)].increment();
+		count.increment();
+		sum.add(v);
+		for (long current; v > (current = max.get()) && !max.compareAndSet(current, v););
+	}
+	
+	public long getCount() {
+		return count.sum();
+	}
+	
+	public long getSum() {
+		return sum.sum();
+	}
+	
+	public long getMax() {
+		return max.get();
+	}
+	
+	public long getMean() {
+		long n = getCount();
+		return n > 0 ? getSum() / n : 0;
+	}
+	
+	/**
+	 *
+	 * @param fraction The percentile, between 0 and 1.
+	 * @return The upper bound of the bucket containing the percentile, capped by the maximum value.
+	 */
+	public long getPercentile(double fraction) {
+		long n = getCount();
+		if (n == 0) return 0;
+		long rank = Math.max(1, (long) Math.ceil(fraction * n)), seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i].sum();
+			if (seen >= rank) {
+				return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+			}
+		}
+		return getMax();
+	}
+	
+	@Override
+	public String toString() {
+		return "mean "+getMean()+", p50 "+getPercentile(0.5)+", p90 "+getPercentile(0.9)+", p99 "+getPercentile(0.99)+", max "+getMax();
+	}
+}
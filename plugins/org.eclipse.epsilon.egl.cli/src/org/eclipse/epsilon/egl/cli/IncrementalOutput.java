@@ -0,0 +1,259 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Skips writing targets whose contents haven't changed since the previous run. The hash of
+ * each generated target is kept in an index file, which is read when the output is created and
+ * replaced when it is closed. A target is only written if its hash differs from the one in the
+ * index or if the file no longer exists.
+ * <br/>
+ * Optionally, template evaluation can be skipped too: the template records a fingerprint of its
+ * inputs (see {@link InputFingerprint}) along with the target, and if the fingerprint is the same
+ * as in the previous run and the target still exists, the template isn't evaluated at all.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class IncrementalOutput implements GenerationOutput {
+	
+	public static final String DEFAULT_INDEX = ".egx-index";
+	
+	static final class Entry {
+		final String contentHash, inputHash;
+		
+		Entry(String contentHash, String inputHash) {
+			this.contentHash = contentHash;
+			this.inputHash = inputHash;
+		}
+	}
+	
+	static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		}
+		catch (NoSuchAlgorithmException nsax) {
+			throw new IllegalStateException(nsax);
+		}
+	});
+	
+	/**
+	 *
+	 * @param data The bytes to hash.
+	 * @return The Base64-encoded SHA-1 of the data.
+	 */
+	public static String hash(byte[] data) {
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		return Base64.getEncoder().encodeToString(digest.digest(data));
+	}
+	
+	protected final Path indexFile, base;
+	/**
+	 * Where changed targets are written, or <code>null</code> to write them from the calling thread.
+	 */
+	protected final GenerationOutput delegate;
+	protected final Map<String, Entry> previous, current = new ConcurrentHashMap<>();
+	/**
+	 * Hashes of template files, so that changing a template invalidates the fingerprints of its targets.
+	 */
+	protected final Map<URI, String> templateHashes = new ConcurrentHashMap<>();
+	protected final LongAdder written = new LongAdder(), unchanged = new LongAdder(), evaluationsSkipped = new LongAdder();
+	protected final int fingerprintDepth;
+	protected boolean closed;
+	
+	/**
+	 *
+	 * @param indexFile Where the hashes are stored between runs.
+	 * @param base The output root, which the targets in the index are relative to.
+	 * @param delegate Where changed targets are written. May be <code>null</code>.
+	 * @param fingerprintDepth How far to follow references from the template's parameters
+	 * when fingerprinting its inputs, or a negative number to always evaluate the template.
+	 * @throws IOException If the index exists but can't be read.
+	 */
+	public IncrementalOutput(Path indexFile, Path base, GenerationOutput delegate, int fingerprintDepth) throws IOException {
+		this.indexFile = indexFile.toAbsolutePath();
+		this.base = base.toAbsolutePath().normalize();
+		this.delegate = delegate;
+		this.fingerprintDepth = fingerprintDepth;
+		this.previous = readIndex(this.indexFile);
+	}
+	
+	protected static Map<String, Entry> readIndex(Path indexFile) throws IOException {
+		Map<String, Entry> index = new HashMap<>();
+		if (!Files.exists(indexFile)) return index;
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+			for (String line; (line = reader.readLine()) != null;) {
+				String[] fields = line.split("\t", -1);
+				if (fields.length == 3) {
+					index.put(fields[0], new Entry(fields[1], fields[2].isEmpty() ? null : fields[2]));
+				}
+			}
+		}
+		return index;
+	}
+	
+	protected String key(Path target) {
+		Path path = target.toAbsolutePath().normalize();
+		if (path.startsWith(base)) {
+			path = base.relativize(path);
+		}
+		return path.toString().replace(path.getFileSystem().getSeparator(), "/");
+	}
+	
+	public int getFingerprintDepth() {
+		return fingerprintDepth;
+	}
+	
+	/**
+	 *
+	 * @param template The template's source.
+	 * @return The hash of the template's contents, or an empty string if it can't be read.
+	 */
+	public String getTemplateHash(URI template) {
+		if (template == null) return null;
+		return templateHashes.computeIfAbsent(template, uri -> {
+			try {
+				return hash(Files.readAllBytes(Paths.get(uri)));
+			}
+			catch (IOException | RuntimeException ex) {
+				// Not a readable file, so changes can't be detected
+				return "";
+			}
+		});
+	}
+	
+	/**
+	 * Determines whether the target can be left as it is without evaluating its template.
+	 * If so, the target is kept in the index.
+	 *
+	 * @param target The file to be generated.
+	 * @param inputHash The fingerprint of the template's inputs, or <code>null</code> if unknown.
+	 * @return <code>true</code> if the inputs are the same as when the target was last generated.
+	 */
+	public boolean isUpToDate(Path target, String inputHash) {
+		if (inputHash == null) return false;
+		String key = key(target);
+		Entry entry = previous.get(key);
+		if (entry != null && inputHash.equals(entry.inputHash) && Files.exists(target)) {
+			current.put(key, entry);
+			evaluationsSkipped.increment();
+			return true;
+		}
+		return false;
+	}
+	
+	@Override
+	public long write(Path target, String contents) throws IOException {
+		long size = write(target, contents, null);
+		return size >= 0 ? size : ~size;
+	}
+	
+	/**
+	 *
+	 * @param target The file to generate.
+	 * @param contents The generated text.
+	 * @param inputHash The fingerprint of the template's inputs, or <code>null</code> if unknown.
+	 * @return The size of the contents in bytes if the target was written, or its bitwise complement
+	 * (which is negative) if the contents were unchanged, so the target wasn't written.
+	 * @throws IOException
+	 */
+	public long write(Path target, String contents, String inputHash) throws IOException {
+		byte[] data = contents.getBytes(StandardCharsets.UTF_8);
+		String key = key(target), contentHash = hash(data);
+		Entry entry = previous.get(key);
+		current.put(key, new Entry(contentHash, inputHash));
+		
+		if (entry != null && contentHash.equals(entry.contentHash) && Files.exists(target)) {
+			unchanged.increment();
+			return ~data.length;
+		}
+		else {
+			if (delegate != null) {
+				delegate.write(target, contents);
+			}
+			else {
+				Path parent = target.getParent();
+				if (parent != null) {
+					Files.createDirectories(parent);
+				}
+				Files.write(target, data);
+			}
+			written.increment();
+			return data.length;
+		}
+	}
+	
+	@Override
+	public boolean exists(Path target) {
+		return current.containsKey(key(target)) || (delegate != null ? delegate.exists(target) : Files.exists(target));
+	}
+	
+	/**
+	 * Closes the delegate and replaces the index with the targets generated in this run.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		if (delegate != null) {
+			delegate.close();
+		}
+		Path parent = indexFile.getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+		try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			for (Map.Entry<String, Entry> entry : current.entrySet()) {
+				Entry value = entry.getValue();
+				writer.append(entry.getKey()).append('\t')
+					.append(value.contentHash).append('\t')
+					.append(value.inputHash != null ? value.inputHash : "")
+					.append('\n');
+			}
+		}
+		Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+	
+	public long getWritten() {
+		return written.sum();
+	}
+	
+	public long getUnchanged() {
+		return unchanged.sum();
+	}
+	
+	public long getEvaluationsSkipped() {
+		return evaluationsSkipped.sum();
+	}
+	
+	@Override
+	public String toString() {
+		return "Incremental output: "+getWritten()+" written, "+getUnchanged()+" unchanged, "+
+			getEvaluationsSkipped()+" evaluations skipped ("+previous.size()+" targets in previous index)"+
+			(delegate != null ? System.lineSeparator()+delegate : "");
+	}
+}
@@ -0,0 +1,105 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Computes a hash of a template's inputs: the template itself and the values of its
+ * parameters. Strings, numbers, booleans, enums and collections of these are hashed by value.
+ * EMF model elements are hashed by type and attribute values, following references up to the
+ * given depth; beyond that only the number of referenced elements is hashed. Since the template
+ * could read anything reachable from its parameters, this is a heuristic: a change deeper than
+ * the depth goes unnoticed. An element reached more than once is only hashed in full the first
+ * time. Any other type of value can't be fingerprinted, so the template
+ * is always evaluated.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class InputFingerprint {
+	
+	static final boolean EMF_AVAILABLE = isAvailable("org.eclipse.emf.ecore.EObject");
+	
+	static boolean isAvailable(String className) {
+		try {
+			Class.forName(className, false, InputFingerprint.class.getClassLoader());
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return false;
+		}
+	}
+	
+	protected final MessageDigest digest = IncrementalOutput.DIGEST.get();
+	/**
+	 * The model elements hashed so far, in the order they were visited.
+	 */
+	protected final Map<Object, Integer> visited = new IdentityHashMap<>();
+	
+	protected InputFingerprint() {
+		digest.reset();
+	}
+	
+	/**
+	 *
+	 * @param templateHash The hash of the template's contents.
+	 * @param parameters The variables the template is populated with.
+	 * @param depth How many references to follow from model elements.
+	 * @return The fingerprint, or <code>null</code> if the template or one of the parameters can't be fingerprinted.
+	 */
+	public static String of(String templateHash, Map<String, ?> parameters, int depth) {
+		if (templateHash == null || templateHash.isEmpty() || depth < 0) return null;
+		InputFingerprint fingerprint = new InputFingerprint();
+		fingerprint.update(templateHash);
+		for (Map.Entry<String, ?> parameter : parameters.entrySet()) {
+			fingerprint.update(parameter.getKey());
+			if (!fingerprint.update(parameter.getValue(), depth)) {
+				return null;
+			}
+		}
+		return Base64.getEncoder().encodeToString(fingerprint.digest.digest());
+	}
+	
+	protected void update(String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+	
+	/**
+	 *
+	 * @param value The parameter value or referenced element.
+	 * @param depth The remaining number of references to follow.
+	 * @return Whether the value could be fingerprinted.
+	 */
+	protected boolean update(Object value, int depth) {
+		if (value == null || value instanceof String || value instanceof Number ||
+			value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+			update(String.valueOf(value));
+			return true;
+		}
+		if (value instanceof Iterable) {
+			for (Object item : (Iterable<?>) value) {
+				if (!update(item, depth)) return false;
+			}
+			update("]");
+			return true;
+		}
+		if (EMF_AVAILABLE && EmfFingerprint.isModelElement(value)) {
+			EmfFingerprint.update(this, value, depth);
+			return true;
+		}
+		return false;
+	}
+}
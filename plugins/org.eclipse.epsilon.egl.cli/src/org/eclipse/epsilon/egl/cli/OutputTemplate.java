@@ -0,0 +1,173 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.epsilon.egl.EglFileGeneratingTemplate;
+import org.eclipse.epsilon.egl.exceptions.EglRuntimeException;
+import org.eclipse.epsilon.egl.execute.context.IEglContext;
+import org.eclipse.epsilon.egl.spec.EglTemplateSpecification;
+
+/**
+ * File-generating template which hands its contents to a {@link GenerationOutput}
+ * rather than writing the target itself. Since the existing contents aren't read,
+ * protected regions are not preserved. If the output is an {@link IncrementalOutput}, the
+ * template's parameters are fingerprinted so that evaluation can be skipped when they haven't changed.
+ * If the template was obtained from a {@link TemplateCache}, it is returned to the cache once its
+ * file has been generated. Without an output, the file is written as usual. Otherwise, the
+ * returned file is a {@link GeneratedFile}, which reports the size of what was generated.
+ * With {@link GenerationMetrics}, the evaluation and writing times are recorded against the current rule.
+ * 
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class OutputTemplate extends EglFileGeneratingTemplate {
+	
+	/**
+	 * Set again by the factory whenever the template is taken from a cache.
+	 */
+	protected GenerationOutput output;
+	protected final IEglContext creationContext;
+	protected final URI templateUri;
+	/**
+	 * The variables this template was populated with, in order.
+	 */
+	protected final Map<String, Object> parameters = new LinkedHashMap<>();
+	/**
+	 * Set by the cache which this template belongs to.
+	 */
+	TemplateCache cache;
+	String cacheKey;
+	/**
+	 * Size of the contents produced by the last generation, or -1 if the template wasn't evaluated.
+	 */
+	protected long generatedBytes = -1, generatedChars = -1;
+	protected final GenerationMetrics metrics;
+	/**
+	 * Time spent in {@link #process()} during the current generation.
+	 */
+	protected long processNanos;
+	/**
+	 * Whether the current generation left the target as it was.
+	 */
+	protected boolean skipped;
+	
+	public OutputTemplate(EglTemplateSpecification spec, IEglContext context, URI outputRoot, String outputRootPath, GenerationOutput output) throws Exception {
+		this(spec, context, outputRoot, outputRootPath, output, null);
+	}
+	
+	public OutputTemplate(EglTemplateSpecification spec, IEglContext context, URI outputRoot, String outputRootPath, GenerationOutput output, GenerationMetrics metrics) throws Exception {
+		super(spec, context, outputRoot, outputRootPath);
+		this.output = output;
+		this.metrics = metrics;
+		this.creationContext = context;
+		this.templateUri = spec.getURI();
+	}
+	
+	public IEglContext getCreationContext() {
+		return creationContext;
+	}
+	
+	@Override
+	public void reset() {
+		super.reset();
+		parameters.clear();
+	}
+	
+	@Override
+	public void populate(String name, Object value) {
+		super.populate(name, value);
+		parameters.put(name, value);
+	}
+	
+	@Override
+	public String process() throws EglRuntimeException {
+		long start = System.nanoTime();
+		try {
+			return super.process();
+		}
+		finally {
+			processNanos += System.nanoTime() - start;
+		}
+	}
+	
+	@Override
+	public File generate(String path, boolean overwrite, boolean protectRegions) throws EglRuntimeException {
+		generatedBytes = generatedChars = -1;
+		processNanos = 0;
+		skipped = false;
+		long start = System.nanoTime();
+		File file = null;
+		try {
+			file = super.generate(path, overwrite, protectRegions);
+			return file != null && generatedBytes >= 0 ? new GeneratedFile(file, generatedBytes, generatedChars) : file;
+		}
+		finally {
+			if (metrics != null) {
+				long bytes = generatedBytes >= 0 || skipped || file == null ? generatedBytes : file.length();
+				metrics.getCurrentRule().recordGeneration(processNanos, System.nanoTime() - start - processNanos, bytes, skipped);
+			}
+			if (cache != null) {
+				cache.release(this);
+			}
+		}
+	}
+	
+	/**
+	 * Processes the template and records the number of characters generated. The number
+	 * of bytes is recorded by the caller, as returned by the output which encoded them.
+	 */
+	protected String processAndCount() throws EglRuntimeException {
+		String contents = process();
+		generatedChars = contents.length();
+		return contents;
+	}
+	
+	@Override
+	protected void doGenerate(File file, String targetName, boolean overwrite, boolean protectRegions) throws EglRuntimeException {
+		try {
+			if (output == null) {
+				super.doGenerate(file, targetName, overwrite, protectRegions);
+				return;
+			}
+			Path target = file.toPath();
+			if (!overwrite && output.exists(target)) {
+				skipped = true;
+				return;
+			}
+			if (output instanceof IncrementalOutput) {
+				IncrementalOutput incremental = (IncrementalOutput) output;
+				String inputHash = InputFingerprint.of(
+					incremental.getTemplateHash(templateUri), parameters, incremental.getFingerprintDepth()
+				);
+				if (incremental.isUpToDate(target, inputHash)) {
+					skipped = true;
+				}
+				else {
+					long size = incremental.write(target, processAndCount(), inputHash);
+					skipped = size < 0;
+					generatedBytes = skipped ? ~size : size;
+				}
+			}
+			else {
+				generatedBytes = output.write(target, processAndCount());
+			}
+		}
+		catch (IOException iox) {
+			throw new UncheckedIOException(iox);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.net.URI;
+import org.eclipse.epsilon.egl.EglFileGeneratingTemplateFactory;
+import org.eclipse.epsilon.egl.EglTemplate;
+import org.eclipse.epsilon.egl.exceptions.EglRuntimeException;
+import org.eclipse.epsilon.egl.spec.EglTemplateSpecification;
+
+/**
+ * Creates {@link OutputTemplate}s, so that all generated files go to the same {@link GenerationOutput}.
+ * If a {@link TemplateCache} is used, templates loaded from a URI are reused rather than parsed each time.
+ * 
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class OutputTemplateFactory extends EglFileGeneratingTemplateFactory {
+	
+	/**
+	 * Replaced by the run configuration on each repeat, since outputs can't be reused once closed.
+	 */
+	protected volatile GenerationOutput output;
+	protected final TemplateCache cache;
+	protected final GenerationMetrics metrics;
+	
+	public OutputTemplateFactory(GenerationOutput output) throws EglRuntimeException {
+		this(output, null, null);
+	}
+	
+	/**
+	 *
+	 * @param output Where the files are generated, or <code>null</code> for each template to write its own file.
+	 * @param cache The cache to obtain templates from, or <code>null</code> to parse them each time.
+	 * @param metrics Where templates record per-rule statistics. May be <code>null</code>.
+	 * @throws EglRuntimeException
+	 */
+	public OutputTemplateFactory(GenerationOutput output, TemplateCache cache, GenerationMetrics metrics) throws EglRuntimeException {
+		this.output = output;
+		this.cache = cache;
+		this.metrics = metrics;
+	}
+	
+	public GenerationOutput getOutput() {
+		return output;
+	}
+	
+	/**
+	 *
+	 * @param output Where subsequently generated files go, including those of templates already in the cache.
+	 */
+	public void setOutput(GenerationOutput output) {
+		this.output = output;
+	}
+	
+	public TemplateCache getCache() {
+		return cache;
+	}
+	
+	@Override
+	protected EglTemplate createTemplate(EglTemplateSpecification spec) throws Exception {
+		URI uri = spec.getURI();
+		if (cache == null || uri == null) {
+			return newTemplate(spec);
+		}
+		OutputTemplate template = cache.acquire(uri, context, () -> newTemplate(spec));
+		// Pooled templates may have been created for a previous output
+		template.output = output;
+		return template;
+	}
+	
+	protected OutputTemplate newTemplate(EglTemplateSpecification spec) throws Exception {
+		return new OutputTemplate(spec, context, getOutputRootOrRoot(), outputRootPath, output, metrics);
+	}
+}
@@ -0,0 +1,161 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes each file from the generating thread, encoding the contents a chunk at a time into
+ * a buffer borrowed from a pool, rather than encoding the whole file into a new byte array first.
+ * The memory needed for each file being written is therefore the size of one buffer, regardless
+ * of the size of the file, and the buffers are reused rather than garbage.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class StreamingFileOutput implements GenerationOutput {
+	
+	/**
+	 * Encoder and buffer used by one write at a time.
+	 */
+	static final class Chunk {
+		final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		final ByteBuffer buffer;
+		
+		Chunk(int size) {
+			buffer = ByteBuffer.allocateDirect(size);
+		}
+	}
+	
+	protected final Queue<Chunk> pool = new ConcurrentLinkedQueue<>();
+	protected final int bufferSize, maxPooled;
+	protected final AtomicInteger allocated = new AtomicInteger();
+	protected final Set<Path> createdDirs = ConcurrentHashMap.newKeySet();
+	protected final LongAdder filesWritten = new LongAdder(), bytesWritten = new LongAdder(), charsWritten = new LongAdder();
+	
+	/**
+	 *
+	 * @param bufferSize The size of each buffer, in bytes.
+	 * @param maxPooled The maximum number of idle buffers to keep.
+	 */
+	public StreamingFileOutput(int bufferSize, int maxPooled) {
+		this.bufferSize = Math.max(bufferSize, 64);
+		this.maxPooled = Math.max(maxPooled, 1);
+	}
+	
+	protected Chunk borrow() {
+		Chunk chunk = pool.poll();
+		if (chunk == null) {
+			chunk = new Chunk(bufferSize);
+			allocated.incrementAndGet();
+		}
+		return chunk;
+	}
+	
+	protected void giveBack(Chunk chunk) {
+		if (pool.size() < maxPooled) {
+			pool.offer(chunk);
+		}
+	}
+	
+	@Override
+	public long write(Path target, String contents) throws IOException {
+		Path parent = target.getParent();
+		if (parent != null && !createdDirs.contains(parent)) {
+			Files.createDirectories(parent);
+			createdDirs.add(parent);
+		}
+		Chunk chunk = borrow();
+		CharsetEncoder encoder = chunk.encoder.reset();
+		ByteBuffer buffer = chunk.buffer;
+		CharBuffer input = CharBuffer.wrap(contents);
+		long written = 0;
+		
+		try (FileChannel channel = FileChannel.open(target,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			for (boolean endOfInput = false, flushed = false; !flushed;) {
+				buffer.clear();
+				CoderResult result;
+				if (!endOfInput) {
+					result = encoder.encode(input, buffer, true);
+					endOfInput = result.isUnderflow();
+				}
+				else {
+					result = encoder.flush(buffer);
+					flushed = result.isUnderflow();
+				}
+				if (result.isError()) {
+					result.throwException();
+				}
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					written += channel.write(buffer);
+				}
+			}
+		}
+		catch (CharacterCodingException ccx) {
+			throw new IOException("Could not encode "+target, ccx);
+		}
+		finally {
+			giveBack(chunk);
+		}
+		filesWritten.increment();
+		bytesWritten.add(written);
+		charsWritten.add(contents.length());
+		return written;
+	}
+	
+	@Override
+	public boolean exists(Path target) {
+		return Files.exists(target);
+	}
+	
+	@Override
+	public void close() {
+		pool.clear();
+	}
+	
+	public long getFilesWritten() {
+		return filesWritten.sum();
+	}
+	
+	public long getBytesWritten() {
+		return bytesWritten.sum();
+	}
+	
+	public long getCharsWritten() {
+		return charsWritten.sum();
+	}
+	
+	@Override
+	public String toString() {
+		return "Streaming output: "+getFilesWritten()+" files, "+getCharsWritten()+" chars, "+getBytesWritten()+" bytes, "+
+			allocated.get()+" buffers of "+bufferSize+" bytes allocated";
+	}
+}
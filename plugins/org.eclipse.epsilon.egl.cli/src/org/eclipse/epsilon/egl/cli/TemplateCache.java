@@ -0,0 +1,204 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.epsilon.egl.execute.context.IEglContext;
+
+/**
+ * Keeps parsed templates so that they can be reused by later rule invocations and by all
+ * generation threads. Templates are keyed by their URI and the hash of their contents, so
+ * editing a template between runs causes it to be parsed again. Template files are only
+ * checked for modification the first time they're used after the cache is bound to a context
+ * or its statistics are reset (i.e. once per repeat of a run configuration), rather than on every use.
+ * <br/>
+ * EGL templates hold the state of their evaluation (variables and output), so an instance can
+ * only be used by one generation at a time. Each key therefore has a pool of idle templates:
+ * a generation takes one from the pool (parsing a new one only if the pool is empty) and
+ * returns it, reset, when it's done. The number of times a template is parsed is thus bounded by
+ * the number of generations using it concurrently, rather than by the number of invocations.
+ * <br/>
+ * Templates are bound to the context they were created for, so the pools are cleared
+ * if the cache is used with a different context. Parsed templates therefore only survive
+ * <code>-repeats</code> of a run configuration because the repeats reuse its module and context;
+ * separate run configurations only share the content hashes of the template files.
+ *
+ * @author Sina Madani
+ * @since 1.6
+ */
+public class TemplateCache {
+	
+	/**
+	 * Creates a template when there isn't one in the pool.
+	 */
+	@FunctionalInterface
+	public interface Loader {
+		OutputTemplate load() throws Exception;
+	}
+	
+	static final class Stamp {
+		final long lastModified, size;
+		final String hash;
+		
+		Stamp(long lastModified, long size, String hash) {
+			this.lastModified = lastModified;
+			this.size = size;
+			this.hash = hash;
+		}
+	}
+	
+	static final TemplateCache SHARED = new TemplateCache();
+	
+	/**
+	 *
+	 * @return The cache shared by all run configurations in this JVM.
+	 */
+	public static TemplateCache getShared() {
+		return SHARED;
+	}
+	
+	protected final Map<String, Deque<OutputTemplate>> pools = new ConcurrentHashMap<>();
+	/**
+	 * Content hashes of the template files, so that they're only read again if modified.
+	 */
+	protected final Map<URI, Stamp> stamps = new ConcurrentHashMap<>();
+	/**
+	 * Template files whose stamps have been checked since the cache was last bound or reset.
+	 */
+	protected final Set<URI> checked = ConcurrentHashMap.newKeySet();
+	protected final LongAdder hits = new LongAdder(), misses = new LongAdder(), parseNanos = new LongAdder();
+	protected volatile IEglContext context;
+	protected long invalidations;
+	
+	/**
+	 * Takes a template from the pool, or creates one if there isn't one available.
+	 *
+	 * @param uri The template's location.
+	 * @param context The context which the template will be evaluated in.
+	 * @param loader Parses the template.
+	 * @return A template which is not in use by any other generation.
+	 * @throws Exception If the template can't be parsed.
+	 */
+	public OutputTemplate acquire(URI uri, IEglContext context, Loader loader) throws Exception {
+		if (this.context != context) {
+			bind(context);
+		}
+		String key = key(uri);
+		OutputTemplate template = pools.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>()).pollFirst();
+		if (template != null) {
+			hits.increment();
+		}
+		else {
+			long start = System.nanoTime();
+			template = loader.load();
+			parseNanos.add(System.nanoTime() - start);
+			misses.increment();
+		}
+		template.cache = this;
+		template.cacheKey = key;
+		return template;
+	}
+	
+	/**
+	 * Resets the template and makes it available for another generation.
+	 *
+	 * @param template A template obtained from {@link #acquire(URI, IEglContext, Loader)}.
+	 */
+	public void release(OutputTemplate template) {
+		template.cache = null;
+		Deque<OutputTemplate> pool = pools.get(template.cacheKey);
+		if (pool != null && template.getCreationContext() == context) {
+			template.reset();
+			pool.offerFirst(template);
+		}
+	}
+	
+	protected synchronized void bind(IEglContext context) {
+		if (this.context != context) {
+			if (!pools.isEmpty()) {
+				invalidations++;
+			}
+			pools.clear();
+			checked.clear();
+			this.context = context;
+		}
+	}
+	
+	protected String key(URI uri) throws IOException {
+		Stamp stamp = stamps.get(uri);
+		if ("file".equals(uri.getScheme()) && (stamp == null || !checked.contains(uri))) {
+			Path path = Paths.get(uri);
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			long lastModified = attributes.lastModifiedTime().toMillis(), size = attributes.size();
+			if (stamp == null || stamp.lastModified != lastModified || stamp.size != size) {
+				stamp = new Stamp(lastModified, size, IncrementalOutput.hash(Files.readAllBytes(path)));
+				stamps.put(uri, stamp);
+			}
+			checked.add(uri);
+		}
+		return stamp != null ? uri+"#"+stamp.hash : uri.toString();
+	}
+	
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	public long getMisses() {
+		return misses.sum();
+	}
+	
+	/**
+	 *
+	 * @return The total time spent parsing templates, in nanoseconds.
+	 */
+	public long getParseNanos() {
+		return parseNanos.sum();
+	}
+	
+	/**
+	 *
+	 * @return An estimate of the parsing time avoided by reusing templates, in nanoseconds.
+	 */
+	public long getSavedNanos() {
+		long misses = getMisses();
+		return misses > 0 ? getHits() * getParseNanos() / misses : 0;
+	}
+	
+	/**
+	 * Clears the statistics (but not the templates), so that each run reports its own.
+	 * Template files are checked for modification again on their next use.
+	 */
+	public void resetStats() {
+		checked.clear();
+		hits.reset();
+		misses.reset();
+		parseNanos.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return "Template cache: "+getHits()+" hits, "+getMisses()+" parses ("+
+			TimeUnit.NANOSECONDS.toMillis(getParseNanos())+" ms parsing, ~"+
+			TimeUnit.NANOSECONDS.toMillis(getSavedNanos())+" ms saved), "+
+			pools.size()+" templates cached, "+invalidations+" invalidations";
+	}
+}
@@ -0,0 +1,177 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.util.EObjectValidator;
+import org.eclipse.ocl.pivot.evaluation.Executor;
+import org.eclipse.ocl.pivot.ids.TypeId;
+import org.eclipse.ocl.pivot.internal.utilities.PivotUtilInternal;
+
+/**
+ * Validator for invariants of a Complete OCL document which have been compiled
+ * to Java by {@link OclCompiler}. Unsatisfied invariants are reported in the same
+ * format as the interpreted validator, so that {@link UnsatisfiedOclConstraint}
+ * can parse them. As with the interpreter, invariants which evaluate to invalid are
+ * reported separately, as errors rather than warnings.
+ *
+ * @author Sina Madani
+ */
+public class CompiledOclValidator extends EObjectValidator {
+	
+	public static final String DIAGNOSTIC_SOURCE = "uk.ac.york.ocl.compiled";
+	
+	/**
+	 * A single compiled invariant.
+	 */
+	public static final class CompiledInvariant {
+		/**
+		 * Qualified name in the form <code>Type::name</code>.
+		 */
+		public final String name;
+		public final EClass context;
+		final MethodHandle handle;
+		
+		CompiledInvariant(String name, EClass context, Class<?> compiledClass) throws ReflectiveOperationException {
+			this.name = name;
+			this.context = context;
+			this.handle = findEvaluate(compiledClass);
+		}
+		
+		/**
+		 * The generated classes expose <code>evaluate(Executor, TypeId, Object self)</code>.
+		 */
+		static MethodHandle findEvaluate(Class<?> compiledClass) throws ReflectiveOperationException {
+			for (Method method : compiledClass.getMethods()) {
+				Class<?>[] params = method.getParameterTypes();
+				if ("evaluate".equals(method.getName()) && params.length == 3 &&
+					params[0] == Executor.class && params[1] == TypeId.class && params[2] == Object.class
+				) {
+					return MethodHandles.publicLookup()
+						.unreflect(method)
+						.bindTo(compiledClass.getDeclaredConstructor().newInstance());
+				}
+			}
+			throw new NoSuchMethodException(compiledClass.getName()+".evaluate(Executor, TypeId, Object)");
+		}
+		
+		/**
+		 *
+		 * @param self The element to check.
+		 * @return Whether the invariant is satisfied, or <code>null</code> if it evaluated to invalid.
+		 * @throws WrongMethodTypeException If the compiled class doesn't match the invariant,
+		 * which (like any {@link Error}) indicates a broken compilation rather than an invalid result.
+		 */
+		public Boolean evaluate(EObject self) {
+			Object result;
+			try {
+				result = handle.invoke(PivotUtilInternal.getExecutor(self), TypeId.BOOLEAN, (Object) self);
+			}
+			catch (WrongMethodTypeException | Error ex) {
+				throw ex;
+			}
+			catch (RuntimeException ex) {
+				// Includes InvalidValueException
+				return null;
+			}
+			catch (Throwable ex) {
+				throw new IllegalStateException("Unexpected exception from "+name, ex);
+			}
+			return result instanceof Boolean ? (Boolean) result : null;
+		}
+		
+		/**
+		 *
+		 * @param self The element to check.
+		 * @return Whether the invariant is satisfied. Invalid results are unsatisfied.
+		 */
+		public boolean check(EObject self) {
+			return Boolean.TRUE.equals(evaluate(self));
+		}
+		
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+	
+	protected final EPackage ePackage;
+	protected final List<CompiledInvariant> invariants;
+	protected final Map<EClass, List<CompiledInvariant>> invariantsByType = new ConcurrentHashMap<>();
+	
+	public CompiledOclValidator(EPackage ePackage, List<CompiledInvariant> invariants) {
+		this.ePackage = ePackage;
+		this.invariants = Collections.unmodifiableList(invariants);
+	}
+	
+	@Override
+	protected EPackage getEPackage() {
+		return ePackage;
+	}
+	
+	public List<CompiledInvariant> getInvariants() {
+		return invariants;
+	}
+	
+	/**
+	 *
+	 * @param eClass The type of the element.
+	 * @return The invariants applicable to instances of the type, including inherited ones.
+	 */
+	public List<CompiledInvariant> getInvariants(EClass eClass) {
+		return invariantsByType.computeIfAbsent(eClass, ec -> {
+			List<CompiledInvariant> applicable = new ArrayList<>(4);
+			for (CompiledInvariant inv : invariants) {
+				if (inv.context.isSuperTypeOf(ec)) {
+					applicable.add(inv);
+				}
+			}
+			return applicable;
+		});
+	}
+	
+	@Override
+	public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+		boolean result = validate_EveryDefaultConstraint(eObject, diagnostics, context);
+		
+		for (CompiledInvariant inv : getInvariants(eClass)) {
+			if (!result && diagnostics == null) break;
+			Boolean satisfied = inv.evaluate(eObject);
+			if (!Boolean.TRUE.equals(satisfied)) {
+				result = false;
+				if (diagnostics != null) {
+					diagnostics.add(new BasicDiagnostic(
+						satisfied != null ? Diagnostic.WARNING : Diagnostic.ERROR,
+						DIAGNOSTIC_SOURCE,
+						0,
+						"The '"+inv.name+"' constraint is "+(satisfied != null ? "violated" : "invalid")+
+							" for '"+getObjectLabel(eObject, context)+"'",
+						new Object[]{eObject}
+					));
+				}
+			}
+		}
+		return result;
+	}
+}
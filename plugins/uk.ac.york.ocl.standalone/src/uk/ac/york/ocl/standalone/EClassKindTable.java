@@ -0,0 +1,148 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+
+/**
+ * Precomputed type hierarchy of an EPackage. Every EClass is assigned a dense
+ * ordinal, along with a bitset of the ordinals of all its supertypes (including
+ * itself). Kind and type tests on elements of the package are then an array lookup
+ * on the element's classifier ID followed by a bit test, rather than a walk of the
+ * type hierarchy.
+ *
+ * @author Sina Madani
+ */
+public class EClassKindTable {
+	
+	public final EPackage ePackage;
+	protected final EClass[] eClasses;
+	/**
+	 * Ordinal of each EClass, indexed by classifier ID (-1 for data types).
+	 */
+	protected final int[] ordinals;
+	/**
+	 * Supertypes of each EClass (including itself), indexed by ordinal.
+	 */
+	protected final long[][] kinds;
+	
+	public EClassKindTable(EPackage ePackage) {
+		this.ePackage = ePackage;
+		List<EClassifier> classifiers = ePackage.getEClassifiers();
+		List<EClass> classes = new ArrayList<>(classifiers.size());
+		ordinals = new int[classifiers.size()];
+		Arrays.fill(ordinals, -1);
+		
+		for (EClassifier classifier : classifiers) {
+			if (classifier instanceof EClass) {
+				ordinals[classifier.getClassifierID()] = classes.size();
+				classes.add((EClass) classifier);
+			}
+		}
+		eClasses = classes.toArray(new EClass[classes.size()]);
+		
+		int words = (eClasses.length + 63) >>> 6;
+		kinds = new long[eClasses.length][words];
+		for (int i = 0; i < eClasses.length; i++) {
+			setBit(kinds[i], i);
+			for (EClass superType : eClasses[i].getEAllSuperTypes()) {
+				if (superType.getEPackage() == ePackage) {
+					setBit(kinds[i], ordinal(superType));
+				}
+			}
+		}
+	}
+	
+	static void setBit(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << index;
+	}
+	
+	/**
+	 *
+	 * @param eClass A class in the package.
+	 * @return The dense ordinal of the class, or -1 if it is not in the package.
+	 */
+	public int ordinal(EClass eClass) {
+		if (eClass.getEPackage() != ePackage) return -1;
+		return ordinals[eClass.getClassifierID()];
+	}
+	
+	public EClass getEClass(int ordinal) {
+		return eClasses[ordinal];
+	}
+	
+	public int size() {
+		return eClasses.length;
+	}
+	
+	/**
+	 *
+	 * @param value Any value.
+	 * @return Whether the value is an instance of a class in this package.
+	 */
+	public boolean covers(Object value) {
+		return value instanceof EObject && ((EObject) value).eClass().getEPackage() == ePackage;
+	}
+	
+	/**
+	 *
+	 * @param element An instance of a class in this package (see {@link #covers(Object)}).
+	 * @param typeOrdinal The ordinal of the type to test.
+	 * @return Whether the element's type conforms to the given type.
+	 */
+	public boolean isKindOf(EObject element, int typeOrdinal) {
+		long[] superTypes = kinds[ordinals[element.eClass().getClassifierID()]];
+		return (superTypes[typeOrdinal >>> 6] & (1L << typeOrdinal)) != 0;
+	}
+	
+	/**
+	 *
+	 * @param element An instance of a class in this package (see {@link #covers(Object)}).
+	 * @param typeOrdinal The ordinal of the type to test.
+	 * @return Whether the element's type is exactly the given type.
+	 */
+	public boolean isTypeOf(EObject element, int typeOrdinal) {
+		return ordinals[element.eClass().getClassifierID()] == typeOrdinal;
+	}
+	
+	/**
+	 *
+	 * @param subOrdinal The ordinal of the potential subtype.
+	 * @param superOrdinal The ordinal of the potential supertype.
+	 * @return Whether the first type conforms to the second.
+	 */
+	public boolean conformsTo(int subOrdinal, int superOrdinal) {
+		return (kinds[subOrdinal][superOrdinal >>> 6] & (1L << superOrdinal)) != 0;
+	}
+	
+	/**
+	 *
+	 * @param elements The values to filter.
+	 * @param typeOrdinal The ordinal of the type to test.
+	 * @return The elements which are instances of the type, or <code>null</code>
+	 * if any of the values are not covered by this table.
+	 */
+	public List<Object> selectByKind(Iterable<?> elements, int typeOrdinal) {
+		List<Object> results = new ArrayList<>();
+		for (Object element : elements) {
+			if (!covers(element)) return null;
+			if (isKindOf((EObject) element, typeOrdinal)) {
+				results.add(element);
+			}
+		}
+		return results;
+	}
+}
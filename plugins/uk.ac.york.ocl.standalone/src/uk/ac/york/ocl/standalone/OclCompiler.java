@@ -0,0 +1,263 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import javax.tools.*;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.ocl.examples.codegen.oclinjunit.JUnitCodeGenerator;
+import org.eclipse.ocl.pivot.Constraint;
+import org.eclipse.ocl.pivot.ExpressionInOCL;
+import org.eclipse.ocl.pivot.internal.utilities.EnvironmentFactoryInternal;
+import org.eclipse.ocl.pivot.utilities.OCL;
+import org.eclipse.ocl.pivot.utilities.ParserException;
+
+/**
+ * Compiles the invariants of a Complete OCL document to Java at runtime, so that
+ * any script can be run with compiled performance without a dedicated bundle.
+ * Each invariant is translated with the Eclipse OCL code generator, then all of
+ * them are compiled in memory using the system Java compiler. The resulting class
+ * files are cached on disk under a key derived from the contents of the script and
+ * metamodel, so subsequent runs skip generation and compilation altogether.
+ * <br/>
+ * Compilation requires a JDK, and the OCL runtime to be on the
+ * <code>java.class.path</code> (i.e. standalone rather than OSGi).
+ *
+ * @author Sina Madani
+ */
+public class OclCompiler {
+	
+	public static final String PACKAGE_NAME = "uk.ac.york.ocl.compiled";
+	static final String INDEX_FILE = "invariants.properties";
+	
+	protected final OCL ocl;
+	protected final EPackage metamodelPackage;
+	protected final Path script, cacheRoot;
+	protected final URI scriptUri, metamodelUri;
+	protected boolean cacheHit;
+	
+	public OclCompiler(OCL ocl, EPackage metamodelPackage, Path script, URI scriptUri, URI metamodelUri, Path cacheRoot) {
+		this.ocl = ocl;
+		this.metamodelPackage = metamodelPackage;
+		this.script = script;
+		this.scriptUri = scriptUri;
+		this.metamodelUri = metamodelUri;
+		this.cacheRoot = cacheRoot != null ? cacheRoot : getDefaultCacheRoot();
+	}
+	
+	public static Path getDefaultCacheRoot() {
+		return Paths.get(System.getProperty("java.io.tmpdir"), "ocl-compiled");
+	}
+	
+	/**
+	 *
+	 * @return Whether the last call to {@link #compile()} was served from the disk cache.
+	 */
+	public boolean isCacheHit() {
+		return cacheHit;
+	}
+	
+	/**
+	 * Loads the compiled invariants from the cache, generating and compiling them first if necessary.
+	 *
+	 * @return A validator for the invariants in the script.
+	 * @throws Exception If generation, compilation or loading fails.
+	 */
+	public CompiledOclValidator compile() throws Exception {
+		Path outputDir = cacheRoot.resolve(computeKey());
+		Path index = outputDir.resolve(INDEX_FILE);
+		if (!(cacheHit = Files.isRegularFile(index))) {
+			generateAndCompile(outputDir, index);
+		}
+		return load(outputDir, index);
+	}
+	
+	/**
+	 *
+	 * @return A hash of the script, the metamodel and the Java version.
+	 */
+	protected String computeKey() throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(Files.readAllBytes(script));
+		if (metamodelUri != null && metamodelUri.isFile()) {
+			digest.update(Files.readAllBytes(Paths.get(metamodelUri.toFileString())));
+		}
+		else {
+			digest.update(metamodelPackage.getNsURI().getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update(System.getProperty("java.specification.version").getBytes(StandardCharsets.UTF_8));
+		
+		StringBuilder key = new StringBuilder(64);
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b));
+		}
+		return key.toString();
+	}
+	
+	/**
+	 * Finds all of the invariants in the script, keyed by their <code>Type::name</code>.
+	 */
+	protected Map<String, ExpressionInOCL> parseInvariants() throws ParserException {
+		Map<String, ExpressionInOCL> invariants = new LinkedHashMap<>();
+		for (EObject root : ocl.parse(scriptUri).getContents()) {
+			for (EObject pkg : root.eContents()) {
+				if (!(pkg instanceof org.eclipse.ocl.pivot.Package)) continue;
+				for (EObject type : pkg.eContents()) {
+					if (!(type instanceof org.eclipse.ocl.pivot.Class)) continue;
+					org.eclipse.ocl.pivot.Class pivotClass = (org.eclipse.ocl.pivot.Class) type;
+					EClass eClass = getEClass(pivotClass.getName());
+					
+					for (Constraint constraint : pivotClass.getOwnedInvariants()) {
+						invariants.put(
+							pivotClass.getName()+"::"+constraint.getName(),
+							ocl.createQuery(eClass, constraint.getOwnedSpecification().getBody())
+						);
+					}
+				}
+			}
+		}
+		return invariants;
+	}
+	
+	protected void generateAndCompile(Path outputDir, Path index) throws Exception {
+		Map<String, ExpressionInOCL> invariants = parseInvariants();
+		EnvironmentFactoryInternal environmentFactory = (EnvironmentFactoryInternal) ocl.getEnvironmentFactory();
+		Properties classNames = new Properties();
+		List<JavaFileObject> sources = new ArrayList<>(invariants.size());
+		
+		int i = 0;
+		for (Map.Entry<String, ExpressionInOCL> invariant : invariants.entrySet()) {
+			String className = "Inv"+(i++)+'_'+invariant.getKey().replaceAll("\\W", "_");
+			String source = JUnitCodeGenerator.generateClassFile(environmentFactory, invariant.getValue(), PACKAGE_NAME, className);
+			sources.add(new SourceFile(PACKAGE_NAME+'.'+className, source));
+			classNames.setProperty(PACKAGE_NAME+'.'+className, invariant.getKey());
+		}
+		
+		for (Map.Entry<String, byte[]> compiled : compileInMemory(sources).entrySet()) {
+			Path classFile = outputDir.resolve(compiled.getKey().replace('.', '/')+".class");
+			Files.createDirectories(classFile.getParent());
+			Files.write(classFile, compiled.getValue());
+		}
+		
+		// Written last, so an interrupted compilation is not mistaken for a cache hit
+		Files.createDirectories(outputDir);
+		try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+			classNames.store(writer, scriptUri.toString());
+		}
+	}
+	
+	/**
+	 *
+	 * @param sources The Java compilation units.
+	 * @return The bytecode of each class, keyed by binary name.
+	 * @throws IllegalStateException If there is no system compiler or compilation fails.
+	 */
+	protected Map<String, byte[]> compileInMemory(List<JavaFileObject> sources) throws IllegalStateException, IOException {
+		JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+		if (javac == null) {
+			throw new IllegalStateException("No Java compiler available: a JDK is required for compilation.");
+		}
+		
+		Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		
+		try (JavaFileManager fileManager = new ForwardingJavaFileManager<StandardJavaFileManager>(
+				javac.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+				@Override
+				public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+					return new SimpleJavaFileObject(java.net.URI.create("mem:///"+className.replace('.', '/')+kind.extension), kind) {
+						@Override
+						public OutputStream openOutputStream() {
+							ByteArrayOutputStream out = new ByteArrayOutputStream();
+							classes.put(className, out);
+							return out;
+						}
+					};
+				}
+			}
+		) {
+			List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-nowarn");
+			if (!javac.getTask(null, fileManager, diagnostics, options, null, sources).call()) {
+				StringBuilder message = new StringBuilder("Failed to compile OCL invariants:");
+				for (javax.tools.Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+					message.append(System.lineSeparator()).append(diagnostic);
+				}
+				throw new IllegalStateException(message.toString());
+			}
+		}
+		
+		Map<String, byte[]> bytecode = new HashMap<>(classes.size());
+		classes.forEach((name, out) -> bytecode.put(name, out.toByteArray()));
+		return bytecode;
+	}
+	
+	protected CompiledOclValidator load(Path outputDir, Path index) throws IOException, ReflectiveOperationException {
+		Properties classNames = new Properties();
+		try (InputStream in = Files.newInputStream(index)) {
+			classNames.load(in);
+		}
+		
+		// Not closed, since the classes are needed for as long as the validator is registered
+		@SuppressWarnings("resource")
+		ClassLoader classLoader = new URLClassLoader(
+			new java.net.URL[]{outputDir.toUri().toURL()},
+			getClass().getClassLoader()
+		);
+		
+		List<CompiledOclValidator.CompiledInvariant> invariants = new ArrayList<>(classNames.size());
+		for (String className : new TreeSet<>(classNames.stringPropertyNames())) {
+			String name = classNames.getProperty(className);
+			invariants.add(new CompiledOclValidator.CompiledInvariant(
+				name,
+				getEClass(name.substring(0, name.indexOf("::"))),
+				classLoader.loadClass(className)
+			));
+		}
+		return new CompiledOclValidator(metamodelPackage, invariants);
+	}
+	
+	protected EClass getEClass(String typeName) throws IllegalArgumentException {
+		EClassifier classifier = metamodelPackage.getEClassifier(typeName);
+		if (!(classifier instanceof EClass)) {
+			throw new IllegalArgumentException("No EClass named "+typeName+" in "+metamodelPackage.getNsURI());
+		}
+		return (EClass) classifier;
+	}
+	
+	static class SourceFile extends SimpleJavaFileObject {
+		final String source;
+		
+		SourceFile(String qualifiedName, String source) {
+			super(java.net.URI.create("string:///"+qualifiedName.replace('.', '/')+Kind.SOURCE.extension), Kind.SOURCE);
+			this.source = source;
+		}
+		
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return source;
+		}
+	}
+}
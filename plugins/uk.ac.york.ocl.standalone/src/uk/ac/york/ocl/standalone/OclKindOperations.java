@@ -0,0 +1,177 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.ocl.pivot.Element;
+import org.eclipse.ocl.pivot.Operation;
+import org.eclipse.ocl.pivot.StandardLibrary;
+import org.eclipse.ocl.pivot.Type;
+import org.eclipse.ocl.pivot.evaluation.Executor;
+import org.eclipse.ocl.pivot.ids.CollectionTypeId;
+import org.eclipse.ocl.pivot.ids.TypeId;
+import org.eclipse.ocl.pivot.library.LibraryFeature;
+import org.eclipse.ocl.pivot.library.collection.CollectionSelectByKindOperation;
+import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsKindOfOperation;
+import org.eclipse.ocl.pivot.library.oclany.OclAnyOclIsTypeOfOperation;
+import org.eclipse.ocl.pivot.utilities.OCL;
+import org.eclipse.ocl.pivot.values.CollectionValue;
+
+/**
+ * Replaces the interpreter's <code>oclIsKindOf</code>, <code>oclIsTypeOf</code> and
+ * <code>selectByKind</code> with versions which use an {@link EClassKindTable} when both
+ * the source and the type belong to the table's package. Anything else (e.g. null, invalid,
+ * data types or types from other packages) is delegated to the standard library implementation.
+ * <br/>
+ * The operations are part of the standard library model, which is shared by all OCL
+ * instances in the JVM, so the original implementations should be restored with
+ * {@link #uninstall()} before the OCL instance is disposed. While installed, other
+ * OCL instances also use the table (falling back as above for types outside it).
+ *
+ * @author Sina Madani
+ */
+public class OclKindOperations {
+	
+	/**
+	 * The replaced implementation of each operation.
+	 */
+	protected final Map<Operation, LibraryFeature> originals = new IdentityHashMap<>();
+	
+	private OclKindOperations() {}
+	
+	/**
+	 *
+	 * @param ocl The OCL instance to use the table in.
+	 * @param table The type hierarchy of the metamodel.
+	 * @return The installed operations, to be uninstalled when the OCL instance is disposed.
+	 */
+	public static OclKindOperations install(OCL ocl, EClassKindTable table) {
+		TypeOrdinals ordinals = new TypeOrdinals(table);
+		OclKindOperations installed = new OclKindOperations();
+		StandardLibrary library = ocl.getStandardLibrary();
+		
+		for (Operation op : library.getOclAnyType().getOwnedOperations()) {
+			if ("oclIsKindOf".equals(op.getName())) {
+				installed.replace(op, new OclIsKindOf(ordinals));
+			}
+			else if ("oclIsTypeOf".equals(op.getName())) {
+				installed.replace(op, new OclIsTypeOf(ordinals));
+			}
+		}
+		// Redefined by each concrete collection type
+		for (Type collectionType : new Type[] {
+			library.getCollectionType(), library.getBagType(), library.getOrderedSetType(),
+			library.getSequenceType(), library.getSetType()
+		}) {
+			for (Operation op : collectionType.getOwnedOperations()) {
+				if ("selectByKind".equals(op.getName()) && op.getImplementation() instanceof CollectionSelectByKindOperation) {
+					installed.replace(op, new SelectByKind(ordinals));
+				}
+			}
+		}
+		return installed;
+	}
+	
+	protected void replace(Operation op, LibraryFeature implementation) {
+		originals.putIfAbsent(op, op.getImplementation());
+		op.setImplementation(implementation);
+	}
+	
+	/**
+	 * Restores the standard library's implementations of the operations.
+	 */
+	public void uninstall() {
+		originals.forEach(Operation::setImplementation);
+		originals.clear();
+	}
+	
+	/**
+	 * Maps pivot types to ordinals in the table, via the EClass they were loaded from.
+	 */
+	static final class TypeOrdinals {
+		final EClassKindTable table;
+		final Map<Object, Integer> ordinals = new ConcurrentHashMap<>();
+		
+		TypeOrdinals(EClassKindTable table) {
+			this.table = table;
+		}
+		
+		int ordinalOf(Object type) {
+			if (type == null) return -1;
+			return ordinals.computeIfAbsent(type, t -> {
+				EObject esObject = t instanceof Element ? ((Element) t).getESObject() : null;
+				return esObject instanceof EClass ? table.ordinal((EClass) esObject) : -1;
+			});
+		}
+	}
+	
+	static class OclIsKindOf extends OclAnyOclIsKindOfOperation {
+		final TypeOrdinals ordinals;
+		
+		OclIsKindOf(TypeOrdinals ordinals) {
+			this.ordinals = ordinals;
+		}
+		
+		@Override
+		public Boolean evaluate(Executor executor, Object sourceVal, Object argVal) {
+			if (ordinals.table.covers(sourceVal)) {
+				int ordinal = ordinals.ordinalOf(argVal);
+				if (ordinal >= 0) {
+					return ordinals.table.isKindOf((EObject) sourceVal, ordinal);
+				}
+			}
+			return super.evaluate(executor, sourceVal, argVal);
+		}
+	}
+	
+	static class SelectByKind extends CollectionSelectByKindOperation {
+		final TypeOrdinals ordinals;
+		
+		SelectByKind(TypeOrdinals ordinals) {
+			this.ordinals = ordinals;
+		}
+		
+		@Override
+		public CollectionValue evaluate(Executor executor, TypeId returnTypeId, Object sourceVal, Object argVal) {
+			int ordinal = ordinals.ordinalOf(argVal);
+			if (ordinal >= 0 && sourceVal instanceof CollectionValue && returnTypeId instanceof CollectionTypeId) {
+				List<Object> results = ordinals.table.selectByKind(((CollectionValue) sourceVal).getElements(), ordinal);
+				if (results != null) {
+					return executor.getIdResolver().createCollectionOfAll((CollectionTypeId) returnTypeId, results);
+				}
+			}
+			return super.evaluate(executor, returnTypeId, sourceVal, argVal);
+		}
+	}
+	
+	static class OclIsTypeOf extends OclAnyOclIsTypeOfOperation {
+		final TypeOrdinals ordinals;
+		
+		OclIsTypeOf(TypeOrdinals ordinals) {
+			this.ordinals = ordinals;
+		}
+		
+		@Override
+		public Boolean evaluate(Executor executor, Object sourceVal, Object argVal) {
+			if (ordinals.table.covers(sourceVal)) {
+				int ordinal = ordinals.ordinalOf(argVal);
+				if (ordinal >= 0) {
+					return ordinals.table.isTypeOf((EObject) sourceVal, ordinal);
+				}
+			}
+			return super.evaluate(executor, sourceVal, argVal);
+		}
+	}
+}
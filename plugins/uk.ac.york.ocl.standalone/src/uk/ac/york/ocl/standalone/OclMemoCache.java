@@ -0,0 +1,123 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe memoisation of OCL <code>def:</code> attributes and operations, analogous
+ * to <code>@cached</code> operations in EOL. Results are kept in a side table keyed by the
+ * source element, then by the feature (and arguments, if any). Since OCL expressions are
+ * side-effect free, results remain valid for as long as the model is not modified.
+ * <br/>
+ * The total number of cached results is bounded: once full, further results are computed
+ * but not stored. Invalid results (i.e. exceptions) are never cached. Recursive features
+ * are supported, since the lock is not held whilst computing the result.
+ *
+ * @author Sina Madani
+ */
+public class OclMemoCache {
+	
+	public static final long DEFAULT_MAX_ENTRIES = 1 << 22;
+	private static final Object NULL = new Object();
+	
+	protected final long maxEntries;
+	protected final Map<Object, Map<Object, Object>> table = new ConcurrentHashMap<>();
+	protected final AtomicLong size = new AtomicLong();
+	protected final LongAdder hits = new LongAdder(), misses = new LongAdder(), rejected = new LongAdder();
+	
+	public OclMemoCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+	
+	/**
+	 *
+	 * @param maxEntries The maximum number of results to keep.
+	 */
+	public OclMemoCache(long maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+	
+	/**
+	 * Looks up the cached result, computing and caching it if absent.
+	 *
+	 * @param element The source of the feature call.
+	 * @param key The feature, or a list of the feature and its arguments.
+	 * @param function Computes the result on a miss.
+	 * @return The cached or computed result.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object element, Object key, Supplier<? extends T> function) {
+		Map<Object, Object> entries = table.get(element);
+		if (entries != null) {
+			Object cached = entries.get(key);
+			if (cached != null) {
+				hits.increment();
+				return cached == NULL ? null : (T) cached;
+			}
+		}
+		
+		misses.increment();
+		T result = function.get();
+		
+		if (size.get() < maxEntries) {
+			if (entries == null) {
+				entries = table.computeIfAbsent(element, e -> new ConcurrentHashMap<>(4));
+			}
+			if (entries.putIfAbsent(key, result == null ? NULL : result) == null) {
+				size.incrementAndGet();
+			}
+		}
+		else {
+			rejected.increment();
+		}
+		return result;
+	}
+	
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	public long getMisses() {
+		return misses.sum();
+	}
+	
+	/**
+	 *
+	 * @return The number of results which were not cached due to the size bound.
+	 */
+	public long getRejected() {
+		return rejected.sum();
+	}
+	
+	public long size() {
+		return size.get();
+	}
+	
+	public void clear() {
+		table.clear();
+		size.set(0);
+		hits.reset();
+		misses.reset();
+		rejected.reset();
+	}
+	
+	@Override
+	public String toString() {
+		long h = getHits(), m = getMisses();
+		return "Memo cache: "+h+" hits, "+m+" misses ("+
+			(h+m > 0 ? Math.round(100d*h/(h+m)) : 0)+"% hit rate), "+
+			size()+" entries, "+getRejected()+" rejected";
+	}
+}
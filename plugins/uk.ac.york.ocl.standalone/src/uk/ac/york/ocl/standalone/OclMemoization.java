@@ -0,0 +1,123 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package uk.ac.york.ocl.standalone;
+
+import java.util.Arrays;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.ocl.pivot.Operation;
+import org.eclipse.ocl.pivot.OperationCallExp;
+import org.eclipse.ocl.pivot.Property;
+import org.eclipse.ocl.pivot.evaluation.Executor;
+import org.eclipse.ocl.pivot.ids.TypeId;
+import org.eclipse.ocl.pivot.internal.manager.PivotMetamodelManager;
+import org.eclipse.ocl.pivot.library.AbstractOperation;
+import org.eclipse.ocl.pivot.library.AbstractProperty;
+import org.eclipse.ocl.pivot.library.LibraryFeature;
+import org.eclipse.ocl.pivot.library.LibraryOperation;
+import org.eclipse.ocl.pivot.library.LibraryProperty;
+import org.eclipse.ocl.pivot.utilities.OCL;
+
+/**
+ * Installs an {@link OclMemoCache} in front of the interpreted <code>def:</code>
+ * attributes and operations of a Complete OCL document, by replacing the implementation
+ * of each feature in the AS with a memoising wrapper around the original.
+ *
+ * @author Sina Madani
+ */
+public class OclMemoization {
+	
+	private OclMemoization() {}
+	
+	/**
+	 *
+	 * @param ocl The OCL instance which parsed the document.
+	 * @param asResource The parsed Complete OCL document.
+	 * @param cache The cache to use.
+	 * @return The number of features which were memoised.
+	 */
+	public static int install(OCL ocl, Resource asResource, OclMemoCache cache) {
+		PivotMetamodelManager metamodelManager = (PivotMetamodelManager) ocl.getMetamodelManager();
+		int installed = 0;
+		
+		for (EObject root : asResource.getContents()) {
+			for (EObject pkg : root.eContents()) {
+				if (!(pkg instanceof org.eclipse.ocl.pivot.Package)) continue;
+				for (EObject type : pkg.eContents()) {
+					if (!(type instanceof org.eclipse.ocl.pivot.Class)) continue;
+					org.eclipse.ocl.pivot.Class pivotClass = (org.eclipse.ocl.pivot.Class) type;
+					
+					for (Operation op : pivotClass.getOwnedOperations()) {
+						if (op.getBodyExpression() == null) continue;
+						LibraryFeature original = metamodelManager.getImplementation(op);
+						if (original instanceof LibraryOperation.LibraryOperationExtension2 && !(original instanceof MemoizedOperation)) {
+							op.setImplementation(new MemoizedOperation(op, (LibraryOperation.LibraryOperationExtension2) original, cache));
+							installed++;
+						}
+					}
+					for (Property prop : pivotClass.getOwnedProperties()) {
+						if (prop.getOwnedExpression() == null) continue;
+						LibraryFeature original = metamodelManager.getImplementation(null, null, prop);
+						if (original instanceof LibraryProperty && !(original instanceof MemoizedProperty)) {
+							prop.setImplementation(new MemoizedProperty(prop, (LibraryProperty) original, cache));
+							installed++;
+						}
+					}
+				}
+			}
+		}
+		return installed;
+	}
+	
+	static class MemoizedOperation extends AbstractOperation {
+		final Operation operation;
+		final LibraryOperation.LibraryOperationExtension2 delegate;
+		final OclMemoCache cache;
+		
+		MemoizedOperation(Operation operation, LibraryOperation.LibraryOperationExtension2 delegate, OclMemoCache cache) {
+			this.operation = operation;
+			this.delegate = delegate;
+			this.cache = cache;
+		}
+		
+		@Override
+		public Object evaluate(Executor executor, OperationCallExp callExp, Object[] boxedSourceAndArgumentValues) {
+			Object key = operation;
+			if (boxedSourceAndArgumentValues.length > 1) {
+				// The operation followed by its arguments
+				Object[] opAndArgs = boxedSourceAndArgumentValues.clone();
+				opAndArgs[0] = operation;
+				key = Arrays.asList(opAndArgs);
+			}
+			return cache.get(
+				boxedSourceAndArgumentValues[0],
+				key,
+				() -> delegate.evaluate(executor, callExp, boxedSourceAndArgumentValues)
+			);
+		}
+	}
+	
+	static class MemoizedProperty extends AbstractProperty {
+		final Property property;
+		final LibraryProperty delegate;
+		final OclMemoCache cache;
+		
+		MemoizedProperty(Property property, LibraryProperty delegate, OclMemoCache cache) {
+			this.property = property;
+			this.delegate = delegate;
+			this.cache = cache;
+		}
+		
+		@Override
+		public Object evaluate(Executor executor, TypeId returnTypeId, Object sourceValue) {
+			return cache.get(sourceValue, property, () -> delegate.evaluate(executor, returnTypeId, sourceValue));
+		}
+	}
+}
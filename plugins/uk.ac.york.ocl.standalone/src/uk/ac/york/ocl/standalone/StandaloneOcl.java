@@ -9,6 +9,7 @@
 **********************************************************************/
 package uk.ac.york.ocl.standalone;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -54,6 +55,12 @@ import org.eclipse.ocl.xtext.oclinecore.validation.OCLinEcoreEObjectValidator;
  * Doing so will skip validation, so it is important to not
  * have such an operation if validation is also desired.
  * <br/>
+ * Invariants of a Complete OCL document can also be compiled to
+ * Java at startup using {@link OclCompiler}, which caches the
+ * compiled classes on disk between runs. The results of
+ * <code>def:</code> features can be memoised with an {@link OclMemoCache},
+ * and type tests can use an {@link EClassKindTable}.
+ * <br/>
  * For a command-line interface and initialisation utilities,
  * @see {@link StandaloneOclBuilder}
  * 
@@ -66,7 +73,13 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 	protected EValidator validator;
 	protected Resource modelResource;
 	public final URI modelUri, metamodelUri, scriptUri;
-	protected final boolean isQuery;
+	protected final boolean isQuery, compile, kindTables;
+	protected final Path compileCache;
+	protected final OclMemoCache memoCache;
+	/**
+	 * The type test operations using an {@link EClassKindTable}, or <code>null</code> if not installed.
+	 */
+	protected OclKindOperations kindOperations;
 	
 	public StandaloneOcl(StandaloneOclBuilder builder) {
 		super(builder);
@@ -74,6 +87,10 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 		this.metamodelUri = builder.metamodelUri;
 		this.scriptUri = script != null ? URI.createURI(script.toUri().toString()) : null;
 		this.isQuery = builder.isQuery;
+		this.compile = builder.compile;
+		this.kindTables = builder.kindTables;
+		this.compileCache = builder.compileCache;
+		this.memoCache = builder.memoize ? new OclMemoCache(builder.memoMaxEntries) : null;
 		this.id = Optional.ofNullable(builder.id).orElseGet(() ->
 			Objects.hash(super.id,
 				Objects.toString(ocl),
@@ -102,6 +119,9 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 				);
 		}
 		resourceSet.getPackageRegistry().put(metamodelPackage.getNsURI(), metamodelPackage);
+		if (kindTables) {
+			kindOperations = OclKindOperations.install(ocl, new EClassKindTable(metamodelPackage));
+		}
 		
 		Resource modelResource = resourceSet.createResource(modelUri);
 		modelResource.load(Collections.EMPTY_MAP);
@@ -116,7 +136,12 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 	
 	protected Supplier<?> checkForQuery() throws ParserException {
 		final Function<EObject, Stream<EObject>> flatMapper = e -> e.eContents().stream();
-		org.eclipse.ocl.pivot.Operation queryOp = ocl.parse(scriptUri)
+		Resource asResource = ocl.parse(scriptUri);
+		if (memoCache != null) {
+			OclMemoization.install(ocl, asResource, memoCache);
+		}
+		
+		org.eclipse.ocl.pivot.Operation queryOp = asResource
 			.getContents().stream().parallel()
 			.flatMap(flatMapper)
 			.filter(e -> e instanceof org.eclipse.ocl.pivot.Package)
@@ -145,7 +170,19 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 	protected void registerValidator() {
 		if (validator == null) {
 			org.eclipse.ocl.pivot.model.OCLstdlib.install();
-			if (script != null) {
+			if (script != null && compile) {
+				validator = compileValidator();
+			}
+			else if (script != null) {
+				if (memoCache != null) {
+					// The validator shares the AS of the document with this OCL instance
+					try {
+						OclMemoization.install(ocl, ocl.parse(scriptUri), memoCache);
+					}
+					catch (ParserException px) {
+						throw new IllegalArgumentException(px);
+					}
+				}
 				validator = new CompleteOCLEObjectValidator(
 					metamodelPackage,
 					scriptUri,
@@ -161,6 +198,20 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 		EValidator.Registry.INSTANCE.put(metamodelPackage, validator);
 	}
 	
+	protected EValidator compileValidator() throws IllegalStateException {
+		OclCompiler compiler = new OclCompiler(ocl, metamodelPackage, script, scriptUri, metamodelUri, compileCache);
+		try {
+			EValidator compiled = compiler.compile();
+			if (profileExecution) {
+				writeOut("Compiled invariants "+(compiler.isCacheHit() ? "loaded from cache." : "generated."));
+			}
+			return compiled;
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Could not compile "+scriptUri, ex);
+		}
+	}
+	
 	protected ConstraintDiagnostician createDiagnostician(Resource modelResource) {
 		return new ConstraintDiagnostician(modelResource);
 	}
@@ -168,6 +219,9 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 	@Override
 	protected void preExecute() throws Exception {
 		super.preExecute();
+		if (memoCache != null) {
+			memoCache.clear();
+		}
 		if (!isFirstRepeat()) return;
 		
 		modelResource = profileExecution ?
@@ -234,6 +288,10 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 	@Override
 	protected void postExecute() throws Exception {
 		if (isLastRepeat()) {
+			if (kindOperations != null) {
+				kindOperations.uninstall();
+				kindOperations = null;
+			}
 			if (profileExecution) {
 				profileExecutionStage(profiledStages, "dispose", ocl::dispose);
 			}
@@ -244,6 +302,10 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 		
 		super.postExecute();
 		
+		if (memoCache != null && profileExecution) {
+			writeOut(memoCache);
+		}
+		
 		if (!isQuery && result instanceof Collection && (profileExecution || showResults)) {
 			Collection<UnsatisfiedOclConstraint> unsatisfiedConstraints = (Collection<UnsatisfiedOclConstraint>) result;
 			
@@ -269,7 +331,12 @@ public class StandaloneOcl extends ProfilableRunConfiguration {
 		this.metamodelUri = other.metamodelUri;
 		this.scriptUri = other.scriptUri;
 		this.isQuery = other.isQuery;
+		this.compile = other.compile;
+		this.kindTables = other.kindTables;
+		this.compileCache = other.compileCache;
+		this.memoCache = other.memoCache;
 		this.ocl = other.ocl;
+		this.kindOperations = other.kindOperations;
 		this.validator = other.validator;
 		this.metamodelPackage = other.metamodelPackage;
 		this.result = other.result;
@@ -9,6 +9,8 @@
 **********************************************************************/
 package uk.ac.york.ocl.standalone;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EValidator;
@@ -25,7 +27,9 @@ public class StandaloneOclBuilder extends ProfilableRunConfiguration.Builder<Sta
 	public URI modelUri, metamodelUri;
 	public EPackage rootPackage;
 	public EValidator customValidator;
-	public boolean isQuery;
+	public boolean isQuery, compile, memoize, kindTables;
+	public Path compileCache;
+	public long memoMaxEntries = OclMemoCache.DEFAULT_MAX_ENTRIES;
 	
 	public StandaloneOclBuilder asQuery() {
 		return isQuery(true);
@@ -34,6 +38,32 @@ public class StandaloneOclBuilder extends ProfilableRunConfiguration.Builder<Sta
 		this.isQuery = query;
 		return this;
 	}
+	public StandaloneOclBuilder withCompilation() {
+		return withCompilation(true);
+	}
+	public StandaloneOclBuilder withCompilation(boolean compile) {
+		this.compile = compile;
+		return this;
+	}
+	public StandaloneOclBuilder withCompileCache(Path cacheDir) {
+		this.compileCache = cacheDir;
+		return this;
+	}
+	public StandaloneOclBuilder withCompileCache(String cacheDir) {
+		return withCompileCache(Paths.get(cacheDir));
+	}
+	public StandaloneOclBuilder withMemoization() {
+		return withMemoization(OclMemoCache.DEFAULT_MAX_ENTRIES);
+	}
+	public StandaloneOclBuilder withMemoization(long maxEntries) {
+		this.memoize = true;
+		this.memoMaxEntries = maxEntries;
+		return this;
+	}
+	public StandaloneOclBuilder withKindTables() {
+		this.kindTables = true;
+		return this;
+	}
 	public StandaloneOclBuilder withModel(URI uri) {
 		this.modelUri = uri;
 		return this;
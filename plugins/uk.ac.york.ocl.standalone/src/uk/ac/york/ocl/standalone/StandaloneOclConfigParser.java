@@ -22,12 +22,45 @@ public class StandaloneOclConfigParser extends ConfigParser<StandaloneOcl, Stand
 	
 	final boolean isInterpreted;
 	
-	final String isQueryOpt = "query";
+	final String
+		isQueryOpt = "query",
+		compileOpt = "compile",
+		compileCacheOpt = "compileCache",
+		memoizeOpt = "memoize",
+		memoMaxEntriesOpt = "memoMaxEntries",
+		kindTablesOpt = "kindTables";
 	
 	protected StandaloneOclConfigParser(boolean checkArgs) {
 		super(new StandaloneOclBuilder());
 		this.isInterpreted = checkArgs;
-		options.addOption(Option.builder().longOpt(isQueryOpt).desc("Whether this is a query operation").build());
+		options.addOption(Option.builder().longOpt(isQueryOpt).desc("Whether this is a query operation").build())
+			.addOption(Option.builder()
+				.longOpt(compileOpt)
+				.desc("Compiles the invariants of the Complete OCL document to Java before validation")
+				.build()
+			)
+			.addOption(Option.builder()
+				.longOpt(compileCacheOpt)
+				.hasArg()
+				.desc("Directory for caching compiled invariants (defaults to a temporary directory)")
+				.build()
+			)
+			.addOption(Option.builder()
+				.longOpt(memoizeOpt)
+				.desc("Caches the results of def: attributes and operations")
+				.build()
+			)
+			.addOption(Option.builder()
+				.longOpt(memoMaxEntriesOpt)
+				.hasArg()
+				.desc("Maximum number of cached def: results")
+				.build()
+			)
+			.addOption(Option.builder()
+				.longOpt(kindTablesOpt)
+				.desc("Uses precomputed subtype tables for oclIsKindOf and oclIsTypeOf")
+				.build()
+			);
 		
 		requiredUsage = "Must provide absolute path to "+nL
 		  + "  [Complete OCL Document] (if metamodel doesn't contain constraints, use null) "+nL
@@ -46,6 +79,17 @@ public class StandaloneOclConfigParser extends ConfigParser<StandaloneOcl, Stand
 		super.parseArgs(args);
 		
 		builder.isQuery = cmdLine.hasOption(isQueryOpt);
+		builder.compile = cmdLine.hasOption(compileOpt);
+		builder.kindTables = cmdLine.hasOption(kindTablesOpt);
+		if (cmdLine.hasOption(compileCacheOpt)) {
+			builder.withCompileCache(cmdLine.getOptionValue(compileCacheOpt));
+		}
+		if (cmdLine.hasOption(memoizeOpt)) {
+			builder.withMemoization(cmdLine.hasOption(memoMaxEntriesOpt) ?
+				Long.parseLong(cmdLine.getOptionValue(memoMaxEntriesOpt)) :
+				OclMemoCache.DEFAULT_MAX_ENTRIES
+			);
+		}
 		if (!isInterpreted || (builder.script != null && !builder.script.toFile().exists())) {
 			builder.script = null;
 		}
@@ -0,0 +1,108 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/**
+ * Checks that {@link ExecutionBackend#split(Spliterator, int)} covers every element in
+ * order, and that the backends combine chunk results in encounter order.
+ *
+ * @author Sina Madani
+ */
+public class ExecutionBackendTests {
+	
+	static List<Integer> range(int n) {
+		return IntStream.range(0, n).boxed().collect(Collectors.toList());
+	}
+	
+	static <T> List<T> concat(List<Spliterator<T>> chunks) {
+		List<T> list = new ArrayList<>();
+		for (Spliterator<T> chunk : chunks) {
+			chunk.forEachRemaining(list::add);
+		}
+		return list;
+	}
+	
+	@Test
+	public void testSplitCoversElementsInOrder() {
+		List<Integer> elements = range(1000);
+		for (int target : new int[] {1, 2, 3, 7, 16, 64}) {
+			List<Spliterator<Integer>> chunks = ExecutionBackend.split(elements.spliterator(), target);
+			assertEquals("chunks for "+target, target, chunks.size());
+			assertEquals("elements for "+target, elements, concat(chunks));
+		}
+	}
+	
+	@Test
+	public void testSplitStopsWhenSourceIsExhausted() {
+		List<Integer> elements = range(5);
+		List<Spliterator<Integer>> chunks = ExecutionBackend.split(elements.spliterator(), 16);
+		assertTrue(chunks.size() <= elements.size());
+		assertEquals(elements, concat(chunks));
+	}
+	
+	@Test
+	public void testSplitOfUnsplittableSource() {
+		List<Integer> elements = range(10);
+		Spliterator<Integer> source = Spliterators.spliteratorUnknownSize(elements.iterator(), Spliterator.ORDERED);
+		List<Spliterator<Integer>> chunks = ExecutionBackend.split(source, 4);
+		assertTrue(chunks.size() >= 1);
+		assertEquals(elements, concat(chunks));
+		
+		assertEquals(Collections.singletonList(0), concat(ExecutionBackend.split(Collections.singletonList(0).spliterator(), 4)));
+	}
+	
+	@Test
+	public void testEvaluateCombinesInOrder() {
+		List<Integer> elements = range(500);
+		for (String name : new String[] {ExecutionBackend.COMMON, ExecutionBackend.FORKJOIN, ExecutionBackend.THREADPOOL}) {
+			try (ExecutionBackend backend = ExecutionBackend.create(name, 2)) {
+				List<Integer> result = backend.evaluate(elements.spliterator(),
+					stream -> stream.collect(Collectors.toList()),
+					(a, b) -> {
+						List<Integer> combined = new ArrayList<>(a);
+						combined.addAll(b);
+						return combined;
+					}
+				);
+				assertEquals(name, elements, result);
+				assertEquals(name, 2L * 499 * 500 / 2, (long) backend.evaluate(elements.spliterator(),
+					stream -> stream.mapToLong(i -> 2 * i).sum(), Long::sum
+				));
+			}
+		}
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testChunkFailureIsRethrown() {
+		try (ExecutionBackend backend = ExecutionBackend.create(ExecutionBackend.THREADPOOL, 2)) {
+			backend.evaluate(range(100).spliterator(), stream -> {
+				if (stream.anyMatch(i -> i == 0)) {
+					throw new IllegalStateException();
+				}
+				return null;
+			}, (a, b) -> null);
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownBackend() {
+		ExecutionBackend.create("unknown", 1);
+	}
+}
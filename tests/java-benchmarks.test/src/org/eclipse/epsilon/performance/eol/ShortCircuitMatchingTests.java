@@ -0,0 +1,95 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import static org.junit.Assert.*;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.eclipse.epsilon.performance.eol.ShortCircuitMatching.Counter;
+import org.eclipse.epsilon.performance.eol.ShortCircuitMatching.Result;
+import org.junit.Test;
+
+/**
+ * Checks the answers of {@link ShortCircuitMatching} against counting every match,
+ * and that sequential evaluation stops as soon as the answer is known.
+ *
+ * @author Sina Madani
+ */
+public class ShortCircuitMatchingTests {
+	
+	static final Predicate<Integer> EVEN = i -> i % 2 == 0;
+	
+	/**
+	 *
+	 * @return 0 to n-1, of which half (rounded up) are even.
+	 */
+	static Stream<Integer> range(int n) {
+		return IntStream.range(0, n).boxed();
+	}
+	
+	static void assertResult(Result result, boolean value, long matches, long evaluated) {
+		assertEquals(result.toString(), value, result.getValue());
+		assertEquals(result.toString(), matches, result.getMatches());
+		assertEquals(result.toString(), evaluated, result.getEvaluated());
+	}
+	
+	@Test
+	public void testAtLeastN() {
+		assertResult(ShortCircuitMatching.atLeastN(range(100), EVEN, 10), true, 10, 19);
+		assertResult(ShortCircuitMatching.atLeastN(range(100), EVEN, 50), true, 50, 99);
+		assertResult(ShortCircuitMatching.atLeastN(range(100), EVEN, 51), false, 50, 100);
+		assertResult(ShortCircuitMatching.atLeastN(range(100), EVEN, 0), true, 0, 0);
+	}
+	
+	@Test
+	public void testAtMostN() {
+		assertResult(ShortCircuitMatching.atMostN(range(100), EVEN, 5), false, 6, 11);
+		assertResult(ShortCircuitMatching.atMostN(range(100), EVEN, 50), true, 50, 100);
+		assertResult(ShortCircuitMatching.atMostN(range(100), EVEN, 49), false, 50, 99);
+	}
+	
+	@Test
+	public void testNMatch() {
+		assertResult(ShortCircuitMatching.nMatch(range(100), EVEN, 50), true, 50, 100);
+		assertResult(ShortCircuitMatching.nMatch(range(100), EVEN, 49), false, 50, 99);
+		assertResult(ShortCircuitMatching.nMatch(range(100), EVEN, 51), false, 50, 100);
+		assertResult(ShortCircuitMatching.nMatch(range(100), EVEN, 0), false, 1, 1);
+	}
+	
+	@Test
+	public void testMaximumN() {
+		assertResult(ShortCircuitMatching.atLeastN(range(100), EVEN, Long.MAX_VALUE), false, 50, 100);
+		assertResult(ShortCircuitMatching.atMostN(range(100), EVEN, Long.MAX_VALUE), true, 50, 100);
+		assertResult(ShortCircuitMatching.nMatch(range(100), EVEN, Long.MAX_VALUE), false, 50, 100);
+	}
+	
+	@Test
+	public void testParallelAgreesWithCount() {
+		int size = 100_000;
+		long expected = range(size).filter(EVEN).count();
+		for (long n : new long[] {0, 1, expected - 1, expected, expected + 1}) {
+			assertEquals("atLeastN "+n, expected >= n, ShortCircuitMatching.atLeastN(range(size).parallel(), EVEN, n).getValue());
+			assertEquals("atMostN "+n, expected <= n, ShortCircuitMatching.atMostN(range(size).parallel(), EVEN, n).getValue());
+			assertEquals("nMatch "+n, expected == n, ShortCircuitMatching.nMatch(range(size).parallel(), EVEN, n).getValue());
+		}
+		assertTrue(ShortCircuitMatching.atLeastN(range(size).parallel(), EVEN, 10).getEvaluated() < size);
+	}
+	
+	@Test
+	public void testCounterAcrossStreams() {
+		Counter<Integer> counter = ShortCircuitMatching.atLeastN(EVEN, 3);
+		assertResult(counter.count(range(4)), false, 2, 4);
+		assertResult(counter.count(IntStream.range(4, 10).boxed()), true, 3, 5);
+		// The answer is already known, so nothing more is evaluated
+		assertResult(counter.count(range(10)), true, 3, 5);
+		assertResult(counter.getResult(), true, 3, 5);
+	}
+}
@@ -0,0 +1,97 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.Test;
+
+/**
+ * Checks that {@link WeightedSpliterator} keeps encounter order and splits by cost
+ * rather than by number of elements.
+ *
+ * @author Sina Madani
+ */
+public class WeightedSpliteratorTests {
+	
+	static List<Integer> range(int n) {
+		return IntStream.range(0, n).boxed().collect(Collectors.toList());
+	}
+	
+	static <T> List<T> toList(Spliterator<T> spliterator) {
+		List<T> list = new ArrayList<>();
+		spliterator.forEachRemaining(list::add);
+		return list;
+	}
+	
+	@Test
+	public void testIteratesInOrder() {
+		List<Integer> elements = range(100);
+		WeightedSpliterator<Integer> spliterator = WeightedSpliterator.of(elements, i -> i);
+		assertEquals(100, spliterator.estimateSize());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED));
+		assertEquals(elements, StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+	}
+	
+	@Test
+	public void testSplitsByCost() {
+		// Nine cheap elements followed by one as expensive as all of them together
+		List<Integer> costs = Arrays.asList(1, 1, 1, 1, 1, 1, 1, 1, 1, 9);
+		WeightedSpliterator<Integer> suffix = WeightedSpliterator.of(costs, i -> i);
+		assertEquals(18, suffix.estimateCost());
+		
+		WeightedSpliterator<Integer> prefix = (WeightedSpliterator<Integer>) suffix.trySplit();
+		assertEquals(9, prefix.estimateSize());
+		assertEquals(9, prefix.estimateCost());
+		assertEquals(1, suffix.estimateSize());
+		assertEquals(9, suffix.estimateCost());
+		assertNull(suffix.trySplit());
+		assertEquals(costs.subList(0, 9), toList(prefix));
+		assertEquals(costs.subList(9, 10), toList(suffix));
+	}
+	
+	@Test
+	public void testCostsBelowOneCountAsOne() {
+		WeightedSpliterator<Integer> spliterator = WeightedSpliterator.of(Arrays.asList(-5, 0, 1, 3), i -> i);
+		assertEquals(6, spliterator.estimateCost());
+	}
+	
+	@Test
+	public void testCopyIsIndependent() {
+		List<Integer> elements = range(10);
+		WeightedSpliterator<Integer> original = WeightedSpliterator.of(elements, i -> 1);
+		original.tryAdvance(i -> {});
+		WeightedSpliterator<Integer> copy = original.copy();
+		
+		assertEquals(elements.subList(1, 10), toList(copy));
+		assertEquals(0, copy.estimateSize());
+		assertEquals(9, original.estimateSize());
+		assertEquals(elements.subList(1, 10), toList(original.copy()));
+	}
+	
+	@Test
+	public void testWeighsOnBackend() {
+		List<Integer> elements = range(1000);
+		long expected = WeightedSpliterator.of(elements, i -> i % 7).estimateCost();
+		for (String name : new String[] {ExecutionBackend.FORKJOIN, ExecutionBackend.THREADPOOL}) {
+			try (ExecutionBackend backend = ExecutionBackend.create(name, 3)) {
+				WeightedSpliterator<Integer> spliterator = WeightedSpliterator.of(elements, i -> i % 7, backend);
+				assertEquals(name, expected, spliterator.estimateCost());
+				assertEquals(name, elements, toList(spliterator));
+			}
+		}
+	}
+}
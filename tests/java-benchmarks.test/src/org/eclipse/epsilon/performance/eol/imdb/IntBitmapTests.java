@@ -0,0 +1,103 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.Test;
+
+/**
+ * Checks {@link IntBitmap} against a <code>TreeSet</code>, including the
+ * conversion of sparse containers to bitmaps.
+ *
+ * @author Sina Madani
+ */
+public class IntBitmapTests {
+	
+	static List<Integer> toList(IntBitmap bitmap) {
+		List<Integer> values = new ArrayList<>(bitmap.cardinality());
+		bitmap.forEach(values::add);
+		return values;
+	}
+	
+	@Test
+	public void testAddReportsNewValues() {
+		IntBitmap bitmap = new IntBitmap();
+		assertTrue(bitmap.add(7));
+		assertFalse(bitmap.add(7));
+		assertTrue(bitmap.add(1 << 20));
+		assertEquals(2, bitmap.cardinality());
+		assertTrue(bitmap.contains(7));
+		assertTrue(bitmap.contains(1 << 20));
+		assertFalse(bitmap.contains(8));
+		assertFalse(bitmap.contains((1 << 20) + 7));
+	}
+	
+	@Test
+	public void testIteratesInAscendingOrder() {
+		IntBitmap bitmap = new IntBitmap();
+		TreeSet<Integer> expected = new TreeSet<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			int value = random.nextInt(1 << 22);
+			assertEquals(expected.add(value), bitmap.add(value));
+		}
+		assertEquals(expected.size(), bitmap.cardinality());
+		assertEquals(new ArrayList<>(expected), toList(bitmap));
+	}
+	
+	@Test
+	public void testDenseContainerKeepsValues() {
+		IntBitmap bitmap = new IntBitmap();
+		// More than ARRAY_MAX values with the same key, added in descending order
+		for (int value = 3 * IntBitmap.ARRAY_MAX; value > 0; value -= 2) {
+			bitmap.add(value);
+		}
+		assertEquals(3 * IntBitmap.ARRAY_MAX / 2, bitmap.cardinality());
+		assertFalse(bitmap.add(2));
+		assertTrue(bitmap.contains(3 * IntBitmap.ARRAY_MAX));
+		assertFalse(bitmap.contains(3));
+		
+		List<Integer> values = toList(bitmap);
+		assertEquals(bitmap.cardinality(), values.size());
+		for (int i = 0; i < values.size(); i++) {
+			assertEquals(2 * (i + 1), values.get(i).intValue());
+		}
+	}
+	
+	@Test
+	public void testAnyMatchStopsAtFirstMatch() {
+		IntBitmap bitmap = new IntBitmap();
+		for (int value : new int[] {5, 1 << 17, 3, 1 << 18}) {
+			bitmap.add(value);
+		}
+		List<Integer> tested = new ArrayList<>();
+		assertTrue(bitmap.anyMatch(value -> {
+			tested.add(value);
+			return value > 4;
+		}));
+		assertEquals(2, tested.size());
+		assertFalse(bitmap.anyMatch(value -> value < 0));
+		assertEquals(2, bitmap.count(value -> value >= 1 << 17));
+	}
+	
+	@Test
+	public void testSmallerThanHashSetWhenDense() {
+		IntBitmap bitmap = new IntBitmap();
+		for (int value = 0; value < 50_000; value++) {
+			bitmap.add(value);
+		}
+		assertTrue(bitmap.sizeInBytes() > 0);
+		assertTrue(bitmap.sizeInBytes() < IntBitmap.hashSetSizeInBytes(bitmap.cardinality()));
+	}
+}
@@ -0,0 +1,91 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.performance.eol.imdb;
+
+import static org.junit.Assert.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Checks that {@link IntPairMemo} caches results per ordered pair, evicts the
+ * least recently used entries and keeps its statistics.
+ *
+ * @author Sina Madani
+ */
+public class IntPairMemoTests {
+	
+	@Test
+	public void testComputesOncePerPair() {
+		IntPairMemo memo = new IntPairMemo(100);
+		AtomicInteger calls = new AtomicInteger();
+		IntPairMemo.IntPairPredicate lessThan = (a, b) -> {
+			calls.incrementAndGet();
+			return a < b;
+		};
+		
+		assertTrue(memo.test(1, 2, lessThan));
+		assertTrue(memo.test(1, 2, lessThan));
+		assertEquals(1, calls.get());
+		assertEquals(1, memo.getHits());
+		assertEquals(1, memo.getMisses());
+		assertEquals(0.5, memo.getHitRate(), 0);
+	}
+	
+	@Test
+	public void testArgumentOrderMatters() {
+		IntPairMemo memo = new IntPairMemo(100);
+		IntPairMemo.IntPairPredicate lessThan = (a, b) -> a < b;
+		assertTrue(memo.test(1, 2, lessThan));
+		assertFalse(memo.test(2, 1, lessThan));
+		assertTrue(memo.test(-1, 0, lessThan));
+		assertFalse(memo.test(0, -1, lessThan));
+		assertEquals(4, memo.getMisses());
+		assertEquals(4, memo.size());
+	}
+	
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		IntPairMemo memo = new IntPairMemo(2, 1);
+		AtomicInteger calls = new AtomicInteger();
+		IntPairMemo.IntPairPredicate function = (a, b) -> {
+			calls.incrementAndGet();
+			return true;
+		};
+		
+		memo.test(1, 1, function);
+		memo.test(2, 2, function);
+		memo.test(1, 1, function);
+		memo.test(3, 3, function);
+		assertEquals(2, memo.size());
+		assertEquals(1, memo.getEvictions());
+		assertEquals(3, calls.get());
+		
+		// (1, 1) was used more recently than (2, 2), so only the latter needs recomputing
+		memo.test(1, 1, function);
+		assertEquals(3, calls.get());
+		memo.test(2, 2, function);
+		assertEquals(4, calls.get());
+	}
+	
+	@Test
+	public void testClearResetsEntriesAndStatistics() {
+		IntPairMemo memo = new IntPairMemo(1, 1);
+		IntPairMemo.IntPairPredicate function = (a, b) -> a == b;
+		memo.test(1, 1, function);
+		memo.test(1, 1, function);
+		memo.test(2, 2, function);
+		memo.clear();
+		assertEquals(0, memo.size());
+		assertEquals(0, memo.getHits());
+		assertEquals(0, memo.getMisses());
+		assertEquals(0, memo.getEvictions());
+		assertEquals(0, memo.getHitRate(), 0);
+	}
+}
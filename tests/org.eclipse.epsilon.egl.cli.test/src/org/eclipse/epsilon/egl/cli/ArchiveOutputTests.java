@@ -0,0 +1,109 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes archives with {@link ArchiveOutput} and reads them back with {@link ArchiveReader}.
+ *
+ * @author Sina Madani
+ */
+public class ArchiveOutputTests {
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	static final Map<String, String> ENTRIES = new LinkedHashMap<>();
+	static {
+		ENTRIES.put("b.txt", "second letter");
+		ENTRIES.put("sub/dir/a.txt", "h\u00e9llo \u20ac");
+		ENTRIES.put("empty.txt", "");
+	}
+	
+	Path base() {
+		return folder.getRoot().toPath().resolve("out");
+	}
+	
+	void writeEntries(ArchiveOutput output) throws IOException {
+		for (Map.Entry<String, String> entry : ENTRIES.entrySet()) {
+			long bytes = output.write(base().resolve(entry.getKey()), entry.getValue());
+			assertEquals(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8).length, bytes);
+		}
+		assertTrue(output.exists(base().resolve("sub/dir/a.txt")));
+		assertFalse(output.exists(base().resolve("a.txt")));
+		output.close();
+	}
+	
+	void assertRoundTrip(Path archive) throws IOException {
+		try (ArchiveReader reader = ArchiveReader.open(archive)) {
+			assertEquals(Arrays.asList(ENTRIES.keySet().toArray()), reader.list());
+			for (Map.Entry<String, String> entry : ENTRIES.entrySet()) {
+				assertEquals(entry.getValue(), reader.read(entry.getKey()));
+			}
+			assertNull(reader.read("missing.txt"));
+			
+			Path extracted = folder.newFolder("extracted").toPath();
+			assertEquals(ENTRIES.size(), reader.extractAll(extracted));
+			for (Map.Entry<String, String> entry : ENTRIES.entrySet()) {
+				assertEquals(entry.getValue(), new String(Files.readAllBytes(extracted.resolve(entry.getKey())), StandardCharsets.UTF_8));
+			}
+		}
+	}
+	
+	@Test
+	public void testZipRoundTrip() throws IOException {
+		Path archive = folder.getRoot().toPath().resolve("output.zip");
+		writeEntries(new ArchiveOutput.Zip(archive, base()));
+		assertFalse(ArchiveReader.isPack(archive));
+		assertRoundTrip(archive);
+	}
+	
+	@Test
+	public void testPackRoundTrip() throws IOException {
+		Path archive = folder.getRoot().toPath().resolve("output.pack");
+		writeEntries(new ArchiveOutput.Pack(archive, base()));
+		assertTrue(ArchiveReader.isPack(archive));
+		assertRoundTrip(archive);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testZipRejectsDuplicateEntry() throws IOException {
+		try (ArchiveOutput output = new ArchiveOutput.Zip(folder.getRoot().toPath().resolve("output.zip"), base())) {
+			output.write(base().resolve("a.txt"), "first");
+			output.write(base().resolve("a.txt"), "second");
+		}
+	}
+	
+	@Test
+	public void testPackRewriteReplacesEntry() throws IOException {
+		Path archive = folder.getRoot().toPath().resolve("output.pack");
+		try (ArchiveOutput output = new ArchiveOutput.Pack(archive, base())) {
+			output.write(base().resolve("a.txt"), "first");
+			output.write(base().resolve("b.txt"), "other");
+			output.write(base().resolve("a.txt"), "second");
+		}
+		try (ArchiveReader reader = ArchiveReader.open(archive)) {
+			assertEquals(Arrays.asList("a.txt", "b.txt"), reader.list());
+			assertEquals("second", reader.read("a.txt"));
+			assertEquals("other", reader.read("b.txt"));
+		}
+	}
+}
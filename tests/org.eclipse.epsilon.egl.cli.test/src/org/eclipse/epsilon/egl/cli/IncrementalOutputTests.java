@@ -0,0 +1,146 @@
+/*********************************************************************
+ * Copyright (c) 2020 The University of York.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+**********************************************************************/
+package org.eclipse.epsilon.egl.cli;
+
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks the index written by {@link IncrementalOutput} and that unchanged targets
+ * aren't written again in the next run.
+ *
+ * @author Sina Madani
+ */
+public class IncrementalOutputTests {
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	/**
+	 * Records the targets written, without writing them.
+	 */
+	static class RecordingOutput implements GenerationOutput {
+		final List<Path> written = new ArrayList<>();
+		
+		@Override
+		public synchronized long write(Path target, String contents) {
+			written.add(target);
+			return contents.getBytes(StandardCharsets.UTF_8).length;
+		}
+		
+		@Override
+		public boolean exists(Path target) {
+			return false;
+		}
+		
+		@Override
+		public void close() {}
+	}
+	
+	Path base() {
+		return folder.getRoot().toPath().resolve("out");
+	}
+	
+	Path index() {
+		return folder.getRoot().toPath().resolve(IncrementalOutput.DEFAULT_INDEX);
+	}
+	
+	static String hash(String contents) {
+		return IncrementalOutput.hash(contents.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	IncrementalOutput firstRun() throws IOException {
+		IncrementalOutput output = new IncrementalOutput(index(), base(), null, 0);
+		assertEquals(5, output.write(base().resolve("a.txt"), "first"));
+		assertEquals(6, output.write(base().resolve("sub/b.txt"), "second", "inputs"));
+		output.close();
+		return output;
+	}
+	
+	@Test
+	public void testIndexFormat() throws IOException {
+		IncrementalOutput output = firstRun();
+		assertEquals(2, output.getWritten());
+		assertEquals("first", new String(Files.readAllBytes(base().resolve("a.txt")), StandardCharsets.UTF_8));
+		
+		byte[] index = Files.readAllBytes(index());
+		assertEquals('\n', index[index.length - 1]);
+		assertEquals(
+			new HashSet<>(Arrays.asList(
+				"a.txt\t"+hash("first")+"\t",
+				"sub/b.txt\t"+hash("second")+"\tinputs"
+			)),
+			new HashSet<>(Files.readAllLines(index(), StandardCharsets.UTF_8))
+		);
+	}
+	
+	@Test
+	public void testUnchangedTargetsAreNotWritten() throws IOException {
+		firstRun();
+		RecordingOutput delegate = new RecordingOutput();
+		IncrementalOutput output = new IncrementalOutput(index(), base(), delegate, 0);
+		long unchanged = output.write(base().resolve("a.txt"), "first", null);
+		assertTrue(unchanged < 0);
+		assertEquals(5, ~unchanged);
+		assertEquals(7, output.write(base().resolve("sub/b.txt"), "changed"));
+		output.close();
+		
+		assertEquals(Arrays.asList(base().resolve("sub/b.txt")), delegate.written);
+		assertEquals(1, output.getWritten());
+		assertEquals(1, output.getUnchanged());
+		assertEquals(
+			new HashSet<>(Arrays.asList(
+				"a.txt\t"+hash("first")+"\t",
+				"sub/b.txt\t"+hash("changed")+"\t"
+			)),
+			new HashSet<>(Files.readAllLines(index(), StandardCharsets.UTF_8))
+		);
+	}
+	
+	@Test
+	public void testUpToDateWithSameInputs() throws IOException {
+		firstRun();
+		IncrementalOutput output = new IncrementalOutput(index(), base(), null, 0);
+		assertFalse(output.isUpToDate(base().resolve("sub/b.txt"), null));
+		assertFalse(output.isUpToDate(base().resolve("sub/b.txt"), "other inputs"));
+		assertFalse(output.isUpToDate(base().resolve("a.txt"), ""));
+		assertTrue(output.isUpToDate(base().resolve("sub/b.txt"), "inputs"));
+		assertEquals(1, output.getEvaluationsSkipped());
+		output.close();
+		
+		// Targets which were skipped stay in the index, and the others are dropped
+		assertEquals(
+			Arrays.asList("sub/b.txt\t"+hash("second")+"\tinputs"),
+			Files.readAllLines(index(), StandardCharsets.UTF_8)
+		);
+	}
+	
+	@Test
+	public void testDeletedTargetIsRegenerated() throws IOException {
+		firstRun();
+		Files.delete(base().resolve("sub/b.txt"));
+		IncrementalOutput output = new IncrementalOutput(index(), base(), null, 0);
+		assertFalse(output.isUpToDate(base().resolve("sub/b.txt"), "inputs"));
+		assertEquals(6, output.write(base().resolve("sub/b.txt"), "second", "inputs"));
+		output.close();
+		assertEquals(1, output.getWritten());
+		assertTrue(Files.exists(base().resolve("sub/b.txt")));
+	}
+}